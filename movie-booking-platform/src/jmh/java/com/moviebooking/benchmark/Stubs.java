@@ -0,0 +1,83 @@
+package com.moviebooking.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for the Spring context, so benchmarks measure the service code
+ * rather than H2 and JPA
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * A repository answering only the named methods (by name, from their arguments);
+     * any other call fails so a benchmark never silently measures a null result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString" -> {
+                    return type.getSimpleName() + " stub";
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                default -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args == null ? new Object[0] : args);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs callbacks without a transaction
+     */
+    public static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        });
+    }
+
+    /**
+     * Logback defaults to DEBUG on the console without Spring Boot's configuration;
+     * raise it so the per-request log lines are level checks, not console writes
+     */
+    public static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+}
@@ -0,0 +1,70 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.service.PricingService.PricingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The long-paise OfferPipeline kernel against the double pipeline it replaced
+ * (DoubleOfferPipeline, from the test sources), on the same baskets and default offers
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OfferPipelineBenchmark {
+
+    @Param({"1", "3", "10"})
+    int seatCount;
+
+    @Param({"10:00", "14:00"})
+    String startTime;
+
+    private OfferPipeline pipeline;
+    private DoubleOfferPipeline doublePipeline;
+    private long[] pricesPaise;
+    private double[] pricesRupees;
+    private SeatCategory[] categories;
+
+    @Setup
+    public void setUp() {
+        Stubs.quietLogging();
+        pipeline = PricingFixtures.defaultOfferRuleEngine().pipelineFor(new PricingContext(1L, LocalTime.parse(startTime)));
+        doublePipeline = new DoubleOfferPipeline(pipeline);
+        pricesPaise = new long[seatCount];
+        pricesRupees = new double[seatCount];
+        categories = new SeatCategory[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            boolean premium = i % 3 == 2;
+            pricesPaise[i] = premium ? 35_050 : 20_025;
+            pricesRupees[i] = Paise.toRupees(pricesPaise[i]);
+            categories[i] = premium ? SeatCategory.PREMIUM : SeatCategory.REGULAR;
+        }
+    }
+
+    @Benchmark
+    public PricingResult paiseKernel() {
+        return pipeline.price(pricesPaise, categories, seatCount);
+    }
+
+    @Benchmark
+    public PricingResult doublePath() {
+        return doublePipeline.price(pricesRupees, categories);
+    }
+}
@@ -0,0 +1,39 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.repository.OfferRuleRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offer rule engine compiled from the default app.offers.* rules, without a database
+ */
+public final class PricingFixtures {
+
+    private PricingFixtures() {
+    }
+
+    /**
+     * The engine as it is after a first start: seeded with the default rules and compiled
+     */
+    public static OfferRuleEngine defaultOfferRuleEngine() {
+        List<OfferRule> rules = new ArrayList<>();
+        OfferRuleRepository repository = Stubs.repository(OfferRuleRepository.class, Map.of(
+                "count", args -> (long) rules.size(),
+                "saveAll", args -> {
+                    ((Iterable<?>) args[0]).forEach(rule -> rules.add((OfferRule) rule));
+                    return rules;
+                },
+                "findByActiveTrueOrderByPriorityAscIdAsc", args -> rules.stream()
+                        .filter(OfferRule::isActive)
+                        .sorted(Comparator.comparing(OfferRule::getPriority))
+                        .toList()));
+        OfferRuleEngine engine = new OfferRuleEngine(repository, Stubs.transactionTemplate(), 50, 20, 12, 17);
+        engine.init();
+        return engine;
+    }
+}
@@ -0,0 +1,217 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.dto.projection.CategoryPriceView;
+import com.moviebooking.dto.projection.SeatCategoryView;
+import com.moviebooking.dto.projection.ShowCategoryCountView;
+import com.moviebooking.dto.projection.ShowHeaderView;
+import com.moviebooking.dto.projection.ShowPriceVersionView;
+import com.moviebooking.dto.projection.ShowPricingView;
+import com.moviebooking.dto.projection.ShowSeatView;
+import com.moviebooking.dto.projection.ShowTimingView;
+import com.moviebooking.entity.City;
+import com.moviebooking.entity.Movie;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.enums.ShowStatus;
+import com.moviebooking.pricing.OfferCatalogue;
+import com.moviebooking.pricing.PricingFixtures;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.repository.CityRepository;
+import com.moviebooking.repository.MovieRepository;
+import com.moviebooking.repository.SeatRepository;
+import com.moviebooking.repository.ShowCategoryPriceRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatPriceOverrideRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * One city's shows of one movie, with seat maps, served by in-memory repositories
+ *
+ * Screens have 20 seats per row: the last row VIP, the two before it Premium, the rest
+ * Regular, priced 200 / 350 / 500. About a third of the seats are booked, at random
+ * but with a fixed seed so every run sees the same layout.
+ */
+final class BenchmarkShows {
+
+    static final long MOVIE_ID = 1L;
+    static final String CITY = "Mumbai";
+    static final LocalDate DATE = LocalDate.of(2026, 1, 31);
+
+    private static final int SEATS_PER_ROW = 20;
+    private static final double BOOKED_SHARE = 0.35;
+    private static final LocalTime[] START_TIMES = {
+        LocalTime.of(9, 30), LocalTime.of(12, 15), LocalTime.of(14, 45),
+        LocalTime.of(17, 30), LocalTime.of(20, 0), LocalTime.of(22, 45)
+    };
+
+    private final List<ShowTimingView> timings = new ArrayList<>();
+    private final Map<Long, ShowPricingView> pricing = new HashMap<>();
+    private final Map<Long, List<ShowSeatView>> seats = new HashMap<>();
+    private final Map<Long, List<SeatCategoryView>> layouts = new HashMap<>();
+    private final Map<Long, List<ShowCategoryCountView>> availableByCategory = new HashMap<>();
+
+    /**
+     * @param showsPerTheatre at most six, one per start time
+     */
+    BenchmarkShows(int theatreCount, int showsPerTheatre, int seatsPerShow) {
+        Random random = new Random(42);
+        long showId = 1;
+        for (int theatre = 1; theatre <= theatreCount; theatre++) {
+            long screenId = theatre;
+            layouts.put(screenId, layout(screenId, seatsPerShow));
+            for (int show = 0; show < showsPerTheatre; show++, showId++) {
+                LocalTime startTime = START_TIMES[show];
+                List<ShowSeatView> showSeats = seats(showId, layouts.get(screenId), random);
+                int available = (int) showSeats.stream().filter(seat -> seat.status() == SeatStatus.AVAILABLE).count();
+                timings.add(new ShowTimingView(showId, (long) theatre, String.format("Theatre %03d", theatre),
+                        "Street " + theatre, startTime, startTime.plusMinutes(150), "Screen 1", "IMAX 2D",
+                        available, ShowStatus.OPEN_FOR_BOOKING));
+                pricing.put(showId, new ShowPricingView(showId, (long) theatre, screenId, startTime, 0));
+                seats.put(showId, showSeats);
+                availableByCategory.put(showId, countAvailableByCategory(showId, showSeats));
+            }
+        }
+        // As the browse query orders them
+        timings.sort(Comparator.comparing(ShowTimingView::theatreName).thenComparing(ShowTimingView::startTime));
+    }
+
+    ShowBrowsingServiceImpl showBrowsingService() {
+        ShowRepository showRepository = showRepository();
+        ShowPriceCache showPriceCache = new ShowPriceCache(showRepository, categoryPriceRepository(),
+                overrideRepository(), seatRepository(), 10_000, 2_000, 10);
+        return new ShowBrowsingServiceImpl(movieRepository(), cityRepository(), showRepository, showSeatRepository(),
+                showPriceCache, new OfferCatalogue(PricingFixtures.defaultOfferRuleEngine()));
+    }
+
+    long firstShowId() {
+        return timings.get(0).showId();
+    }
+
+    private static List<SeatCategoryView> layout(long screenId, int seatCount) {
+        int rows = (seatCount + SEATS_PER_ROW - 1) / SEATS_PER_ROW;
+        List<SeatCategoryView> layout = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            int row = i / SEATS_PER_ROW;
+            SeatCategory category = row == rows - 1 ? SeatCategory.VIP
+                    : row >= rows - 3 ? SeatCategory.PREMIUM : SeatCategory.REGULAR;
+            layout.add(new SeatCategoryView(screenId * 10_000 + i, category,
+                    String.valueOf((char) ('A' + row)), i % SEATS_PER_ROW + 1));
+        }
+        return layout;
+    }
+
+    private static List<ShowSeatView> seats(long showId, List<SeatCategoryView> layout, Random random) {
+        List<ShowSeatView> showSeats = new ArrayList<>(layout.size());
+        for (SeatCategoryView seat : layout) {
+            SeatStatus status = random.nextDouble() < BOOKED_SHARE ? SeatStatus.BOOKED : SeatStatus.AVAILABLE;
+            showSeats.add(new ShowSeatView(showId * 10_000 + seat.seatId() % 10_000, seat.seatId(),
+                    seat.rowNumber(), seat.seatNumber(), seat.category(), status));
+        }
+        return showSeats;
+    }
+
+    private static double price(SeatCategory category) {
+        return switch (category) {
+            case REGULAR -> 200.0;
+            case PREMIUM -> 350.0;
+            case VIP -> 500.0;
+        };
+    }
+
+    private MovieRepository movieRepository() {
+        Movie movie = Movie.builder()
+                .title("Benchmark")
+                .language("English")
+                .genre("Drama")
+                .durationMinutes(150)
+                .rating("UA")
+                .build();
+        movie.setId(MOVIE_ID);
+        return Stubs.repository(MovieRepository.class, Map.of("findById", args -> Optional.of(movie)));
+    }
+
+    private CityRepository cityRepository() {
+        City city = City.builder().name(CITY).build();
+        city.setId(1L);
+        return Stubs.repository(CityRepository.class, Map.of("findByNameIgnoreCase", args -> Optional.of(city)));
+    }
+
+    private ShowRepository showRepository() {
+        return Stubs.repository(ShowRepository.class, Map.of(
+                "findShowTimingsByMovieAndCityAndDate", args -> timings,
+                "findShowHeaderById", args -> Optional.ofNullable(pricing.get((Long) args[0]))
+                        .map(show -> new ShowHeaderView(show.showId(), "Benchmark", "Theatre " + show.theatreId(),
+                                "Screen 1", DATE, show.startTime())),
+                "findShowPricingByIds", args -> select((Collection<?>) args[0], pricing),
+                "findPriceVersionsByIds", args -> select((Collection<?>) args[0], pricing).stream()
+                        .map(show -> new ShowPriceVersionView(show.showId(), show.priceVersion()))
+                        .toList()));
+    }
+
+    private ShowSeatRepository showSeatRepository() {
+        return Stubs.repository(ShowSeatRepository.class, Map.of(
+                "findSeatViewsByShowId", args -> seats.getOrDefault((Long) args[0], List.of()),
+                "countAvailableByCategory", args -> ((Collection<?>) args[0]).stream()
+                        .flatMap(showId -> availableByCategory.getOrDefault((Long) showId, List.of()).stream())
+                        .toList()));
+    }
+
+    private ShowCategoryPriceRepository categoryPriceRepository() {
+        return Stubs.repository(ShowCategoryPriceRepository.class, Map.of(
+                "findPriceViewsByShowIds", args -> select((Collection<?>) args[0], pricing).stream()
+                        .flatMap(show -> Arrays.stream(SeatCategory.values())
+                                .map(category -> new CategoryPriceView(show.showId(), category,
+                                        price(category), price(category))))
+                        .toList()));
+    }
+
+    private ShowSeatPriceOverrideRepository overrideRepository() {
+        return Stubs.repository(ShowSeatPriceOverrideRepository.class, Map.of(
+                "findViewsByShowIds", args -> List.of()));
+    }
+
+    private SeatRepository seatRepository() {
+        return Stubs.repository(SeatRepository.class, Map.of(
+                "findCategoryViewsByScreenId", args -> layouts.getOrDefault((Long) args[0], List.of())));
+    }
+
+    private static List<ShowCategoryCountView> countAvailableByCategory(long showId, List<ShowSeatView> showSeats) {
+        long[] available = new long[SeatCategory.values().length];
+        for (ShowSeatView seat : showSeats) {
+            if (seat.status() == SeatStatus.AVAILABLE) {
+                available[seat.category().ordinal()]++;
+            }
+        }
+        List<ShowCategoryCountView> counts = new ArrayList<>();
+        for (SeatCategory category : SeatCategory.values()) {
+            if (available[category.ordinal()] > 0) {
+                counts.add(new ShowCategoryCountView(showId, category, available[category.ordinal()]));
+            }
+        }
+        return counts;
+    }
+
+    private static <V> List<V> select(Collection<?> ids, Map<Long, V> values) {
+        List<V> selected = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            V value = values.get((Long) id);
+            if (value != null) {
+                selected.add(value);
+            }
+        }
+        return selected;
+    }
+}
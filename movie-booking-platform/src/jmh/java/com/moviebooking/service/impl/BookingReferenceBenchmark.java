@@ -0,0 +1,35 @@
+package com.moviebooking.service.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingServiceImpl.generateBookingReference, alone and from concurrent bookings
+ * (the random suffix draws from a shared SecureRandom)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookingReferenceBenchmark {
+
+    @Benchmark
+    public String generateBookingReference() {
+        return BookingServiceImpl.generateBookingReference();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateBookingReferenceContended() {
+        return BookingServiceImpl.generateBookingReference();
+    }
+}
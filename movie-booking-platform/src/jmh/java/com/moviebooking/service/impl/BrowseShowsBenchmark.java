@@ -0,0 +1,52 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.dto.request.BrowseShowsRequest;
+import com.moviebooking.dto.response.BrowseShowsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShowBrowsingServiceImpl.browseShows grouping and sorting by city size (six shows per
+ * theatre), with starting prices from cached price tables
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BrowseShowsBenchmark {
+
+    private static final int SHOWS_PER_THEATRE = 6;
+    private static final int SEATS_PER_SHOW = 200;
+
+    @Param({"10", "50", "200"})
+    int theatreCount;
+
+    private ShowBrowsingServiceImpl showBrowsingService;
+    private BrowseShowsRequest request;
+
+    @Setup
+    public void setUp() {
+        Stubs.quietLogging();
+        showBrowsingService = new BenchmarkShows(theatreCount, SHOWS_PER_THEATRE, SEATS_PER_SHOW).showBrowsingService();
+        request = new BrowseShowsRequest(BenchmarkShows.MOVIE_ID, BenchmarkShows.CITY, BenchmarkShows.DATE);
+    }
+
+    @Benchmark
+    public BrowseShowsResponse browseShows() {
+        return showBrowsingService.browseShows(request);
+    }
+}
@@ -0,0 +1,66 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.pricing.PricingContext;
+import com.moviebooking.pricing.PricingFixtures;
+import com.moviebooking.service.PricingService.PricingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PricingServiceImpl.calculatePricing with the default offers, by number of seats
+ *
+ * A morning show only qualifies for the third-ticket offer; an afternoon show gets both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PricingBenchmark {
+
+    @Param({"1", "2", "3", "6", "10"})
+    int seatCount;
+
+    @Param({"10:00", "14:00"})
+    String startTime;
+
+    private PricingServiceImpl pricingService;
+    private PricingContext context;
+    private long[] pricesPaise;
+    private SeatCategory[] categories;
+
+    @Setup
+    public void setUp() {
+        Stubs.quietLogging();
+        // No promo code is benchmarked, so the registry is never used
+        pricingService = new PricingServiceImpl(PricingFixtures.defaultOfferRuleEngine(), null);
+        context = new PricingContext(1L, LocalTime.parse(startTime));
+        pricesPaise = new long[seatCount];
+        categories = new SeatCategory[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            boolean premium = i % 3 == 2;
+            pricesPaise[i] = premium ? 35_000 : 20_000;
+            categories[i] = premium ? SeatCategory.PREMIUM : SeatCategory.REGULAR;
+        }
+    }
+
+    @Benchmark
+    public PricingResult calculatePricing() {
+        return pricingService.calculatePricing(context, pricesPaise, categories);
+    }
+}
@@ -0,0 +1,51 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.benchmark.Stubs;
+import com.moviebooking.dto.response.ShowSeatsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShowBrowsingServiceImpl.getShowSeats response assembly by screen size
+ *
+ * The seat rows come from an in-memory repository and the price table is cached after the
+ * first call, as it is for a busy show, so this measures grouping, pricing and DTO building.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShowSeatsBenchmark {
+
+    @Param({"50", "100", "200", "400"})
+    int seatCount;
+
+    private ShowBrowsingServiceImpl showBrowsingService;
+    private Long showId;
+
+    @Setup
+    public void setUp() {
+        Stubs.quietLogging();
+        BenchmarkShows shows = new BenchmarkShows(1, 1, seatCount);
+        showBrowsingService = shows.showBrowsingService();
+        showId = shows.firstShowId();
+    }
+
+    @Benchmark
+    public ShowSeatsResponse getShowSeats() {
+        return showBrowsingService.getShowSeats(showId);
+    }
+}
@@ -0,0 +1,488 @@
+package com.moviebooking.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.MovieBookingApplication;
+import com.moviebooking.dto.response.LockContentionStatsResponse;
+import com.moviebooking.resilience.LockContentionTracker;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Opening-night contention load test
+ *
+ * Boots the application in-process against its in-memory H2 database, then fires concurrent
+ * bookings for overlapping seats of one show, interleaved with seat-map polls. Afterwards it
+ * reports throughput, latency percentiles and outcome rates, and checks the database: no seat
+ * sold twice, and the show's availableSeats equal to its AVAILABLE seat rows. The process
+ * exits non-zero when a check fails.
+ *
+ * Runs a matrix of execution modes (loadtest.modes: platform-threads, virtual-threads) by
+ * client counts (loadtest.concurrency, comma-separated), each cell against a freshly booted
+ * application, and ends with a side-by-side report of the cells. The virtual-threads mode
+ * activates that profile, which needs a Java 21+ runtime; on older runtimes those cells are skipped.
+ *
+ * Every argument is passed to the application, so booking-path strategies are compared by
+ * their usual properties (e.g. --app.journal.enabled=true
+ * --app.inventory.event-sourced.enabled=true). The load itself is shaped by loadtest.*:
+ * show-id, bookings, seat-map-polls, max-seats-per-booking and seed.
+ */
+public final class OpeningNightLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+    private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final LockContentionTracker lockContentionTracker;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private final long showId;
+    private final int bookings;
+    private final int seatMapPolls;
+    private final int concurrency;
+    private final int maxSeatsPerBooking;
+    private final long seed;
+
+    private final LongAdder booked = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder unavailable = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final Map<Integer, LongAdder> failures = new ConcurrentSkipListMap<>(); // by status, -1 = no response
+    private final Map<Long, String> soldSeats = new ConcurrentHashMap<>();
+    private final List<String> doubleSold = Collections.synchronizedList(new ArrayList<>());
+
+    private OpeningNightLoadTest(ConfigurableApplicationContext context, int concurrency) {
+        Environment env = context.getEnvironment();
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.lockContentionTracker = context.getBean(LockContentionTracker.class);
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.showId = env.getProperty("loadtest.show-id", Long.class, 14L); // first show of tomorrow
+        this.bookings = env.getProperty("loadtest.bookings", Integer.class, 5000);
+        this.seatMapPolls = env.getProperty("loadtest.seat-map-polls", Integer.class, 5000);
+        this.concurrency = concurrency;
+        this.maxSeatsPerBooking = env.getProperty("loadtest.max-seats-per-booking", Integer.class, 4);
+        this.seed = env.getProperty("loadtest.seed", Long.class, 42L);
+        this.httpExecutor = Executors.newCachedThreadPool();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dataDirectory = Files.createTempDirectory("loadtest-data");
+        defaultProperty("server.port", "0");
+        defaultProperty("app.rate-limit.enabled", "false");
+        defaultProperty("app.journal.directory", dataDirectory.resolve("journal").toString());
+        defaultProperty("app.inventory.event-sourced.snapshot-directory", dataDirectory.resolve("inventory").toString());
+        // The development log levels would make the console the bottleneck
+        defaultProperty("spring.jpa.show-sql", "false");
+        defaultProperty("logging.level.com.moviebooking", "WARN");
+        defaultProperty("logging.level.org.hibernate.SQL", "WARN");
+        defaultProperty("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+
+        StandardEnvironment settings = new StandardEnvironment();
+        settings.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        String[] modes = settings.getProperty("loadtest.modes", String[].class,
+                new String[] {"platform-threads", VIRTUAL_THREADS_PROFILE});
+        Integer[] concurrencyLevels = settings.getProperty("loadtest.concurrency", Integer[].class, new Integer[] {64});
+
+        int exitCode;
+        try {
+            List<CellResult> results = new ArrayList<>();
+            for (String mode : modes) {
+                if (mode.trim().equals(VIRTUAL_THREADS_PROFILE)
+                        && Runtime.version().feature() < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+                    System.out.printf("%nSkipping the virtual-threads cells: Java %d+ is required, running on %d%n",
+                            VIRTUAL_THREADS_MIN_JAVA_VERSION, Runtime.version().feature());
+                    continue;
+                }
+                for (int concurrency : concurrencyLevels) {
+                    results.add(runCell(mode.trim(), concurrency, args, dataDirectory));
+                }
+            }
+            reportComparison(results);
+            exitCode = results.stream().allMatch(CellResult::passed) ? 0 : 1;
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 2;
+        } finally {
+            deleteRecursively(dataDirectory);
+        }
+        // The HTTP client's threads would otherwise keep the JVM alive
+        System.exit(exitCode);
+    }
+
+    /**
+     * One cell of the matrix against a freshly booted application and an empty data directory
+     */
+    private static CellResult runCell(String mode, int concurrency, String[] args, Path dataDirectory) throws Exception {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(MovieBookingApplication.class);
+        switch (mode) {
+            case "platform-threads" -> { }
+            case VIRTUAL_THREADS_PROFILE -> application.profiles(VIRTUAL_THREADS_PROFILE);
+            default -> throw new IllegalArgumentException("Unknown loadtest.modes entry '" + mode
+                    + "', expected platform-threads or virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            OpeningNightLoadTest loadTest = new OpeningNightLoadTest(context, concurrency);
+            try {
+                return loadTest.run(context.getEnvironment());
+            } finally {
+                loadTest.httpExecutor.shutdownNow();
+            }
+        } finally {
+            deleteRecursively(dataDirectory);
+            Files.createDirectories(dataDirectory);
+        }
+    }
+
+    private CellResult run(Environment env) throws Exception {
+        List<List<Long>> rows = availableSeatsByRow();
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("Show " + showId + " has no available seats to book");
+        }
+        int seatCount = rows.stream().mapToInt(List::size).sum();
+
+        System.out.printf("%nOpening-night load test: show %d (%d seats), %d bookings of 1-%d seats, "
+                        + "%d seat-map polls, %d concurrent clients%n",
+                showId, seatCount, bookings, maxSeatsPerBooking, seatMapPolls, concurrency);
+        String mode = env.getProperty("app.execution.mode");
+        System.out.printf("Execution mode: %s, event-sourced inventory: %s, lock retry attempts: %s%n",
+                mode,
+                env.getProperty("app.inventory.event-sourced.enabled"),
+                env.getProperty("app.booking.lock-retry.max-attempts"));
+
+        Random random = new Random(seed);
+        List<List<Long>> selections = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            selections.add(selection(rows, random));
+        }
+        // true = booking, false = seat-map poll, shuffled so polls overlap the bookings
+        boolean[] schedule = new boolean[bookings + seatMapPolls];
+        Arrays.fill(schedule, 0, bookings, true);
+        for (int i = schedule.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            boolean swap = schedule[i];
+            schedule[i] = schedule[j];
+            schedule[j] = swap;
+        }
+
+        long[] bookingNanos = new long[bookings];
+        long[] pollNanos = new long[seatMapPolls];
+        AtomicInteger nextTask = new AtomicInteger();
+        AtomicInteger nextBooking = new AtomicInteger();
+        AtomicInteger nextPoll = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            clients.execute(() -> {
+                for (int task = nextTask.getAndIncrement(); task < schedule.length; task = nextTask.getAndIncrement()) {
+                    if (schedule[task]) {
+                        int index = nextBooking.getAndIncrement();
+                        bookingNanos[index] = book(index, selections.get(index));
+                    } else {
+                        pollNanos[nextPoll.getAndIncrement()] = pollSeatMap();
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        if (!clients.awaitTermination(1, TimeUnit.HOURS)) {
+            throw new IllegalStateException("Load did not finish within an hour");
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(bookingNanos);
+        Arrays.sort(pollNanos);
+        report(elapsedSeconds, bookingNanos, pollNanos);
+        boolean passed = verify();
+        return new CellResult(mode, concurrency, (bookings + seatMapPolls) / elapsedSeconds,
+                percentile(bookingNanos, 0.50), percentile(bookingNanos, 0.99), percentile(bookingNanos, 0.999),
+                percentile(pollNanos, 0.99), booked.sum(), conflicts.sum(), unavailable.sum(),
+                failures.values().stream().mapToLong(LongAdder::sum).sum(), contentionStats().getDeadlocks(),
+                passed);
+    }
+
+
+    /**
+     * 1..maxSeatsPerBooking adjacent seats of a random row, so concurrent bookings overlap
+     */
+    private List<Long> selection(List<List<Long>> rows, Random random) {
+        List<Long> row = rows.get(random.nextInt(rows.size()));
+        int size = Math.min(row.size(), 1 + random.nextInt(maxSeatsPerBooking));
+        int first = random.nextInt(row.size() - size + 1);
+        return row.subList(first, first + size);
+    }
+
+    private long book(int index, List<Long> seatIds) {
+        String body = "{\"showId\":" + showId
+                + ",\"customerName\":\"Load " + index + "\""
+                + ",\"customerEmail\":\"load" + index + "@example.com\""
+                + ",\"seatIds\":" + seatIds + "}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/bookings"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        long nanos = System.nanoTime() - start;
+
+        int status = response == null ? -1 : response.statusCode();
+        switch (status) {
+            case 201 -> {
+                booked.increment();
+                String reference = bookingReference(response.body());
+                for (Long seatId : seatIds) {
+                    String previous = soldSeats.putIfAbsent(seatId, reference);
+                    if (previous != null) {
+                        doubleSold.add("seat " + seatId + " sold to " + previous + " and " + reference);
+                    }
+                }
+            }
+            case 409 -> conflicts.increment();
+            case 503 -> unavailable.increment();
+            case 429 -> rateLimited.increment();
+            default -> fail(status);
+        }
+        return nanos;
+    }
+
+    private long pollSeatMap() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/shows/" + showId + "/seats"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        if (response == null || response.statusCode() != 200) {
+            fail(response == null ? -1 : response.statusCode());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void fail(int status) {
+        failures.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private List<List<Long>> availableSeatsByRow() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/shows/" + showId + "/seats"))
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seat map of show " + showId + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        List<List<Long>> rows = new ArrayList<>();
+        for (JsonNode row : objectMapper.readTree(response.body()).path("data").path("seatLayout")) {
+            List<Long> seatIds = new ArrayList<>();
+            for (JsonNode seat : row.path("seats")) {
+                if ("Available".equals(seat.path("status").asText())) {
+                    seatIds.add(seat.path("seatId").asLong());
+                }
+            }
+            if (!seatIds.isEmpty()) {
+                rows.add(seatIds);
+            }
+        }
+        return rows;
+    }
+
+    private String bookingReference(String body) {
+        try {
+            return objectMapper.readTree(body).path("data").path("bookingReference").asText();
+        } catch (IOException e) {
+            return "?";
+        }
+    }
+
+    private LockContentionStatsResponse contentionStats() {
+        return lockContentionTracker.getStatistics().stream()
+                .filter(stats -> stats.getShowId().equals(showId))
+                .findFirst()
+                .orElseGet(() -> LockContentionStatsResponse.builder().showId(showId).build());
+    }
+
+    private void report(double elapsedSeconds, long[] bookingNanos, long[] pollNanos) {
+        LockContentionStatsResponse contention = contentionStats();
+
+        System.out.printf("%nElapsed: %.2f s, throughput: %.0f requests/s (%.0f bookings/s)%n",
+                elapsedSeconds, (bookings + seatMapPolls) / elapsedSeconds, bookings / elapsedSeconds);
+        System.out.println(latencyLine("Booking latency ", bookingNanos));
+        System.out.println(latencyLine("Seat-map latency", pollNanos));
+        System.out.printf("Bookings: %d booked (%s), %d conflicts (%s), %d unavailable/503 (%s), "
+                        + "%d rate limited%n",
+                booked.sum(), percent(booked.sum(), bookings),
+                conflicts.sum(), percent(conflicts.sum(), bookings),
+                unavailable.sum(), percent(unavailable.sum(), bookings),
+                rateLimited.sum());
+        System.out.println("Other failures by status (-1 = no response): " + (failures.isEmpty() ? "none" : failures));
+        System.out.printf("Seat locks: %d deadlocks (%s of bookings), %d lock timeouts, %d retries, "
+                        + "%d exhausted retries%n",
+                contention.getDeadlocks(), percent(contention.getDeadlocks(), bookings),
+                contention.getLockTimeouts(), contention.getRetries(), contention.getExhaustedRetries());
+    }
+
+    /**
+     * Checks the database and the successful responses agree and no seat was sold twice
+     */
+    private boolean verify() {
+        List<String> problems = new ArrayList<>(doubleSold);
+
+        Integer availableSeats = jdbcTemplate.queryForObject(
+                "SELECT available_seats FROM shows WHERE id = ?", Integer.class, showId);
+        Integer availableRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM show_seats WHERE show_id = ? AND status = 'AVAILABLE'", Integer.class, showId);
+        if (!availableRows.equals(availableSeats)) {
+            problems.add("shows.available_seats is " + availableSeats + " but " + availableRows
+                    + " show_seats rows are AVAILABLE");
+        }
+
+        Integer bookedRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM show_seats WHERE show_id = ? AND status = 'BOOKED'", Integer.class, showId);
+        Integer confirmedSeats = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(number_of_seats), 0) FROM bookings WHERE show_id = ? AND status = 'CONFIRMED'",
+                Integer.class, showId);
+        if (!bookedRows.equals(confirmedSeats)) {
+            problems.add(bookedRows + " show_seats rows are BOOKED but confirmed bookings hold " + confirmedSeats);
+        }
+        if (bookedRows != soldSeats.size()) {
+            problems.add(bookedRows + " show_seats rows are BOOKED but successful responses sold "
+                    + soldSeats.size() + " seats");
+        }
+
+        // A seat can reference only one booking, so a seat sold twice leaves a booking short of seats
+        List<String> shortBookings = jdbcTemplate.queryForList(
+                "SELECT b.booking_reference FROM bookings b WHERE b.show_id = ? AND b.status = 'CONFIRMED' "
+                        + "AND b.number_of_seats <> (SELECT COUNT(*) FROM show_seats ss WHERE ss.booking_id = b.id)",
+                String.class, showId);
+        for (String reference : shortBookings) {
+            problems.add("booking " + reference + " does not hold all of its seats");
+        }
+
+        Set<String> references = new HashSet<>(soldSeats.values());
+        if (references.size() != booked.sum()) {
+            problems.add(booked.sum() + " bookings succeeded but " + references.size() + " references were returned");
+        }
+
+        System.out.printf("%nVerification: %d seats sold, %d available, show counter %d%n",
+                bookedRows, availableRows, availableSeats);
+        if (problems.isEmpty()) {
+            System.out.println("PASSED: no seat was double-booked and availableSeats matches the AVAILABLE count");
+            return true;
+        }
+        problems.forEach(problem -> System.out.println("FAILED: " + problem));
+        return false;
+    }
+
+    /**
+     * The cells side by side, one row per mode and client count
+     */
+    private static void reportComparison(List<CellResult> results) {
+        System.out.printf("%n%-16s %7s %9s %9s %9s %9s %9s %7s %8s %6s %6s %9s %s%n",
+                "Mode", "Clients", "Req/s", "Book p50", "Book p99", "Book p999", "Map p99",
+                "Booked", "Conflict", "503", "Other", "Deadlocks", "Check");
+        for (CellResult result : results) {
+            System.out.printf("%-16s %7d %9.0f %9.1f %9.1f %9.1f %9.1f %7d %8d %6d %6d %9d %s%n",
+                    result.mode(), result.clients(), result.requestsPerSecond(),
+                    result.bookingP50Millis(), result.bookingP99Millis(), result.bookingP999Millis(),
+                    result.seatMapP99Millis(), result.booked(), result.conflicts(), result.unavailable(),
+                    result.otherFailures(), result.deadlocks(), result.passed() ? "PASSED" : "FAILED");
+        }
+        System.out.println("Latencies in ms; Other = failures without a response or with another status");
+    }
+
+    private static String latencyLine(String label, long[] sorted) {
+        if (sorted.length == 0) {
+            return label + ": no requests";
+        }
+        return String.format("%s: p50 %.1f ms, p99 %.1f ms, p999 %.1f ms, max %.1f ms",
+                label, percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private static String percent(long count, long total) {
+        return String.format("%.1f%%", total == 0 ? 0.0 : 100.0 * count / total);
+    }
+
+    /**
+     * Harness defaults as system properties: above application.yml, below command-line arguments
+     */
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private record CellResult(String mode, int clients, double requestsPerSecond,
+                              double bookingP50Millis, double bookingP99Millis, double bookingP999Millis,
+                              double seatMapP99Millis, long booked, long conflicts, long unavailable,
+                              long otherFailures, long deadlocks, boolean passed) {
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
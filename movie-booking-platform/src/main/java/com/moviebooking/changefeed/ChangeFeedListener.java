@@ -0,0 +1,14 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+
+/**
+ * Receives change-feed entries on every node, including the node that wrote them
+ * 
+ * Delivery is at-least-once in feed order, except that entries whose transaction committed
+ * late are delivered when they become visible; implementations must be idempotent.
+ */
+public interface ChangeFeedListener {
+
+    void onChange(ChangeFeedView change);
+}
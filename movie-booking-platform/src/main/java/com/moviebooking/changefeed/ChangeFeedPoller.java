@@ -0,0 +1,178 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.repository.ChangeFeedRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tails the change_feed table and hands new entries to every ChangeFeedListener
+ * 
+ * Each poll is a primary-key range scan above the high-water mark. Identity values are
+ * assigned at insert but become visible at commit, so a skipped id may still appear: such
+ * gaps are re-checked on every poll until gap-timeout, after which the id is assumed to
+ * belong to a rolled-back transaction. Propagation lag (entry creation to delivery) is
+ * recorded as changefeed.lag.
+ */
+@Component
+@Slf4j
+public class ChangeFeedPoller {
+
+    private static final int GAP_QUERY_CHUNK = 1000;
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final List<ChangeFeedListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration gapTimeout;
+    private final int maxTrackedGaps;
+    private final Duration retention;
+    private final Timer lagTimer;
+    private final Counter expiredGapCounter;
+
+    // Guarded by this
+    private long highWaterMark = -1;
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>(); // id -> first seen (nanos)
+
+    public ChangeFeedPoller(ChangeFeedRepository changeFeedRepository,
+                            List<ChangeFeedListener> listeners,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.change-feed.batch-size:500}") int batchSize,
+                            @Value("${app.change-feed.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                            @Value("${app.change-feed.gap-timeout-millis:10000}") long gapTimeoutMillis,
+                            @Value("${app.change-feed.max-tracked-gaps:10000}") int maxTrackedGaps,
+                            @Value("${app.change-feed.retention-minutes:60}") long retentionMinutes) {
+        this.changeFeedRepository = changeFeedRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMillis);
+        this.maxTrackedGaps = maxTrackedGaps;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.lagTimer = Timer.builder("changefeed.lag")
+                .description("Time from a change being recorded to its delivery on this node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.expiredGapCounter = meterRegistry.counter("changefeed.gaps.expired");
+        Gauge.builder("changefeed.high.water.mark", this, ChangeFeedPoller::getHighWaterMark)
+                .register(meterRegistry);
+        Gauge.builder("changefeed.gaps.pending", this, ChangeFeedPoller::getPendingGapCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start from the current end of the feed; earlier entries describe state this node loads fresh
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        highWaterMark = changeFeedRepository.findMaxId();
+        log.info("Change feed following from id {} with {} listener(s)", highWaterMark, listeners.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.poll-interval-millis:200}")
+    public synchronized void poll() {
+        if (highWaterMark < 0) {
+            return;
+        }
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<ChangeFeedView> batch = changeFeedRepository.findAfter(highWaterMark, PageRequest.of(0, batchSize));
+            for (ChangeFeedView change : batch) {
+                for (long missing = highWaterMark + 1; missing < change.id(); missing++) {
+                    trackGap(missing);
+                }
+                highWaterMark = change.id();
+                deliver(change);
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        recheckGaps();
+    }
+
+    @Scheduled(cron = "${app.change-feed.purge-cron:0 */10 * * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer purged = transactionTemplate.execute(status -> changeFeedRepository.deleteCreatedBefore(cutoff));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} change feed entries", purged);
+        }
+    }
+
+    public synchronized long getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public synchronized int getPendingGapCount() {
+        return pendingGaps.size();
+    }
+
+    private void trackGap(long id) {
+        if (pendingGaps.size() >= maxTrackedGaps) {
+            Iterator<Long> oldest = pendingGaps.keySet().iterator();
+            oldest.next();
+            oldest.remove();
+            expiredGapCounter.increment();
+        }
+        pendingGaps.put(id, System.nanoTime());
+    }
+
+    private void recheckGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        long expiredBefore = System.nanoTime() - gapTimeout.toNanos();
+        Iterator<Map.Entry<Long, Long>> it = pendingGaps.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue() - expiredBefore < 0) {
+                it.remove();
+                expiredGapCounter.increment();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(pendingGaps.keySet());
+        for (int from = 0; from < ids.size(); from += GAP_QUERY_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + GAP_QUERY_CHUNK, ids.size()));
+            for (ChangeFeedView change : changeFeedRepository.findByIds(chunk)) {
+                pendingGaps.remove(change.id());
+                deliver(change);
+            }
+        }
+    }
+
+    private void deliver(ChangeFeedView change) {
+        if (change.createdAt() != null) {
+            Duration lag = Duration.between(change.createdAt(), LocalDateTime.now());
+            lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+        for (ChangeFeedListener listener : listeners) {
+            try {
+                listener.onChange(change);
+            } catch (RuntimeException e) {
+                log.warn("Change feed listener {} failed on {} {}: {}", listener.getClass().getSimpleName(),
+                         change.entityType(), change.entityId(), e.getMessage());
+            }
+        }
+    }
+}
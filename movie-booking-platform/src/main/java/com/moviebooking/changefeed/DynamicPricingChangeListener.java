@@ -0,0 +1,26 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.pricing.DynamicPricingEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks shows whose seats were booked or released on any node for the next dynamic pricing cycle
+ */
+@Component
+@ConditionalOnProperty(name = "app.pricing.dynamic.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DynamicPricingChangeListener implements ChangeFeedListener {
+
+    private final DynamicPricingEngine dynamicPricingEngine;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (change.entityType() == ChangeEntityType.SHOW && change.entityId() != null) {
+            dynamicPricingEngine.showChanged(change.entityId());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.pricing.OfferRuleEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recompiles offer pipelines when rules are changed on any node
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferRuleChangeListener implements ChangeFeedListener {
+
+    private final OfferRuleEngine offerRuleEngine;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (change.entityType() == ChangeEntityType.OFFER) {
+            offerRuleEngine.reload();
+        }
+    }
+}
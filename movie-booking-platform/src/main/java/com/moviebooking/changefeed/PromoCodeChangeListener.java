@@ -0,0 +1,24 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.pricing.PromoCodeRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads a promo code's terms when it is edited on any node
+ */
+@Component
+@RequiredArgsConstructor
+public class PromoCodeChangeListener implements ChangeFeedListener {
+
+    private final PromoCodeRegistry promoCodeRegistry;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (change.entityType() == ChangeEntityType.PROMO && change.entityId() != null) {
+            promoCodeRegistry.refresh(change.entityId());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ReferenceDataType;
+import com.moviebooking.service.ReferenceDataCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops second-level cache entries for reference data changed on any node
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataChangeListener implements ChangeFeedListener {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (!change.entityType().isReferenceData()) {
+            return;
+        }
+        referenceDataCacheService.invalidate(ReferenceDataType.valueOf(change.entityType().name()), change.entityId());
+    }
+}
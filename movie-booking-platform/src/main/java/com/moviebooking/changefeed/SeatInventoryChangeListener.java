@@ -0,0 +1,33 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.inventory.EventSourcedSeatInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes a show's seat inventory from the database when another node changed it
+ * (this node's own changes already reach the inventory through its journal)
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.event-sourced.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SeatInventoryChangeListener implements ChangeFeedListener {
+
+    private final EventSourcedSeatInventory seatInventory;
+
+    @Value("${app.cluster.self-id:node-1}")
+    private String nodeId;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (change.entityType() == ChangeEntityType.SHOW
+                && change.entityId() != null
+                && !nodeId.equals(change.originNode())) {
+            seatInventory.refreshShow(change.entityId());
+        }
+    }
+}
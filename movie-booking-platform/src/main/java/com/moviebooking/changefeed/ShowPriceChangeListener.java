@@ -0,0 +1,24 @@
+package com.moviebooking.changefeed;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.pricing.ShowPriceCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached quote price tables of shows repriced on any node
+ */
+@Component
+@RequiredArgsConstructor
+public class ShowPriceChangeListener implements ChangeFeedListener {
+
+    private final ShowPriceCache showPriceCache;
+
+    @Override
+    public void onChange(ChangeFeedView change) {
+        if (change.entityType() == ChangeEntityType.PRICE && change.entityId() != null) {
+            showPriceCache.evict(change.entityId());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.moviebooking.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.request.ClusterNodeRequest;
+import com.moviebooking.dto.response.ApiResponse;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.BookingTicketResponse;
+import com.moviebooking.dto.response.SeatConflictResponse;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.exception.BookingOverloadedException;
+import com.moviebooking.exception.RateLimitExceededException;
+import com.moviebooking.exception.ResourceNotFoundException;
+import com.moviebooking.exception.SeatNotAvailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+
+/**
+ * HTTP client for node-to-node calls: forwarded bookings, ticket polls and membership propagation
+ * 
+ * Error responses from the owner are rethrown as the same application exceptions the owner
+ * raised, so the client sees identical status codes whichever node it called.
+ * 
+ * A forwarded booking is not idempotent, so it fails over (NodeUnavailableException) only
+ * when the connection was never made: refused or unknown host. A read timeout, a dropped
+ * connection or a 5xx may follow a booking the owner committed, so those return 503 and the
+ * client checks its bookings before retrying.
+ * 
+ * Every call carries app.cluster.shared-secret, which ClusterPeerFilter on the receiving node
+ * checks before it honours the cluster headers.
+ */
+@Component
+@Slf4j
+public class ClusterClient {
+
+    /** Set on forwarded bookings; the receiving node always serves them locally (no second hop) */
+    public static final String FORWARDED_BY_HEADER = "X-Forwarded-By-Node";
+
+    /** Set on propagated membership changes so they are not propagated again */
+    public static final String PROPAGATED_HEADER = "X-Cluster-Propagated";
+
+    /** Carries app.cluster.shared-secret on every node-to-node call */
+    public static final String PEER_SECRET_HEADER = "X-Cluster-Secret";
+
+    /** Request attribute set by ClusterPeerFilter once the caller has proven to be a peer */
+    public static final String PEER_REQUEST_ATTRIBUTE = ClusterClient.class.getName() + ".peer";
+
+    private static final ParameterizedTypeReference<ApiResponse<BookingResponse>> BOOKING_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<ApiResponse<BookingTicketResponse>> TICKET_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String selfId;
+    private final int readTimeoutMillis;
+
+    public ClusterClient(ObjectMapper objectMapper,
+                         @Value("${app.cluster.self-id:node-1}") String selfId,
+                         @Value("${app.cluster.shared-secret:}") String sharedSecret,
+                         @Value("${app.cluster.connect-timeout-millis:500}") int connectTimeoutMillis,
+                         @Value("${app.cluster.read-timeout-millis:5000}") int readTimeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        RestClient.Builder builder = RestClient.builder().requestFactory(requestFactory);
+        if (!sharedSecret.isEmpty()) {
+            builder.defaultHeader(PEER_SECRET_HEADER, sharedSecret);
+        }
+        this.restClient = builder.build();
+        this.objectMapper = objectMapper;
+        this.selfId = selfId;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Whether the current HTTP request was forwarded here by an authenticated peer
+     */
+    public static boolean isForwardedRequest() {
+        return hasPeerHeader(FORWARDED_BY_HEADER);
+    }
+
+    /**
+     * Whether the current HTTP request is a membership change propagated by an authenticated peer
+     */
+    public static boolean isPropagatedRequest() {
+        return hasPeerHeader(PROPAGATED_HEADER);
+    }
+
+    private static boolean hasPeerHeader(String header) {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && Boolean.TRUE.equals(attributes.getRequest().getAttribute(PEER_REQUEST_ATTRIBUTE))
+                && attributes.getRequest().getHeader(header) != null;
+    }
+
+    public BookingResponse forwardBooking(ClusterNode owner, BookTicketRequest request) {
+        try {
+            ApiResponse<BookingResponse> response = restClient.post()
+                    .uri(owner.baseUrl() + "/api/v1/bookings")
+                    .header(FORWARDED_BY_HEADER, selfId)
+                    .body(request)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> rethrowRemoteError(owner, res))
+                    .body(BOOKING_RESPONSE);
+            if (response == null || response.getData() == null) {
+                throw outcomeUnknown(owner, "empty booking response");
+            }
+            return response.getData();
+        } catch (RestClientException e) {
+            // Includes I/O errors surfacing while the response body is read
+            if (isConnectFailure(e)) {
+                throw new NodeUnavailableException("Node " + owner.nodeId() + " unreachable: " + e.getMessage(), e);
+            }
+            throw outcomeUnknown(owner, e.getMessage());
+        }
+    }
+
+    /**
+     * Poll a booking ticket on the node that issued it
+     * 
+     * The remote wait is capped below the read timeout; a ticket still pending after it is
+     * returned as pending and the client polls again.
+     */
+    public BookingTicketResponse fetchTicket(ClusterNode issuer, String ticketId, long waitMillis) {
+        long remoteWaitMillis = Math.min(Math.max(waitMillis, 0), readTimeoutMillis / 2);
+        try {
+            ApiResponse<BookingTicketResponse> response = restClient.get()
+                    .uri(issuer.baseUrl() + "/api/v1/bookings/tickets/{ticketId}?waitMillis={waitMillis}",
+                         ticketId, remoteWaitMillis)
+                    .header(FORWARDED_BY_HEADER, selfId)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> rethrowRemoteError(issuer, res))
+                    .body(TICKET_RESPONSE);
+            if (response == null || response.getData() == null) {
+                throw new NodeUnavailableException("Empty ticket response from node " + issuer.nodeId(), null);
+            }
+            return response.getData();
+        } catch (RestClientException e) {
+            throw new NodeUnavailableException("Node " + issuer.nodeId() + " unreachable: " + e.getMessage(), e);
+        }
+    }
+
+    public void propagateJoin(ClusterNode target, ClusterNode joined) {
+        propagate(() -> restClient.post()
+                .uri(target.baseUrl() + "/api/v1/admin/cluster/nodes")
+                .header(PROPAGATED_HEADER, selfId)
+                .body(new ClusterNodeRequest(joined.nodeId(), joined.baseUrl()))
+                .retrieve()
+                .toBodilessEntity(), target);
+    }
+
+    public void propagateLeave(ClusterNode target, String nodeId) {
+        propagate(() -> restClient.delete()
+                .uri(target.baseUrl() + "/api/v1/admin/cluster/nodes/{nodeId}", nodeId)
+                .header(PROPAGATED_HEADER, selfId)
+                .retrieve()
+                .toBodilessEntity(), target);
+    }
+
+    private void propagate(Runnable call, ClusterNode target) {
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            throw new NodeUnavailableException("Membership change not delivered to node " + target.nodeId(), e);
+        }
+    }
+
+    private void rethrowRemoteError(ClusterNode owner, ClientHttpResponse response) throws IOException {
+        ApiResponse<?> error = readError(response.getBody());
+        String message = error != null ? error.getMessage() : "Request failed on node " + owner.nodeId();
+        long retryAfter = parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        switch (response.getStatusCode().value()) {
+            case 400 -> throw new BookingException(message);
+            case 404 -> throw new ResourceNotFoundException(message);
+            case 409 -> throw new SeatNotAvailableException(message, readConflict(error));
+            case 429 -> throw new RateLimitExceededException(message, retryAfter);
+            case 503 -> throw new BookingOverloadedException(message, retryAfter);
+            default -> {
+                if (response.getStatusCode().is5xxServerError()) {
+                    throw outcomeUnknown(owner, response.getStatusCode().value() + ": " + message);
+                }
+                throw new NodeUnavailableException(
+                    "Node " + owner.nodeId() + " failed with " + response.getStatusCode().value() + ": " + message, null);
+            }
+        }
+    }
+
+    /**
+     * The owner may have committed the request, so it must not be served again elsewhere
+     */
+    private static BookingOverloadedException outcomeUnknown(ClusterNode owner, String detail) {
+        log.warn("No usable response from node {} ({}); not failing over", owner.nodeId(), detail);
+        return new BookingOverloadedException(
+                "The booking could not be confirmed in time. Check your bookings before retrying", 1);
+    }
+
+    /**
+     * Whether the request never reached the peer: connection refused or host not resolvable
+     */
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ApiResponse<?> readError(InputStream body) {
+        try {
+            return objectMapper.readValue(body, ApiResponse.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Keep the owner's taken seats and alternatives when relaying its conflict to the client
+     */
+    private SeatConflictResponse readConflict(ApiResponse<?> error) {
+        if (error == null || error.getData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.convertValue(error.getData(), SeatConflictResponse.class);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long parseRetryAfter(String header) {
+        try {
+            return header == null ? 1 : Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
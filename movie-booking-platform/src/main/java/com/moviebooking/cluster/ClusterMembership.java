@@ -0,0 +1,198 @@
+package com.moviebooking.cluster;
+
+import com.moviebooking.dto.response.ClusterStatusResponse;
+import com.moviebooking.exception.BookingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Current cluster membership and the show-ownership ring derived from it
+ * 
+ * Configured from app.cluster.nodes ("id=baseUrl" entries). With clustering disabled, or no
+ * nodes configured, the ring holds only this node and every show is local. Join and leave
+ * rebuild the ring atomically; readers always see a complete ring. A change made through the
+ * admin API is propagated once to the other members (best effort).
+ */
+@Component
+@Slf4j
+public class ClusterMembership {
+
+    private static final int REBALANCE_SAMPLE = 10_000;
+
+    private final ClusterClient clusterClient;
+    private final boolean enabled;
+    private final ClusterNode self;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+
+    public ClusterMembership(ClusterClient clusterClient,
+                             @Value("${app.cluster.enabled:false}") boolean enabled,
+                             @Value("${app.cluster.shared-secret:}") String sharedSecret,
+                             @Value("${app.cluster.self-id:node-1}") String selfId,
+                             @Value("${app.cluster.self-url:http://localhost:${server.port:8080}}") String selfUrl,
+                             @Value("${app.cluster.nodes:}") List<String> configuredNodes,
+                             @Value("${app.cluster.virtual-nodes:128}") int virtualNodes) {
+        if (enabled && sharedSecret.isBlank()) {
+            throw new IllegalStateException("app.cluster.shared-secret must be set when app.cluster.enabled is true, "
+                    + "so that nodes can tell forwarded requests from client requests");
+        }
+        this.clusterClient = clusterClient;
+        this.enabled = enabled;
+        this.self = new ClusterNode(selfId, selfUrl);
+        this.virtualNodes = virtualNodes;
+
+        Map<String, ClusterNode> members = new LinkedHashMap<>();
+        members.put(self.nodeId(), self);
+        if (enabled) {
+            for (String entry : configuredNodes) {
+                if (entry.isBlank()) {
+                    continue;
+                }
+                String[] parts = entry.trim().split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Cluster node must be 'id=baseUrl': " + entry);
+                }
+                members.putIfAbsent(parts[0].trim(), new ClusterNode(parts[0].trim(), parts[1].trim()));
+            }
+        }
+        this.ring = new ConsistentHashRing(members.values(), virtualNodes);
+        log.info("Cluster {}: node {} of {}", enabled ? "enabled" : "disabled", selfId, members.keySet());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ClusterNode getSelf() {
+        return self;
+    }
+
+    public List<ClusterNode> getNodes() {
+        return ring.getNodes();
+    }
+
+    public ClusterNode ownerOf(long showId) {
+        return ring.ownerOf(showId);
+    }
+
+    public boolean isLocal(long showId) {
+        return !enabled || ring.ownerOf(showId).nodeId().equals(self.nodeId());
+    }
+
+    public ClusterStatusResponse getStatus() {
+        ConsistentHashRing current = ring;
+        Map<String, Integer> owned = new LinkedHashMap<>();
+        for (long id = 1; id <= REBALANCE_SAMPLE; id++) {
+            owned.merge(current.ownerOf(id).nodeId(), 1, Integer::sum);
+        }
+        return ClusterStatusResponse.builder()
+                .enabled(enabled)
+                .selfId(self.nodeId())
+                .nodes(current.getNodes().stream()
+                        .map(node -> ClusterStatusResponse.NodeInfo.builder()
+                                .nodeId(node.nodeId())
+                                .baseUrl(node.baseUrl())
+                                .self(node.nodeId().equals(self.nodeId()))
+                                .ownedSharePercent(owned.getOrDefault(node.nodeId(), 0) * 100.0 / REBALANCE_SAMPLE)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Add (or re-address) a node and rebalance ownership
+     * 
+     * @return true if membership changed
+     */
+    public boolean join(ClusterNode node) {
+        requireEnabled();
+        List<ClusterNode> others;
+        synchronized (this) {
+            if (node.equals(findNode(node.nodeId()))) {
+                return false;
+            }
+            Map<String, ClusterNode> members = currentMembers();
+            members.put(node.nodeId(), node);
+            rebalance(members, "joined", node.nodeId());
+            others = peers();
+        }
+        if (!ClusterClient.isPropagatedRequest()) {
+            others.forEach(peer -> propagate(() -> clusterClient.propagateJoin(peer, node)));
+        }
+        return true;
+    }
+
+    /**
+     * Remove a node and rebalance ownership; this node cannot leave its own ring
+     * 
+     * @return true if membership changed
+     */
+    public boolean leave(String nodeId) {
+        requireEnabled();
+        if (nodeId.equals(self.nodeId())) {
+            throw new BookingException("A node cannot remove itself from its own cluster view");
+        }
+        List<ClusterNode> others;
+        synchronized (this) {
+            Map<String, ClusterNode> members = currentMembers();
+            if (members.remove(nodeId) == null) {
+                return false;
+            }
+            rebalance(members, "left", nodeId);
+            others = peers();
+        }
+        if (!ClusterClient.isPropagatedRequest()) {
+            others.forEach(peer -> propagate(() -> clusterClient.propagateLeave(peer, nodeId)));
+        }
+        return true;
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new BookingException("Clustering is disabled on this node (app.cluster.enabled)");
+        }
+    }
+
+    private List<ClusterNode> peers() {
+        return ring.getNodes().stream().filter(n -> !n.nodeId().equals(self.nodeId())).toList();
+    }
+
+    private void propagate(Runnable call) {
+        try {
+            call.run();
+        } catch (NodeUnavailableException e) {
+            log.warn("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * The member with this id, or null if it is not (or no longer) in the cluster
+     */
+    public ClusterNode findNode(String nodeId) {
+        return ring.getNodes().stream().filter(n -> n.nodeId().equals(nodeId)).findFirst().orElse(null);
+    }
+
+    private Map<String, ClusterNode> currentMembers() {
+        Map<String, ClusterNode> members = new LinkedHashMap<>();
+        ring.getNodes().forEach(n -> members.put(n.nodeId(), n));
+        return members;
+    }
+
+    private void rebalance(Map<String, ClusterNode> members, String change, String nodeId) {
+        ConsistentHashRing previous = ring;
+        ConsistentHashRing next = new ConsistentHashRing(members.values(), virtualNodes);
+        ring = next;
+
+        long moved = IntStream.range(1, REBALANCE_SAMPLE + 1)
+                .filter(id -> !previous.ownerOf(id).nodeId().equals(next.ownerOf(id).nodeId()))
+                .count();
+        log.info("Node {} {} the cluster; members now {}; ~{}% of shows changed owner",
+                 nodeId, change, members.keySet(), moved * 100 / REBALANCE_SAMPLE);
+    }
+}
@@ -0,0 +1,6 @@
+package com.moviebooking.cluster;
+
+/**
+ * A member of the booking cluster: a stable node id and the base URL other nodes forward to
+ */
+public record ClusterNode(String nodeId, String baseUrl) {}
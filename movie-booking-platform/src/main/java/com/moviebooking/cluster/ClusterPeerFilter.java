@@ -0,0 +1,90 @@
+package com.moviebooking.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+
+/**
+ * Authenticates node-to-node requests at the edge
+ * 
+ * A request carrying app.cluster.shared-secret in X-Cluster-Secret is marked as coming from a
+ * peer (ClusterClient.PEER_REQUEST_ATTRIBUTE). From anyone else the cluster headers are
+ * stripped, so a client cannot skip ownership routing, membership propagation or rate limits
+ * by setting X-Forwarded-By-Node itself.
+ */
+@Component
+@Slf4j
+public class ClusterPeerFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CLUSTER_HEADERS = Set.of(
+            ClusterClient.FORWARDED_BY_HEADER.toLowerCase(),
+            ClusterClient.PROPAGATED_HEADER.toLowerCase(),
+            ClusterClient.PEER_SECRET_HEADER.toLowerCase());
+
+    private final byte[] sharedSecret; // empty: no request is accepted as a peer's
+
+    public ClusterPeerFilter(@Value("${app.cluster.shared-secret:}") String sharedSecret) {
+        this.sharedSecret = sharedSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isPeer(request.getHeader(ClusterClient.PEER_SECRET_HEADER))) {
+            request.setAttribute(ClusterClient.PEER_REQUEST_ATTRIBUTE, Boolean.TRUE);
+            chain.doFilter(request, response);
+            return;
+        }
+        if (request.getHeader(ClusterClient.FORWARDED_BY_HEADER) != null
+                || request.getHeader(ClusterClient.PROPAGATED_HEADER) != null) {
+            log.debug("Ignoring cluster headers from unauthenticated {}", request.getRemoteAddr());
+        }
+        chain.doFilter(new WithoutClusterHeaders(request), response);
+    }
+
+    private boolean isPeer(String secret) {
+        return sharedSecret.length > 0 && secret != null
+                && MessageDigest.isEqual(sharedSecret, secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class WithoutClusterHeaders extends HttpServletRequestWrapper {
+
+        WithoutClusterHeaders(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isClusterHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isClusterHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isClusterHeader(name))
+                    .toList());
+        }
+
+        private static boolean isClusterHeader(String name) {
+            return name != null && CLUSTER_HEADERS.contains(name.toLowerCase());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.moviebooking.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring of cluster nodes
+ * 
+ * Each node is placed at virtualNodes points derived from its id, so every node computes
+ * the same ring from the same membership. Adding or removing a node moves only the show
+ * ids between it and its ring neighbours (about 1/n of them).
+ */
+final class ConsistentHashRing {
+
+    private final NavigableMap<Long, ClusterNode> ring;
+    private final List<ClusterNode> nodes;
+
+    ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        TreeMap<Long, ClusterNode> points = new TreeMap<>();
+        for (ClusterNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(pointOf(node.nodeId() + "#" + i), node);
+            }
+        }
+        this.ring = points;
+        this.nodes = List.copyOf(nodes);
+    }
+
+    ClusterNode ownerOf(long showId) {
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(mix(showId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    List<ClusterNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * SplitMix64 finalizer - spreads sequential show ids uniformly over the ring
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long pointOf(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long point = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                point = (point << 8) | (digest[i] & 0xFF);
+            }
+            return point;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.moviebooking.cluster;
+
+/**
+ * Raised when a request never reached a peer node (or the peer rejected it outright)
+ * Booking routing treats it as a signal to serve the request locally
+ */
+public class NodeUnavailableException extends RuntimeException {
+
+    public NodeUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.moviebooking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for asynchronous booking processing
+ * A fixed set of workers drains a bounded queue; submissions beyond the queue
+ * capacity are rejected instead of growing memory or thread count
+ */
+@Configuration
+@EnableScheduling
+public class AsyncBookingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor bookingExecutor(
+            @Value("${app.booking.async.workers:8}") int workers,
+            @Value("${app.booking.async.queue-capacity:1000}") int queueCapacity) {
+
+        return new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("booking-worker-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
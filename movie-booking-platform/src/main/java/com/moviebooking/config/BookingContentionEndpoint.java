@@ -0,0 +1,26 @@
+package com.moviebooking.config;
+
+import com.moviebooking.dto.response.LockContentionStatsResponse;
+import com.moviebooking.resilience.LockContentionTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing per-show seat-lock retry/deadlock counts at /actuator/bookingcontention
+ */
+@Component
+@Endpoint(id = "bookingcontention")
+@RequiredArgsConstructor
+public class BookingContentionEndpoint {
+
+    private final LockContentionTracker lockContentionTracker;
+
+    @ReadOperation
+    public List<LockContentionStatsResponse> bookingContention() {
+        return lockContentionTracker.getStatistics();
+    }
+}
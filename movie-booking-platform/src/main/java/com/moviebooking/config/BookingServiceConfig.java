@@ -0,0 +1,52 @@
+package com.moviebooking.config;
+
+import com.moviebooking.cluster.ClusterClient;
+import com.moviebooking.cluster.ClusterMembership;
+import com.moviebooking.resilience.AdaptiveConcurrencyLimiter;
+import com.moviebooking.resilience.LockContentionTracker;
+import com.moviebooking.service.BookingService;
+import com.moviebooking.service.impl.BookingServiceImpl;
+import com.moviebooking.service.impl.ConcurrencyLimitedBookingService;
+import com.moviebooking.service.impl.RetryingBookingService;
+import com.moviebooking.service.impl.ShowRoutingBookingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the BookingService used by controllers and the async booking workers:
+ * the transactional BookingServiceImpl wrapped in protective decorators
+ * 
+ * Call order: show-ownership routing -> concurrency limit -> lock retry -> BookingServiceImpl
+ * (one transaction per attempt). Forwarded bookings never reach the local limiter.
+ */
+@Configuration
+public class BookingServiceConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter bookingConcurrencyLimiter(
+            @Value("${app.booking.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${app.booking.concurrency.min-limit:4}") int minLimit,
+            @Value("${app.booking.concurrency.max-limit:200}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("booking", initialLimit, minLimit, maxLimit);
+    }
+
+    @Bean
+    @Primary
+    public BookingService bookingService(BookingServiceImpl bookingServiceImpl,
+                                         AdaptiveConcurrencyLimiter bookingConcurrencyLimiter,
+                                         LockContentionTracker lockContentionTracker,
+                                         ClusterMembership clusterMembership,
+                                         ClusterClient clusterClient,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.booking.lock-retry.max-attempts:3}") int maxAttempts,
+                                         @Value("${app.booking.lock-retry.base-backoff-millis:20}") long baseBackoffMillis,
+                                         @Value("${app.booking.lock-retry.max-backoff-millis:200}") long maxBackoffMillis) {
+        BookingService retrying = new RetryingBookingService(
+                bookingServiceImpl, lockContentionTracker, maxAttempts, baseBackoffMillis, maxBackoffMillis);
+        BookingService limited = new ConcurrencyLimitedBookingService(retrying, bookingConcurrencyLimiter);
+        return new ShowRoutingBookingService(limited, clusterMembership, clusterClient, meterRegistry);
+    }
+}
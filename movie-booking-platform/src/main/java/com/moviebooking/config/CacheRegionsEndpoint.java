@@ -0,0 +1,27 @@
+package com.moviebooking.config;
+
+import com.moviebooking.dto.response.CacheRegionStatsResponse;
+import com.moviebooking.service.ReferenceDataCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing per-region cache statistics at /actuator/cacheregions
+ * The same counters are also published as hibernate.second.level.cache.* metrics
+ */
+@Component
+@Endpoint(id = "cacheregions")
+@RequiredArgsConstructor
+public class CacheRegionsEndpoint {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    @ReadOperation
+    public List<CacheRegionStatsResponse> cacheRegions() {
+        return referenceDataCacheService.getRegionStatistics();
+    }
+}
@@ -14,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data initializer to populate sample data for testing
@@ -32,6 +34,8 @@ public class DataInitializer implements CommandLineRunner {
     private final SeatRepository seatRepository;
     private final ShowRepository showRepository;
     private final ShowSeatRepository showSeatRepository;
+    private final ShowCategoryPriceRepository showCategoryPriceRepository;
+    private final ShowSeatPriceOverrideRepository showSeatPriceOverrideRepository;
 
     @Override
     @Transactional
@@ -234,17 +238,40 @@ public class DataInitializer implements CommandLineRunner {
         // Create show seats
         List<Seat> seats = seatRepository.findByScreenIdOrderByRowNumberAscSeatNumberAsc(screen.getId());
         List<ShowSeat> showSeats = new ArrayList<>();
+        Map<SeatCategory, Double> categoryPrices = new EnumMap<>(SeatCategory.class);
+        List<ShowSeatPriceOverride> overrides = new ArrayList<>();
 
         for (Seat seat : seats) {
             ShowSeat showSeat = ShowSeat.builder()
                     .show(show)
                     .seat(seat)
                     .status(SeatStatus.AVAILABLE)
-                    .price(seat.getBasePrice())
                     .build();
             showSeats.add(showSeat);
+            // The first seat of a category sets its price; seats priced differently keep theirs
+            Double categoryPrice = categoryPrices.putIfAbsent(seat.getCategory(), seat.getBasePrice());
+            if (categoryPrice != null && !categoryPrice.equals(seat.getBasePrice())) {
+                overrides.add(ShowSeatPriceOverride.builder()
+                        .show(show)
+                        .seat(seat)
+                        .price(seat.getBasePrice())
+                        .build());
+            }
         }
 
         showSeatRepository.saveAll(showSeats);
+
+        // List prices per seat category
+        List<ShowCategoryPrice> prices = new ArrayList<>();
+        for (Map.Entry<SeatCategory, Double> entry : categoryPrices.entrySet()) {
+            prices.add(ShowCategoryPrice.builder()
+                    .show(show)
+                    .category(entry.getKey())
+                    .basePrice(entry.getValue())
+                    .price(entry.getValue())
+                    .build());
+        }
+        showCategoryPriceRepository.saveAll(prices);
+        showSeatPriceOverrideRepository.saveAll(overrides);
     }
 }
@@ -0,0 +1,52 @@
+package com.moviebooking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Logs the request execution mode and JDBC pool bounds at startup
+ * Fails startup when virtual threads were requested on a runtime that cannot provide them,
+ * rather than silently serving on platform threads
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionModeReporter {
+
+    private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    private final DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    @Value("${app.execution.mode:platform-threads}")
+    private String executionMode;
+
+    @PostConstruct
+    void requireVirtualThreadSupport() {
+        int javaVersion = Runtime.version().feature();
+        if (virtualThreadsRequested && javaVersion < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled is set (virtual-threads profile) but the " +
+                    "runtime is Java " + javaVersion + "; Java " + VIRTUAL_THREADS_MIN_JAVA_VERSION + "+ is required");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportExecutionMode() {
+        log.info("Request execution mode: {} (Java {})", executionMode, Runtime.version().feature());
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            log.info("JDBC pool bounded to {} connections, connection timeout {} ms",
+                     hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+        }
+    }
+}
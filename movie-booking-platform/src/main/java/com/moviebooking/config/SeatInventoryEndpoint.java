@@ -0,0 +1,33 @@
+package com.moviebooking.config;
+
+import com.moviebooking.dto.response.InventoryConsistencyResponse;
+import com.moviebooking.inventory.EventSourcedSeatInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for the event-sourced seat inventory at /actuator/seatinventory
+ * GET compares it with show_seats; POST also rebuilds mismatched shows from the database
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.event-sourced.enabled", havingValue = "true")
+@Endpoint(id = "seatinventory")
+@RequiredArgsConstructor
+public class SeatInventoryEndpoint {
+
+    private final EventSourcedSeatInventory seatInventory;
+
+    @ReadOperation
+    public InventoryConsistencyResponse consistency() {
+        return seatInventory.checkConsistency(false);
+    }
+
+    @WriteOperation
+    public InventoryConsistencyResponse repair() {
+        return seatInventory.checkConsistency(true);
+    }
+}
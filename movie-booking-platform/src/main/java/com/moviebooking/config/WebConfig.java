@@ -0,0 +1,24 @@
+package com.moviebooking.config;
+
+import com.moviebooking.resilience.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Endpoints targeted by scalper bots on hot shows
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/v1/shows/*/seats", "/api/v1/bookings", "/api/v1/bookings/async");
+    }
+}
@@ -0,0 +1,302 @@
+package com.moviebooking.controller;
+
+import com.moviebooking.cluster.ClusterMembership;
+import com.moviebooking.cluster.ClusterNode;
+import com.moviebooking.dto.request.ClusterNodeRequest;
+import com.moviebooking.dto.request.OfferRuleRequest;
+import com.moviebooking.dto.request.PromoCodeRequest;
+import com.moviebooking.dto.request.ShowPriceUpdateRequest;
+import com.moviebooking.dto.response.ApiResponse;
+import com.moviebooking.dto.response.CacheRegionStatsResponse;
+import com.moviebooking.dto.response.ClusterStatusResponse;
+import com.moviebooking.dto.response.OfferRuleResponse;
+import com.moviebooking.dto.response.PromoCodeResponse;
+import com.moviebooking.dto.response.ShowCancellationResponse;
+import com.moviebooking.dto.response.ShowPricesResponse;
+import com.moviebooking.enums.ReferenceDataType;
+import com.moviebooking.service.BookingService;
+import com.moviebooking.service.OfferRuleService;
+import com.moviebooking.service.PromoCodeService;
+import com.moviebooking.service.ReferenceDataCacheService;
+import com.moviebooking.service.ShowPricingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for partner/admin operations (B2B)
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Administration", description = "APIs for theatre partners and platform administrators")
+public class AdminController {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final BookingService bookingService;
+    private final ClusterMembership clusterMembership;
+    private final OfferRuleService offerRuleService;
+    private final ShowPricingService showPricingService;
+    private final PromoCodeService promoCodeService;
+
+    /**
+     * Cancel a show and refund all of its bookings
+     */
+    @PostMapping("/shows/{showId}/cancel")
+    @Operation(
+        summary = "Cancel show",
+        description = "Cancel a show, cancel and refund every active booking for it and release all seats"
+    )
+    public ResponseEntity<ApiResponse<ShowCancellationResponse>> cancelShow(
+            @Parameter(description = "Show ID", required = true)
+            @PathVariable Long showId) {
+
+        log.info("API: Cancel show - showId: {}", showId);
+
+        ShowCancellationResponse response = bookingService.cancelAllBookingsForShow(showId);
+
+        return ResponseEntity.ok(ApiResponse.success(response,
+            "Show cancelled. " + response.getCancelledBookings() + " bookings refunded"));
+    }
+
+    /**
+     * List prices of a show
+     */
+    @GetMapping("/shows/{showId}/prices")
+    @Operation(
+        summary = "Get show prices",
+        description = "Per-category list prices and per-seat price overrides of a show"
+    )
+    public ResponseEntity<ApiResponse<ShowPricesResponse>> getShowPrices(
+            @Parameter(description = "Show ID", required = true)
+            @PathVariable Long showId) {
+        return ResponseEntity.ok(ApiResponse.success(showPricingService.getPrices(showId)));
+    }
+
+    /**
+     * Reprice a show; takes effect on every node without touching its seats
+     */
+    @PutMapping("/shows/{showId}/prices")
+    @Operation(
+        summary = "Update show prices",
+        description = "Set category prices and add, change or remove (null price) seat overrides. " +
+                      "Seats already sold keep the price they were sold at"
+    )
+    public ResponseEntity<ApiResponse<ShowPricesResponse>> updateShowPrices(
+            @Parameter(description = "Show ID", required = true)
+            @PathVariable Long showId,
+            @Valid @RequestBody ShowPriceUpdateRequest request) {
+
+        log.info("API: Update show prices - showId: {}", showId);
+
+        ShowPricesResponse response = showPricingService.updatePrices(showId, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Prices updated for show " + showId));
+    }
+
+    /**
+     * Evict a single cached reference entity after a partner edits it
+     */
+    @DeleteMapping("/cache/{type}/{id}")
+    @Operation(
+        summary = "Evict cached reference entity",
+        description = "Evict a movie, city, theatre, screen or seat from the second-level cache " +
+                      "so the next read reflects the partner's edit"
+    )
+    public ResponseEntity<ApiResponse<Void>> evictEntity(
+            @Parameter(description = "Reference data type (MOVIE, CITY, THEATRE, SCREEN, SEAT)", required = true)
+            @PathVariable ReferenceDataType type,
+            @Parameter(description = "Entity ID", required = true)
+            @PathVariable Long id) {
+
+        log.info("API: Evict cache - type: {}, id: {}", type, id);
+
+        referenceDataCacheService.evict(type, id);
+
+        return ResponseEntity.ok(ApiResponse.success(null, type.getDisplayName() + " " + id + " evicted from cache"));
+    }
+
+    /**
+     * Evict all cached entities of a type
+     */
+    @DeleteMapping("/cache/{type}")
+    @Operation(
+        summary = "Evict cached reference type",
+        description = "Evict every cached entity of the given reference data type"
+    )
+    public ResponseEntity<ApiResponse<Void>> evictType(
+            @Parameter(description = "Reference data type (MOVIE, CITY, THEATRE, SCREEN, SEAT)", required = true)
+            @PathVariable ReferenceDataType type) {
+
+        log.info("API: Evict cache - type: {}", type);
+
+        referenceDataCacheService.evictAll(type);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "All " + type.getDisplayName() + " entries evicted from cache"));
+    }
+
+    /**
+     * Evict all reference data caches
+     */
+    @DeleteMapping("/cache")
+    @Operation(
+        summary = "Evict all reference caches",
+        description = "Evict all reference data regions and cached queries"
+    )
+    public ResponseEntity<ApiResponse<Void>> evictAll() {
+        log.info("API: Evict all caches");
+
+        referenceDataCacheService.evictAll();
+
+        return ResponseEntity.ok(ApiResponse.success(null, "All reference data caches evicted"));
+    }
+
+    /**
+     * Cache region statistics
+     */
+    @GetMapping("/cache/stats")
+    @Operation(
+        summary = "Get cache statistics",
+        description = "Per-region hit/miss statistics for the reference data caches"
+    )
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> getCacheStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(referenceDataCacheService.getRegionStatistics()));
+    }
+
+    /**
+     * Cluster membership and show ownership
+     */
+    @GetMapping("/cluster")
+    @Operation(
+        summary = "Get cluster status",
+        description = "Members of the booking cluster and the share of shows each one owns"
+    )
+    public ResponseEntity<ApiResponse<ClusterStatusResponse>> getClusterStatus() {
+        return ResponseEntity.ok(ApiResponse.success(clusterMembership.getStatus()));
+    }
+
+    /**
+     * Add a node; show ownership rebalances immediately
+     */
+    @PostMapping("/cluster/nodes")
+    @Operation(
+        summary = "Add cluster node",
+        description = "Add (or re-address) a node. The change is propagated to the other members"
+    )
+    public ResponseEntity<ApiResponse<ClusterStatusResponse>> joinCluster(
+            @Valid @RequestBody ClusterNodeRequest request) {
+
+        log.info("API: Cluster join - node: {}, url: {}", request.getNodeId(), request.getBaseUrl());
+
+        boolean changed = clusterMembership.join(new ClusterNode(request.getNodeId(), request.getBaseUrl()));
+
+        return ResponseEntity.ok(ApiResponse.success(clusterMembership.getStatus(),
+            changed ? "Node " + request.getNodeId() + " joined" : "Node " + request.getNodeId() + " already a member"));
+    }
+
+    /**
+     * Remove a node; its shows move to the remaining members
+     */
+    @DeleteMapping("/cluster/nodes/{nodeId}")
+    @Operation(
+        summary = "Remove cluster node",
+        description = "Remove a node. The change is propagated to the other members"
+    )
+    public ResponseEntity<ApiResponse<ClusterStatusResponse>> leaveCluster(
+            @Parameter(description = "Node ID", required = true)
+            @PathVariable String nodeId) {
+
+        log.info("API: Cluster leave - node: {}", nodeId);
+
+        boolean changed = clusterMembership.leave(nodeId);
+
+        return ResponseEntity.ok(ApiResponse.success(clusterMembership.getStatus(),
+            changed ? "Node " + nodeId + " left" : "Node " + nodeId + " is not a member"));
+    }
+
+    /**
+     * Configured offer rules, in evaluation order
+     */
+    @GetMapping("/offers")
+    @Operation(
+        summary = "List offer rules",
+        description = "All offer rules (active and inactive) in the order they are applied"
+    )
+    public ResponseEntity<ApiResponse<List<OfferRuleResponse>>> getOfferRules() {
+        return ResponseEntity.ok(ApiResponse.success(offerRuleService.getRules()));
+    }
+
+    /**
+     * Create or update an offer rule; takes effect on every node without a redeploy
+     */
+    @PostMapping("/offers")
+    @Operation(
+        summary = "Save offer rule",
+        description = "Create an offer rule or replace the rule with the same code. " +
+                      "Pricing picks up the change within one change-feed poll interval"
+    )
+    public ResponseEntity<ApiResponse<OfferRuleResponse>> saveOfferRule(
+            @Valid @RequestBody OfferRuleRequest request) {
+
+        log.info("API: Save offer rule - code: {}", request.getCode());
+
+        OfferRuleResponse response = offerRuleService.saveRule(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Offer rule " + response.getCode() + " saved"));
+    }
+
+    /**
+     * Recompile offer rules after editing the offer_rules table directly
+     */
+    @PostMapping("/offers/reload")
+    @Operation(
+        summary = "Reload offer rules",
+        description = "Recompile the offer pricing pipelines from the offer_rules table on every node"
+    )
+    public ResponseEntity<ApiResponse<Void>> reloadOfferRules() {
+        log.info("API: Reload offer rules");
+
+        offerRuleService.reloadRules();
+
+        return ResponseEntity.ok(ApiResponse.success(null, "Offer rules reloaded"));
+    }
+
+    /**
+     * Promo codes with their redemption budgets
+     */
+    @GetMapping("/promos")
+    @Operation(
+        summary = "List promo codes",
+        description = "All promo codes with their cap, redemptions allocated to nodes and redemptions by active bookings"
+    )
+    public ResponseEntity<ApiResponse<List<PromoCodeResponse>>> getPromoCodes() {
+        return ResponseEntity.ok(ApiResponse.success(promoCodeService.getPromoCodes()));
+    }
+
+    /**
+     * Create or update a limited-quantity promo code
+     */
+    @PostMapping("/promos")
+    @Operation(
+        summary = "Save promo code",
+        description = "Create a promo code or update the code with the same name. " +
+                      "The cap cannot be lowered below the redemptions already allocated to nodes"
+    )
+    public ResponseEntity<ApiResponse<PromoCodeResponse>> savePromoCode(
+            @Valid @RequestBody PromoCodeRequest request) {
+
+        log.info("API: Save promo code - code: {}", request.getCode());
+
+        PromoCodeResponse response = promoCodeService.savePromoCode(request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Promo code " + response.getCode() + " saved"));
+    }
+}
@@ -1,8 +1,12 @@
 package com.moviebooking.controller;
 
+import com.moviebooking.cluster.ClusterClient;
 import com.moviebooking.dto.request.BookTicketRequest;
 import com.moviebooking.dto.response.ApiResponse;
 import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.BookingTicketResponse;
+import com.moviebooking.resilience.RequestRateLimiter;
+import com.moviebooking.service.AsyncBookingService;
 import com.moviebooking.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +18,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * REST Controller for booking tickets
  * Implements the WRITE scenario APIs
@@ -26,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final AsyncBookingService asyncBookingService;
+    private final RequestRateLimiter requestRateLimiter;
 
     /**
      * Book movie tickets
@@ -50,12 +59,66 @@ public class BookingController {
         log.info("API: Book tickets - showId: {}, seats: {}", 
                  request.getShowId(), request.getSeatIds().size());
 
+        // A forwarded booking was charged on the node the client called
+        if (!ClusterClient.isForwardedRequest()) {
+            requestRateLimiter.checkShow(request.getShowId());
+        }
+
         BookingResponse response = bookingService.bookTickets(request);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response, "Booking confirmed! Reference: " + response.getBookingReference()));
     }
 
+    /**
+     * Submit a booking request for asynchronous processing
+     * 
+     * Returns 202 Accepted with a ticket straight away; the booking is processed on a
+     * bounded internal queue. Poll the ticket (or long-poll with waitMillis) for the result.
+     */
+    @PostMapping("/async")
+    @Operation(
+        summary = "Submit booking asynchronously",
+        description = "Queue a booking request and return a ticket immediately. " +
+                      "The ticket moves from Pending to Confirmed or Failed; poll the status URL for the result"
+    )
+    public ResponseEntity<ApiResponse<BookingTicketResponse>> submitBooking(
+            @Valid @RequestBody BookTicketRequest request) {
+
+        log.info("API: Submit booking - showId: {}, seats: {}", 
+                 request.getShowId(), request.getSeatIds().size());
+
+        requestRateLimiter.checkShow(request.getShowId());
+
+        BookingTicketResponse ticket = asyncBookingService.submitBooking(request);
+
+        return ResponseEntity.accepted()
+                .location(URI.create(ticket.getStatusUrl()))
+                .body(ApiResponse.success(ticket, "Booking request accepted. Ticket: " + ticket.getTicketId()));
+    }
+
+    /**
+     * Get the status of an asynchronously submitted booking
+     */
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(
+        summary = "Get booking ticket status",
+        description = "Get the status of an asynchronous booking request. " +
+                      "With waitMillis > 0 the call waits (up to 30s) for the result without holding a server thread"
+    )
+    public CompletableFuture<ResponseEntity<ApiResponse<BookingTicketResponse>>> getTicket(
+            @Parameter(description = "Ticket ID", required = true)
+            @PathVariable String ticketId,
+            @Parameter(description = "Maximum time to wait for completion in milliseconds")
+            @RequestParam(defaultValue = "0") long waitMillis) {
+
+        CompletableFuture<BookingTicketResponse> ticket = waitMillis > 0
+                ? asyncBookingService.awaitTicket(ticketId, waitMillis)
+                : CompletableFuture.completedFuture(asyncBookingService.getTicket(ticketId));
+
+        return ticket.thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Ticket status: " + response.getStatus())));
+    }
+
     /**
      * Get booking details by reference
      */
@@ -1,9 +1,12 @@
 package com.moviebooking.controller;
 
 import com.moviebooking.dto.request.BrowseShowsRequest;
+import com.moviebooking.dto.request.PriceQuoteRequest;
 import com.moviebooking.dto.response.ApiResponse;
 import com.moviebooking.dto.response.BrowseShowsResponse;
+import com.moviebooking.dto.response.PriceQuoteResponse;
 import com.moviebooking.dto.response.ShowSeatsResponse;
+import com.moviebooking.service.PriceQuoteService;
 import com.moviebooking.service.ShowBrowsingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,6 +32,7 @@ import java.time.LocalDate;
 public class ShowBrowsingController {
 
     private final ShowBrowsingService showBrowsingService;
+    private final PriceQuoteService priceQuoteService;
 
     /**
      * Browse theatres running a movie in a city on a specific date
@@ -85,4 +89,25 @@ public class ShowBrowsingController {
 
         return ResponseEntity.ok(ApiResponse.success(response, "Seat availability retrieved successfully"));
     }
+
+    /**
+     * Price candidate seat selections (cart preview) without booking
+     */
+    @PostMapping("/{showId}/quotes")
+    @Operation(
+        summary = "Quote seat selections",
+        description = "Price one or more candidate seat selections for a show, with offers applied " +
+                      "exactly as on booking. Seats are not checked for availability or held"
+    )
+    public ResponseEntity<ApiResponse<PriceQuoteResponse>> quoteSeats(
+            @Parameter(description = "Show ID", required = true)
+            @PathVariable Long showId,
+            @Valid @RequestBody PriceQuoteRequest request) {
+
+        log.debug("API: Quote {} selections for show: {}", request.getSelections().size(), showId);
+
+        PriceQuoteResponse response = priceQuoteService.quote(showId, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
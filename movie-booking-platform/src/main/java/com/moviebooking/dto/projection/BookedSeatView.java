@@ -0,0 +1,9 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * A seat that is booked for a show
+ */
+public record BookedSeatView(
+    Long showId,
+    Long seatId
+) {}
@@ -0,0 +1,13 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.SeatCategory;
+
+/**
+ * List price of one seat category of a show
+ */
+public record CategoryPriceView(
+    Long showId,
+    SeatCategory category,
+    Double basePrice,
+    Double price
+) {}
@@ -0,0 +1,16 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.ChangeEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change-feed entry as delivered to change-feed listeners
+ */
+public record ChangeFeedView(
+    Long id,
+    ChangeEntityType entityType,
+    Long entityId,
+    String originNode,
+    LocalDateTime createdAt
+) {}
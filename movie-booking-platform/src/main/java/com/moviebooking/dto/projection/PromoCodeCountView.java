@@ -0,0 +1,9 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * Number of bookings that redeemed a promo code
+ */
+public record PromoCodeCountView(
+    String promoCode,
+    Long bookingCount
+) {}
@@ -0,0 +1,13 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.SeatCategory;
+
+/**
+ * Category and position of one seat of a screen (price lookup and seat suggestion layout)
+ */
+public record SeatCategoryView(
+    Long seatId,
+    SeatCategory category,
+    String rowNumber,
+    Integer seatNumber
+) {}
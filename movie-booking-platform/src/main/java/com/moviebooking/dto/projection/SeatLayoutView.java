@@ -0,0 +1,9 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * A physical seat of a screen (seat layout cache)
+ */
+public record SeatLayoutView(
+    Long screenId,
+    Long seatId
+) {}
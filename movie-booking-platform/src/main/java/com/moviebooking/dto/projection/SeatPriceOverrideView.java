@@ -0,0 +1,10 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * Per-seat price override of a show
+ */
+public record SeatPriceOverrideView(
+    Long showId,
+    Long seatId,
+    Double price
+) {}
@@ -0,0 +1,12 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.SeatCategory;
+
+/**
+ * Number of seats of one category of a show in some status
+ */
+public record ShowCategoryCountView(
+    Long showId,
+    SeatCategory category,
+    Long seatCount
+) {}
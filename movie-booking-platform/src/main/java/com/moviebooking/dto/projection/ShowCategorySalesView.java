@@ -0,0 +1,17 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.SeatCategory;
+
+/**
+ * Sales of one seat category of a show, with its current list price - dynamic pricing input
+ */
+public record ShowCategorySalesView(
+    Long showId,
+    SeatCategory category,
+    Double basePrice,
+    Double currentPrice,
+    Long totalSeats,
+    Long bookedSeats,
+    Long recentlyBookedSeats,
+    Long availableSeats
+) {}
@@ -0,0 +1,25 @@
+package com.moviebooking.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of the show header shown above the seat map
+ */
+public record ShowHeaderView(
+    Long showId,
+    String movieTitle,
+    String theatreName,
+    String screenName,
+    LocalDate showDate,
+    LocalTime startTime
+) {
+
+    /**
+     * Check if this is an afternoon show (12 PM to 5 PM)
+     */
+    public boolean isAfternoonShow() {
+        int hour = startTime.getHour();
+        return hour >= 12 && hour < 17;
+    }
+}
@@ -0,0 +1,9 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * Current price version of a show
+ */
+public record ShowPriceVersionView(
+    Long showId,
+    long priceVersion
+) {}
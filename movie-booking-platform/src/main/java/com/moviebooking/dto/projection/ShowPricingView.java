@@ -0,0 +1,14 @@
+package com.moviebooking.dto.projection;
+
+import java.time.LocalTime;
+
+/**
+ * Show attributes that offer rules are scoped by, its screen, and the version of its prices
+ */
+public record ShowPricingView(
+    Long showId,
+    Long theatreId,
+    Long screenId,
+    LocalTime startTime,
+    long priceVersion
+) {}
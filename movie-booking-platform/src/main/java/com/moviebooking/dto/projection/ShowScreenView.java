@@ -0,0 +1,9 @@
+package com.moviebooking.dto.projection;
+
+/**
+ * The screen a show runs on
+ */
+public record ShowScreenView(
+    Long showId,
+    Long screenId
+) {}
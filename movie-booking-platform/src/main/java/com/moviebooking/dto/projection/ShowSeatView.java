@@ -0,0 +1,16 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.enums.SeatStatus;
+
+/**
+ * Read-only projection of a show seat joined with its seat for the seat map
+ */
+public record ShowSeatView(
+    Long showSeatId,
+    Long seatId,
+    String rowNumber,
+    Integer seatNumber,
+    SeatCategory category,
+    SeatStatus status
+) {}
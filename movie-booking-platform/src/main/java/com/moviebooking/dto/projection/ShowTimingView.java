@@ -0,0 +1,30 @@
+package com.moviebooking.dto.projection;
+
+import com.moviebooking.enums.ShowStatus;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of a show row for the browse listing
+ * Selects only the show, theatre and screen columns needed by BrowseShowsResponse
+ */
+public record ShowTimingView(
+    Long showId,
+    Long theatreId,
+    String theatreName,
+    String theatreAddress,
+    LocalTime startTime,
+    LocalTime endTime,
+    String screenName,
+    String screenType,
+    Integer availableSeats,
+    ShowStatus status
+) {
+
+    /**
+     * Check if this is an afternoon show (12 PM to 5 PM)
+     */
+    public boolean isAfternoonShow() {
+        int hour = startTime.getHour();
+        return hour >= 12 && hour < 17;
+    }
+}
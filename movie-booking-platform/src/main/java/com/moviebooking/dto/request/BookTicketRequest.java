@@ -28,4 +28,7 @@ public class BookTicketRequest {
     @NotEmpty(message = "At least one seat must be selected")
     @Size(min = 1, max = 10, message = "You can book between 1 and 10 seats")
     private List<Long> seatIds;
+
+    @Size(max = 32, message = "Promo code must be at most 32 characters")
+    private String promoCode;
 }
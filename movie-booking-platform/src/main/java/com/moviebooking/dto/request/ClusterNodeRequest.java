@@ -0,0 +1,20 @@
+package com.moviebooking.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * Request DTO for adding a node to the booking cluster
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterNodeRequest {
+
+    @NotBlank(message = "Node ID is required")
+    private String nodeId;
+
+    @NotBlank(message = "Node base URL is required")
+    private String baseUrl;
+}
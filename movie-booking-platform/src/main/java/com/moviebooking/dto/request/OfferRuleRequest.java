@@ -0,0 +1,62 @@
+package com.moviebooking.dto.request;
+
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.enums.SeatCategory;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * Request DTO for creating or updating an offer rule (matched by code)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferRuleRequest {
+
+    @NotBlank(message = "Offer code is required")
+    private String code;
+
+    @NotNull(message = "Discount type is required")
+    private OfferDiscountType discountType;
+
+    @NotNull(message = "Discount percent is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Discount percent must be positive")
+    @DecimalMax(value = "100.0", message = "Discount percent cannot exceed 100")
+    private Double discountPercent;
+
+    @Min(value = 1, message = "Nth ticket must be at least 1")
+    private Integer nthTicket;
+
+    @Min(value = 0, message = "Start hour must be between 0 and 23")
+    @Max(value = 23, message = "Start hour must be between 0 and 23")
+    private Integer startHour;
+
+    @Min(value = 1, message = "End hour must be between 1 and 24")
+    @Max(value = 24, message = "End hour must be between 1 and 24")
+    private Integer endHour;
+
+    private SeatCategory seatCategory;
+
+    private Long theatreId;
+
+    @NotNull(message = "Priority is required")
+    private Integer priority;
+
+    private Integer displayOrder;
+
+    private Boolean active;
+
+    @NotBlank(message = "Applied offer name is required")
+    private String appliedName;
+
+    @NotBlank(message = "Summary is required")
+    private String summary;
+
+    @NotBlank(message = "Description is required")
+    private String description;
+
+    private String details;
+
+    private String terms;
+}
@@ -0,0 +1,19 @@
+package com.moviebooking.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.util.List;
+
+/**
+ * Request DTO for pricing candidate seat selections of one show
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceQuoteRequest {
+
+    @NotEmpty(message = "At least one seat selection is required")
+    @Size(max = 500, message = "At most 500 selections can be quoted per request")
+    private List<@NotEmpty(message = "A selection must contain at least one seat") List<Long>> selections;
+}
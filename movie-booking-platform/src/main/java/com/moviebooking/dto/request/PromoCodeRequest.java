@@ -0,0 +1,29 @@
+package com.moviebooking.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * Request DTO for creating or updating a promo code (matched by code)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromoCodeRequest {
+
+    @NotBlank(message = "Promo code is required")
+    @Size(max = 32, message = "Promo code must be at most 32 characters")
+    private String code;
+
+    @NotNull(message = "Discount percent is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Discount percent must be positive")
+    @DecimalMax(value = "100.0", message = "Discount percent cannot exceed 100")
+    private Double discountPercent;
+
+    @NotNull(message = "Maximum redemptions is required")
+    @Min(value = 1, message = "Maximum redemptions must be at least 1")
+    private Integer maxRedemptions;
+
+    private Boolean active;
+}
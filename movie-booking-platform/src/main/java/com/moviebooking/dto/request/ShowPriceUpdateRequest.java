@@ -0,0 +1,52 @@
+package com.moviebooking.dto.request;
+
+import com.moviebooking.enums.SeatCategory;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request DTO for changing the list prices of a show
+ * Categories and seats not mentioned keep their current price
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowPriceUpdateRequest {
+
+    @Valid
+    private List<CategoryPrice> categoryPrices;
+
+    @Valid
+    private List<SeatOverride> seatOverrides;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryPrice {
+
+        @NotNull(message = "Seat category is required")
+        private SeatCategory category;
+
+        @NotNull(message = "Price is required")
+        @Positive(message = "Price must be positive")
+        private Double price;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SeatOverride {
+
+        @NotNull(message = "Seat ID is required")
+        private Long seatId;
+
+        @Positive(message = "Price must be positive")
+        private Double price; // null removes the override
+    }
+}
@@ -0,0 +1,27 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO for an asynchronously submitted booking request
+ * The ticket moves from Pending to Confirmed (with the booking) or Failed (with a reason)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingTicketResponse {
+
+    private String ticketId;
+    private String status;
+    private String statusUrl;
+    private String submittedAt;
+    private String completedAt;
+
+    // Set once the booking is confirmed
+    private String bookingReference;
+    private BookingResponse booking;
+
+    // Set when the booking failed
+    private String failureReason;
+}
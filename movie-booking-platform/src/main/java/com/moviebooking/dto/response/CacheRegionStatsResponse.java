@@ -0,0 +1,20 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO for second-level / query cache region statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatsResponse {
+
+    private String regionName;
+    private String regionType; // ENTITY, QUERY
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+}
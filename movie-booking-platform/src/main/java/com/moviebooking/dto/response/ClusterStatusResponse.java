@@ -0,0 +1,29 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Response DTO describing cluster membership and show ownership
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterStatusResponse {
+
+    private boolean enabled;
+    private String selfId;
+    private List<NodeInfo> nodes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NodeInfo {
+        private String nodeId;
+        private String baseUrl;
+        private boolean self;
+        private double ownedSharePercent; // estimated over a sample of show ids
+    }
+}
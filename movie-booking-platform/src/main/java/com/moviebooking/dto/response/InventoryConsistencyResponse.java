@@ -0,0 +1,34 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Response DTO comparing the event-sourced seat inventory with booked show_seats rows
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryConsistencyResponse {
+
+    private long journalSequence;
+    private int checkedShows;
+    private int mismatchedShows;
+    private int repairedShows;
+
+    // First mismatches only
+    private List<ShowMismatch> mismatches;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ShowMismatch {
+        private Long showId;
+        private int inventoryBookedSeats;
+        private int databaseBookedSeats;
+        // Seats booked in only one of the two, so equal counts can still differ
+        private int differingSeats;
+    }
+}
@@ -0,0 +1,19 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO for per-show seat-lock contention statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LockContentionStatsResponse {
+
+    private Long showId;
+    private long retries;
+    private long deadlocks;
+    private long lockTimeouts;
+    private long exhaustedRetries;
+}
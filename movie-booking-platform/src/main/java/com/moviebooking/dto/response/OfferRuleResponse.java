@@ -0,0 +1,31 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO describing a configured offer rule
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferRuleResponse {
+
+    private Long id;
+    private String code;
+    private String discountType;
+    private Double discountPercent;
+    private Integer nthTicket;
+    private Integer startHour;
+    private Integer endHour;
+    private String seatCategory;
+    private Long theatreId;
+    private Integer priority;
+    private Integer displayOrder;
+    private boolean active;
+    private String appliedName;
+    private String summary;
+    private String description;
+    private String details;
+    private String terms;
+}
@@ -0,0 +1,43 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Response DTO with the price of each candidate seat selection, in request order
+ * Quotes do not check or reserve availability
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceQuoteResponse {
+
+    private Long showId;
+    private Long priceVersion; // every quote in the response uses this version of the show's prices
+    private List<Quote> quotes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Quote {
+        private List<Long> seatIds;
+        private boolean valid;
+        private String message; // why the selection could not be priced
+        private Double baseAmount;
+        private Double discountAmount;
+        private String discountDescription;
+        private Double finalAmount;
+        private List<AppliedOffer> appliedOffers;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AppliedOffer {
+        private String offerName;
+        private Double discountAmount;
+    }
+}
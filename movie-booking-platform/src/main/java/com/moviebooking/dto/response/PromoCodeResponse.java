@@ -0,0 +1,22 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO describing a promo code and its redemption budget
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromoCodeResponse {
+
+    private Long id;
+    private String code;
+    private Double discountPercent;
+    private Integer maxRedemptions;
+    private Integer allocatedRedemptions; // handed out to nodes so far
+    private long redeemedRedemptions;     // by active bookings
+    private long unusedOnThisNode;
+    private boolean active;
+}
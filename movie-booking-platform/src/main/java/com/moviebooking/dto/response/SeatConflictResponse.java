@@ -0,0 +1,32 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Error payload of a 409 booking response: which requested seats were taken, and the
+ * closest available seats of the same category to offer instead
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatConflictResponse {
+
+    private Long showId;
+    private List<Long> takenSeatIds;
+    private List<AlternativeSeat> alternatives;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlternativeSeat {
+        private Long seatId;
+        private String seatIdentifier;
+        private String category;
+        private Double price;
+        private Long replacesSeatId;
+    }
+}
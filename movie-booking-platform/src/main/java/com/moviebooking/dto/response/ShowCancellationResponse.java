@@ -0,0 +1,18 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+/**
+ * Response DTO for cancelling a show and all of its bookings
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowCancellationResponse {
+
+    private Long showId;
+    private String showStatus;
+    private int cancelledBookings;
+    private int releasedSeats;
+}
@@ -0,0 +1,39 @@
+package com.moviebooking.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response DTO with the list prices of a show
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowPricesResponse {
+
+    private Long showId;
+    private long priceVersion;
+    private List<CategoryPrice> categoryPrices;
+    private List<SeatOverride> seatOverrides;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryPrice {
+        private String category;
+        private Double basePrice;
+        private Double price;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SeatOverride {
+        private Long seatId;
+        private Double price;
+    }
+}
@@ -12,7 +12,10 @@ import java.util.Set;
  * Booking entity - represents a ticket booking made by a customer
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_customer_email", columnList = "customer_email"),
+    @Index(name = "idx_bookings_show_status", columnList = "show_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +50,9 @@ public class Booking extends BaseEntity {
     @Column(name = "discount_description")
     private String discountDescription;
 
+    @Column(name = "promo_code")
+    private String promoCode; // redeemed promo code, returned to the budget on cancellation
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private BookingStatus status;
@@ -0,0 +1,31 @@
+package com.moviebooking.entity;
+
+import com.moviebooking.enums.ChangeEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ChangeFeedEntry entity - one row per mutation other nodes must react to
+ * The identity id is the feed position; nodes poll for ids above their high-water mark
+ */
+@Entity
+@Table(name = "change_feed", indexes = {
+    @Index(name = "idx_change_feed_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedEntry extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId; // null = every entity of the type
+
+    @Column(name = "origin_node", nullable = false)
+    private String originNode;
+}
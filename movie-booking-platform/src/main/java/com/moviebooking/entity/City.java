@@ -2,6 +2,8 @@ package com.moviebooking.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -9,6 +11,8 @@ import java.util.Set;
  * City entity - represents a city where theatres operate
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cities")
 @Table(name = "cities")
 @Getter
 @Setter
@@ -0,0 +1,75 @@
+package com.moviebooking.entity;
+
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.enums.SeatCategory;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * OfferRule entity - a configurable discount rule evaluated by the offer engine
+ * 
+ * Optional scoping: a show start-time window [startHour, endHour), a seat category
+ * and a theatre. Rules are applied in ascending priority, each on the prices left
+ * by the rules before it.
+ */
+@Entity
+@Table(name = "offer_rules")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferRule extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "discount_type", nullable = false)
+    private OfferDiscountType discountType;
+
+    @Column(name = "discount_percent", nullable = false)
+    private Double discountPercent;
+
+    @Column(name = "nth_ticket")
+    private Integer nthTicket; // NTH_TICKET only: tickets needed before the discount applies
+
+    @Column(name = "start_hour")
+    private Integer startHour;
+
+    @Column(name = "end_hour")
+    private Integer endHour;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "seat_category")
+    private SeatCategory seatCategory;
+
+    @Column(name = "theatre_id")
+    private Long theatreId;
+
+    @Column(nullable = false)
+    private Integer priority;
+
+    @Column(name = "display_order", nullable = false)
+    private Integer displayOrder;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean active = true;
+
+    // Texts: applied-offer name, booking discount summary, and browse descriptions
+    @Column(name = "applied_name", nullable = false)
+    private String appliedName;
+
+    @Column(nullable = false)
+    private String summary;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(length = 500)
+    private String details;
+
+    @Column(length = 500)
+    private String terms;
+}
@@ -0,0 +1,58 @@
+package com.moviebooking.entity;
+
+import com.moviebooking.enums.NotificationChannel;
+import com.moviebooking.enums.OutboxEventType;
+import com.moviebooking.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent entity - a notification recorded in the same transaction as the booking
+ * that caused it, delivered later by the outbox dispatcher (one row per destination)
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId; // booking reference
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationChannel channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, length = 8000)
+    private String payload; // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,36 @@
+package com.moviebooking.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * PromoCode entity - a customer-entered discount code with a capped number of redemptions
+ * 
+ * The row is not touched per redemption: nodes take redemptions from it in chunks
+ * (allocatedRedemptions) and hand them out from memory (see PromoCodeRegistry), so
+ * allocatedRedemptions never exceeds maxRedemptions and neither can redemptions.
+ */
+@Entity
+@Table(name = "promo_codes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromoCode extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private String code;
+
+    @Column(name = "discount_percent", nullable = false)
+    private Double discountPercent; // off the amount left after offers
+
+    @Column(name = "max_redemptions", nullable = false)
+    private Integer maxRedemptions;
+
+    @Column(name = "allocated_redemptions", nullable = false)
+    private Integer allocatedRedemptions; // handed out to nodes, redeemed or not
+
+    @Column(nullable = false)
+    private boolean active;
+}
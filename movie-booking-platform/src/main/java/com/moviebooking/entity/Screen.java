@@ -2,6 +2,8 @@ package com.moviebooking.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -9,6 +11,8 @@ import java.util.Set;
  * Screen entity - represents a screen/auditorium within a theatre
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "screens")
 @Table(name = "screens")
 @Getter
 @Setter
@@ -4,11 +4,15 @@ import com.moviebooking.enums.SeatCategory;
 import com.moviebooking.enums.SeatStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Seat entity - represents a seat in a screen
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seats")
 @Table(name = "seats", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"screen_id", "row_number", "seat_number"})
 })
@@ -12,7 +12,9 @@ import java.util.Set;
  * Show entity - represents a movie show at a particular time in a theatre screen
  */
 @Entity
-@Table(name = "shows")
+@Table(name = "shows", indexes = {
+    @Index(name = "idx_shows_movie_date_status", columnList = "movie_id, show_date, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,6 +38,9 @@ public class Show extends BaseEntity {
     @Column(name = "available_seats")
     private Integer availableSeats;
 
+    @Column(name = "price_version", nullable = false)
+    private long priceVersion; // bumped with every bulk seat price change
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "movie_id", nullable = false)
     private Movie movie;
@@ -0,0 +1,35 @@
+package com.moviebooking.entity;
+
+import com.moviebooking.enums.SeatCategory;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ShowCategoryPrice entity - list price of one seat category for a show
+ * Repricing a category of a show is a write to this single row
+ */
+@Entity
+@Table(name = "show_category_prices", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"show_id", "category"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowCategoryPrice extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "show_id", nullable = false)
+    private Show show;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SeatCategory category;
+
+    @Column(name = "base_price", nullable = false)
+    private Double basePrice; // seat base price when the show was scheduled
+
+    @Column(nullable = false)
+    private Double price;
+}
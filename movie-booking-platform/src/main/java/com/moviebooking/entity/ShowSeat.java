@@ -11,6 +11,9 @@ import lombok.*;
 @Entity
 @Table(name = "show_seats", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"show_id", "seat_id"})
+}, indexes = {
+    @Index(name = "idx_show_seats_show_status", columnList = "show_id, status"),
+    @Index(name = "idx_show_seats_booking", columnList = "booking_id")
 })
 @Getter
 @Setter
@@ -31,8 +34,7 @@ public class ShowSeat extends BaseEntity {
     @Column(nullable = false)
     private SeatStatus status;
 
-    @Column(nullable = false)
-    private Double price; // Calculated price for this show
+    private Double price; // Price the seat was sold at; null while unsold (list prices: ShowCategoryPrice)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booking_id")
@@ -0,0 +1,30 @@
+package com.moviebooking.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ShowSeatPriceOverride entity - price of one seat of a show that differs from its category price
+ */
+@Entity
+@Table(name = "show_seat_price_overrides", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"show_id", "seat_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowSeatPriceOverride extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "show_id", nullable = false)
+    private Show show;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seat_id", nullable = false)
+    private Seat seat;
+
+    @Column(nullable = false)
+    private Double price;
+}
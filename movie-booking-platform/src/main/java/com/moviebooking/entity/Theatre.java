@@ -2,6 +2,8 @@ package com.moviebooking.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -9,7 +11,11 @@ import java.util.Set;
  * Theatre entity - represents a theatre partner (B2B)
  */
 @Entity
-@Table(name = "theatres")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "theatres")
+@Table(name = "theatres", indexes = {
+    @Index(name = "idx_theatres_city", columnList = "city_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,38 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing a booking state change recorded in the booking journal
+ * The code is the on-disk representation and must never be reused
+ */
+public enum BookingEventType {
+    BOOKED((byte) 1, "Booked"),
+    CANCELLED((byte) 2, "Cancelled"),
+    HELD((byte) 3, "Held"),
+    EXPIRED((byte) 4, "Expired"),
+    SHOW_CANCELLED((byte) 5, "Show Cancelled");
+
+    private final byte code;
+    private final String displayName;
+
+    BookingEventType(byte code, String displayName) {
+        this.code = code;
+        this.displayName = displayName;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static BookingEventType fromCode(byte code) {
+        for (BookingEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown booking event type code: " + code);
+    }
+}
@@ -8,7 +8,8 @@ public enum BookingStatus {
     CONFIRMED("Confirmed"),
     CANCELLED("Cancelled"),
     EXPIRED("Expired"),
-    COMPLETED("Completed");
+    COMPLETED("Completed"),
+    FAILED("Failed");        // Asynchronous booking request could not be fulfilled
 
     private final String displayName;
 
@@ -0,0 +1,35 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing the kind of entity a change-feed entry refers to
+ * Reference data constants match ReferenceDataType by name
+ */
+public enum ChangeEntityType {
+    SHOW("Show"),           // status, availability or seat map of a show
+    MOVIE("Movie"),
+    CITY("City"),
+    THEATRE("Theatre"),
+    SCREEN("Screen"),
+    SEAT("Seat"),
+    OFFER("Offer Rule"),    // offer rules changed; every node recompiles its pricing pipelines
+    PRICE("Show Prices"),   // seat prices of a show changed (id = show id)
+    PROMO("Promo Code");    // a promo code was created or edited (id = promo code id)
+
+    private final String displayName;
+
+    ChangeEntityType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isReferenceData() {
+        return this != SHOW && this != OFFER && this != PRICE && this != PROMO;
+    }
+
+    public static ChangeEntityType of(ReferenceDataType type) {
+        return valueOf(type.name());
+    }
+}
@@ -0,0 +1,20 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing the destination of a booking notification
+ */
+public enum NotificationChannel {
+    EMAIL("Email"),
+    SMS("SMS"),
+    PARTNER("Partner");
+
+    private final String displayName;
+
+    NotificationChannel(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,19 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing how an offer rule computes its discount
+ */
+public enum OfferDiscountType {
+    PERCENTAGE("Percentage"),   // percent off every eligible ticket
+    NTH_TICKET("Nth Ticket");   // percent off the cheapest eligible ticket once N are booked
+
+    private final String displayName;
+
+    OfferDiscountType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
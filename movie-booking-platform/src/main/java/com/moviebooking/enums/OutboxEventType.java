@@ -0,0 +1,18 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing the kind of event recorded in the transactional outbox
+ */
+public enum OutboxEventType {
+    BOOKING_CONFIRMED("Booking Confirmed");
+
+    private final String displayName;
+
+    OutboxEventType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing the delivery status of a transactional outbox event
+ */
+public enum OutboxStatus {
+    PENDING("Pending"),
+    SENT("Sent"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    OutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,22 @@
+package com.moviebooking.enums;
+
+/**
+ * Enum representing the cached reference data types that partners can edit
+ */
+public enum ReferenceDataType {
+    MOVIE("Movie"),
+    CITY("City"),
+    THEATRE("Theatre"),
+    SCREEN("Screen"),
+    SEAT("Seat");
+
+    private final String displayName;
+
+    ReferenceDataType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
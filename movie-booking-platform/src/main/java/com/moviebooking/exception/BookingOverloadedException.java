@@ -0,0 +1,19 @@
+package com.moviebooking.exception;
+
+/**
+ * Exception thrown when a booking request is shed because the booking path is at its concurrency limit
+ * Shedding is frequent under overload, so no stack trace is captured
+ */
+public class BookingOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public BookingOverloadedException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.moviebooking.exception;
+
+/**
+ * Exception thrown when the asynchronous booking queue is full
+ */
+public class BookingQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public BookingQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -3,6 +3,8 @@ package com.moviebooking.exception;
 import com.moviebooking.dto.response.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,6 +15,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Global exception handler for the application
@@ -22,6 +27,12 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final long CONFLICT_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // Seat conflicts are an expected outcome under contention; log a summary at most once per interval
+    private final AtomicLong lastConflictLogNanos = new AtomicLong(System.nanoTime() - CONFLICT_LOG_INTERVAL_NANOS);
+    private final LongAdder suppressedConflicts = new LongAdder();
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(
             ResourceNotFoundException ex, HttpServletRequest request) {
@@ -43,12 +54,12 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleSeatNotAvailableException(
             SeatNotAvailableException ex, HttpServletRequest request) {
         
-        log.error("Seat not available: {}", ex.getMessage());
+        logSeatConflict(ex);
         
         ApiResponse<Object> response = ApiResponse.builder()
                 .success(false)
                 .message(ex.getMessage())
-                .data(null)
+                .data(ex.getConflict())
                 .timestamp(LocalDateTime.now())
                 .path(request.getRequestURI())
                 .build();
@@ -73,6 +84,82 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(BookingQueueFullException.class)
+    public ResponseEntity<ApiResponse<Object>> handleBookingQueueFullException(
+            BookingQueueFullException ex, HttpServletRequest request) {
+        
+        log.warn("Booking queue full: {}", ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(BookingOverloadedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleBookingOverloadedException(
+            BookingOverloadedException ex, HttpServletRequest request) {
+        
+        log.debug("Booking request shed: {}", ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePessimisticLockingFailureException(
+            PessimisticLockingFailureException ex, HttpServletRequest request) {
+        
+        log.warn("Seat lock contention on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.builder()
+                .success(false)
+                .message("Selected seats are being booked by other customers. Please retry shortly")
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRateLimitExceededException(
+            RateLimitExceededException ex, HttpServletRequest request) {
+        
+        log.debug("Rate limit exceeded: {} {}", request.getRequestURI(), ex.getMessage());
+        
+        ApiResponse<Object> response = ApiResponse.builder()
+                .success(false)
+                .message(ex.getMessage())
+                .data(null)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -113,4 +200,17 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    private void logSeatConflict(SeatNotAvailableException ex) {
+        log.debug("Seat not available: {}", ex.getMessage());
+        long now = System.nanoTime();
+        long last = lastConflictLogNanos.get();
+        if (now - last < CONFLICT_LOG_INTERVAL_NANOS || !lastConflictLogNanos.compareAndSet(last, now)) {
+            suppressedConflicts.increment();
+            return;
+        }
+        long suppressed = suppressedConflicts.sumThenReset();
+        log.warn("Seat not available: {} ({} more seat conflicts in the last {} s)",
+                ex.getMessage(), suppressed, TimeUnit.NANOSECONDS.toSeconds(CONFLICT_LOG_INTERVAL_NANOS));
+    }
 }
@@ -0,0 +1,19 @@
+package com.moviebooking.exception;
+
+/**
+ * Exception thrown when a client or show exceeds its request rate
+ * Rejections are frequent under bot traffic, so no stack trace is captured
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
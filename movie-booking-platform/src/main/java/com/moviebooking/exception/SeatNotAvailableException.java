@@ -1,15 +1,35 @@
 package com.moviebooking.exception;
 
+import com.moviebooking.dto.response.SeatConflictResponse;
+
 /**
  * Exception thrown when seats are not available for booking
+ * 
+ * A seat conflict is an expected outcome on a busy show, not a fault, so the exception
+ * carries no stack trace; the conflict details travel in the optional payload instead.
  */
 public class SeatNotAvailableException extends RuntimeException {
 
+    private final transient SeatConflictResponse conflict;
+
     public SeatNotAvailableException(String message) {
-        super(message);
+        this(message, (SeatConflictResponse) null);
+    }
+
+    public SeatNotAvailableException(String message, SeatConflictResponse conflict) {
+        super(message, null, false, false);
+        this.conflict = conflict;
     }
 
     public SeatNotAvailableException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
+        this.conflict = null;
+    }
+
+    /**
+     * @return taken seats and suggested alternatives, or null if unknown
+     */
+    public SeatConflictResponse getConflict() {
+        return conflict;
     }
 }
@@ -0,0 +1,409 @@
+package com.moviebooking.inventory;
+
+import com.moviebooking.dto.projection.BookedSeatView;
+import com.moviebooking.dto.projection.ShowScreenView;
+import com.moviebooking.dto.response.InventoryConsistencyResponse;
+import com.moviebooking.dto.response.InventoryConsistencyResponse.ShowMismatch;
+import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.journal.BookingJournal;
+import com.moviebooking.journal.BookingStateChange;
+import com.moviebooking.journal.JournalEntry;
+import com.moviebooking.journal.JournalGap;
+import com.moviebooking.journal.JournalTailer;
+import com.moviebooking.repository.SeatRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Event-sourced per-show seat inventory (opt-in: app.inventory.event-sourced.enabled)
+ * 
+ * Startup loads the newest bitmap snapshot and replays the booking journal from the sequence
+ * it covers, instead of reading every show_seats row through JPA. Without a usable snapshot
+ * the bitmaps are bootstrapped once from a (show, seat) projection of booked rows. The journal
+ * is then followed continuously and snapshots are written periodically.
+ * 
+ * Before serving, a random sample of shows is compared seat by seat with show_seats; drift in
+ * the sample (e.g. an in-memory database recreated under a kept journal) triggers the full
+ * check and repair before the inventory is ready. Otherwise the full check runs in the
+ * background once the inventory is serving.
+ * 
+ * All mutations (replay, repair, snapshot capture) run under this object's monitor; reads of
+ * individual shows are lock-free.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.event-sourced.enabled", havingValue = "true")
+@Slf4j
+public class EventSourcedSeatInventory {
+
+    private static final int REPLAY_BATCH = 4096;
+    private static final int REPAIR_CHUNK = 1000;
+    private static final int REPORTED_MISMATCHES = 100;
+
+    private final BookingJournal bookingJournal;
+    private final ShowRepository showRepository;
+    private final ShowSeatRepository showSeatRepository;
+    private final ScreenLayoutCache layouts;
+    private final InventorySnapshotStore snapshotStore;
+    private final TaskScheduler taskScheduler;
+    private final int startupCheckSample;
+
+    private final Map<Long, ShowInventory> shows = new ConcurrentHashMap<>();
+    private JournalTailer tailer;
+    private volatile boolean ready;
+
+    public EventSourcedSeatInventory(BookingJournal bookingJournal,
+                                     SeatRepository seatRepository,
+                                     ShowRepository showRepository,
+                                     ShowSeatRepository showSeatRepository,
+                                     TaskScheduler taskScheduler,
+                                     @Value("${app.inventory.event-sourced.snapshot-directory:data/inventory}") String snapshotDirectory,
+                                     @Value("${app.inventory.event-sourced.startup-check-sample:200}") int startupCheckSample) {
+        this.bookingJournal = bookingJournal;
+        this.showRepository = showRepository;
+        this.showSeatRepository = showSeatRepository;
+        this.layouts = new ScreenLayoutCache(seatRepository);
+        this.snapshotStore = new InventorySnapshotStore(Paths.get(snapshotDirectory));
+        this.taskScheduler = taskScheduler;
+        this.startupCheckSample = startupCheckSample;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        long startNanos = System.nanoTime();
+        layouts.loadAll();
+
+        long fromSequence = loadSnapshot().orElseGet(this::bootstrapFromDatabase);
+        tailer = bookingJournal.tail(fromSequence);
+        int replayed = replay();
+
+        InventoryConsistencyResponse sample = checkSample(startupCheckSample);
+        int repaired = 0;
+        if (sample.getMismatchedShows() > 0) {
+            log.warn("Seat inventory drifted in {} of {} sampled show(s); running the full check before serving",
+                     sample.getMismatchedShows(), sample.getCheckedShows());
+            repaired = checkConsistency(true).getRepairedShows();
+        } else {
+            taskScheduler.schedule(this::backgroundCheck, Instant.now());
+        }
+        ready = true;
+
+        log.info("Seat inventory ready in {} ms: {} shows, {} screens, {} journal events replayed, {} shows sampled, {} repaired",
+                 (System.nanoTime() - startNanos) / 1_000_000, shows.size(), layouts.size(),
+                 replayed, sample.getCheckedShows(), repaired);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<ShowInventory> getShow(Long showId) {
+        return Optional.ofNullable(shows.get(showId));
+    }
+
+    /**
+     * Journal sequence of the next event to apply
+     */
+    public long getJournalSequence() {
+        return tailer == null ? 0L : tailer.getNextSequence();
+    }
+
+    /**
+     * Reload one show from the database (it was changed by another node)
+     */
+    public synchronized void refreshShow(Long showId) {
+        if (ready) {
+            rebuildFromDatabase(List.of(showId));
+        }
+    }
+
+    /**
+     * A committed change never reached the journal - take the show from the database instead
+     */
+    @EventListener
+    public void onJournalGap(JournalGap gap) {
+        log.warn("Reloading show {} from the database after a journal gap", gap.change().showId());
+        refreshShow(gap.change().showId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.event-sourced.poll-interval-millis:100}")
+    public synchronized void followJournal() {
+        if (ready) {
+            replay();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.event-sourced.snapshot-interval-millis:300000}",
+               initialDelayString = "${app.inventory.event-sourced.snapshot-interval-millis:300000}")
+    public void writeSnapshot() {
+        if (!ready) {
+            return;
+        }
+        InventorySnapshotStore.Snapshot snapshot;
+        synchronized (this) {
+            replay();
+            List<InventorySnapshotStore.ShowSnapshot> captured = new ArrayList<>(shows.size());
+            for (ShowInventory show : shows.values()) {
+                captured.add(new InventorySnapshotStore.ShowSnapshot(
+                        show.getShowId(), show.getScreenId(), show.getSeatCount(), show.toWords()));
+            }
+            snapshot = new InventorySnapshotStore.Snapshot(tailer.getNextSequence(), captured);
+        }
+        try {
+            snapshotStore.write(snapshot);
+            log.debug("Wrote seat inventory snapshot at journal sequence {} ({} shows)",
+                      snapshot.journalSequence(), snapshot.shows().size());
+        } catch (IOException e) {
+            log.error("Unable to write seat inventory snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compare the booked seats of every upcoming show with show_seats, seat by seat
+     * Bookings committed but not yet journaled can show up as transient mismatches.
+     * 
+     * @param repair rebuild mismatched shows from the database
+     */
+    public synchronized InventoryConsistencyResponse checkConsistency(boolean repair) {
+        replay();
+        Map<Long, List<Long>> databaseBooked = new HashMap<>();
+        for (BookedSeatView view : showSeatRepository.findSeatViewsFrom(LocalDate.now(), SeatStatus.BOOKED)) {
+            databaseBooked.computeIfAbsent(view.showId(), id -> new ArrayList<>()).add(view.seatId());
+        }
+
+        Set<Long> showIds = new HashSet<>(databaseBooked.keySet());
+        shows.forEach((showId, show) -> {
+            if (show.getBookedCount() > 0) {
+                showIds.add(showId);
+            }
+        });
+        return compare(showIds, databaseBooked, repair);
+    }
+
+    /**
+     * Seat-by-seat comparison of up to sampleSize shows, preferring shows with booked seats
+     * (a stale bitmap usually has bookings the database does not)
+     */
+    synchronized InventoryConsistencyResponse checkSample(int sampleSize) {
+        replay();
+        List<Long> booked = new ArrayList<>();
+        List<Long> empty = new ArrayList<>();
+        shows.forEach((showId, show) -> (show.getBookedCount() > 0 ? booked : empty).add(showId));
+        Collections.shuffle(booked, ThreadLocalRandom.current());
+        Collections.shuffle(empty, ThreadLocalRandom.current());
+
+        List<Long> sample = new ArrayList<>(booked.subList(0, Math.min(sampleSize, booked.size())));
+        sample.addAll(empty.subList(0, Math.min(sampleSize - sample.size(), empty.size())));
+        return compare(sample, findBookedSeats(sample), false);
+    }
+
+    private void backgroundCheck() {
+        InventoryConsistencyResponse check = checkConsistency(true);
+        if (check.getMismatchedShows() > 0) {
+            log.warn("Background seat inventory check repaired {} of {} show(s)",
+                     check.getRepairedShows(), check.getCheckedShows());
+        } else {
+            log.info("Background seat inventory check: {} show(s) consistent", check.getCheckedShows());
+        }
+    }
+
+    private InventoryConsistencyResponse compare(Collection<Long> showIds, Map<Long, List<Long>> databaseBooked,
+                                                 boolean repair) {
+        List<ShowMismatch> mismatches = new ArrayList<>();
+        List<Long> mismatchedIds = new ArrayList<>();
+        for (Long showId : showIds) {
+            ShowInventory show = shows.get(showId);
+            List<Long> bookedSeatIds = databaseBooked.getOrDefault(showId, List.of());
+            int inventoryBooked = show == null ? 0 : show.getBookedCount();
+            int differingSeats = show == null ? bookedSeatIds.size() : differingSeats(show, bookedSeatIds);
+            if (differingSeats > 0) {
+                mismatchedIds.add(showId);
+                if (mismatches.size() < REPORTED_MISMATCHES) {
+                    mismatches.add(ShowMismatch.builder()
+                            .showId(showId)
+                            .inventoryBookedSeats(inventoryBooked)
+                            .databaseBookedSeats(bookedSeatIds.size())
+                            .differingSeats(differingSeats)
+                            .build());
+                }
+            }
+        }
+
+        int repaired = 0;
+        if (repair && !mismatchedIds.isEmpty()) {
+            log.warn("Seat inventory disagrees with show_seats for {} show(s); rebuilding them", mismatchedIds.size());
+            repaired = rebuildFromDatabase(mismatchedIds);
+        }
+
+        return InventoryConsistencyResponse.builder()
+                .journalSequence(tailer.getNextSequence())
+                .checkedShows(showIds.size())
+                .mismatchedShows(mismatchedIds.size())
+                .repairedShows(repaired)
+                .mismatches(mismatches)
+                .build();
+    }
+
+    /**
+     * Seats booked in exactly one of the bitmap and the database rows
+     */
+    private int differingSeats(ShowInventory show, List<Long> databaseSeatIds) {
+        ShowInventory expected = new ShowInventory(show.getShowId(), show.getScreenId(),
+                layouts.layoutFor(show.getScreenId()));
+        expected.book(databaseSeatIds);
+        long[] actualWords = show.toWords();
+        long[] expectedWords = expected.toWords();
+        if (Arrays.equals(actualWords, expectedWords)) {
+            return 0;
+        }
+        if (actualWords.length != expectedWords.length) {
+            return Math.max(show.getSeatCount(), expected.getSeatCount());
+        }
+        int differing = 0;
+        for (int i = 0; i < actualWords.length; i++) {
+            differing += Long.bitCount(actualWords[i] ^ expectedWords[i]);
+        }
+        return differing;
+    }
+
+    private Map<Long, List<Long>> findBookedSeats(List<Long> showIds) {
+        Map<Long, List<Long>> bookedByShow = new HashMap<>();
+        for (int from = 0; from < showIds.size(); from += REPAIR_CHUNK) {
+            List<Long> chunk = showIds.subList(from, Math.min(from + REPAIR_CHUNK, showIds.size()));
+            for (BookedSeatView view : showSeatRepository.findSeatViewsByShowIds(chunk, SeatStatus.BOOKED)) {
+                bookedByShow.computeIfAbsent(view.showId(), id -> new ArrayList<>()).add(view.seatId());
+            }
+        }
+        return bookedByShow;
+    }
+
+    private Optional<Long> loadSnapshot() {
+        Optional<InventorySnapshotStore.Snapshot> latest;
+        try {
+            latest = snapshotStore.readLatest();
+        } catch (IOException e) {
+            log.warn("Unable to read seat inventory snapshots: {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (latest.isEmpty()) {
+            return Optional.empty();
+        }
+        InventorySnapshotStore.Snapshot snapshot = latest.get();
+        if (snapshot.journalSequence() > bookingJournal.getWrittenUpTo()) {
+            log.warn("Seat inventory snapshot is ahead of the journal ({} > {}); ignoring it",
+                     snapshot.journalSequence(), bookingJournal.getWrittenUpTo());
+            return Optional.empty();
+        }
+        for (InventorySnapshotStore.ShowSnapshot show : snapshot.shows()) {
+            long[] layout = layouts.layoutFor(show.screenId());
+            if (layout.length == show.seatCount()) {
+                shows.put(show.showId(), new ShowInventory(show.showId(), show.screenId(), layout, show.words()));
+            }
+            // A changed screen layout is picked up by the consistency check
+        }
+        return Optional.of(snapshot.journalSequence());
+    }
+
+    /**
+     * Build bitmaps from booked show_seats rows; events journaled after the returned
+     * sequence are replayed on top (re-applying an already visible change is harmless)
+     */
+    private long bootstrapFromDatabase() {
+        long fromSequence = bookingJournal.getWrittenUpTo();
+        LocalDate today = LocalDate.now();
+        for (ShowScreenView view : showRepository.findShowScreensFrom(today)) {
+            shows.put(view.showId(), new ShowInventory(view.showId(), view.screenId(), layouts.layoutFor(view.screenId())));
+        }
+        for (BookedSeatView view : showSeatRepository.findSeatViewsFrom(today, SeatStatus.BOOKED)) {
+            ShowInventory show = shows.get(view.showId());
+            if (show != null) {
+                show.book(List.of(view.seatId()));
+            }
+        }
+        return fromSequence;
+    }
+
+    private int rebuildFromDatabase(List<Long> showIds) {
+        int rebuilt = 0;
+        for (int from = 0; from < showIds.size(); from += REPAIR_CHUNK) {
+            List<Long> chunk = showIds.subList(from, Math.min(from + REPAIR_CHUNK, showIds.size()));
+            Map<Long, List<Long>> bookedByShow = findBookedSeats(chunk);
+            for (Long showId : chunk) {
+                Optional<ShowScreenView> screen = showRepository.findShowScreenById(showId);
+                if (screen.isEmpty()) {
+                    shows.remove(showId);
+                    continue;
+                }
+                ShowInventory show = new ShowInventory(showId, screen.get().screenId(),
+                        layouts.layoutFor(screen.get().screenId()));
+                show.book(bookedByShow.getOrDefault(showId, List.of()));
+                shows.put(showId, show);
+                rebuilt++;
+            }
+        }
+        return rebuilt;
+    }
+
+    private int replay() {
+        int applied = 0;
+        List<JournalEntry> batch;
+        do {
+            batch = tailer.poll(REPLAY_BATCH);
+            for (JournalEntry entry : batch) {
+                apply(entry.change());
+            }
+            applied += batch.size();
+        } while (batch.size() == REPLAY_BATCH);
+        return applied;
+    }
+
+    private void apply(BookingStateChange change) {
+        ShowInventory show = inventoryFor(change.showId());
+        if (show == null) {
+            return;
+        }
+        switch (change.type()) {
+            case BOOKED -> show.book(change.seatIds());
+            case CANCELLED -> show.release(change.seatIds());
+            case SHOW_CANCELLED -> show.releaseAll();
+            case HELD, EXPIRED -> {
+                // Holds are not part of the booked bitmap
+            }
+        }
+    }
+
+    private ShowInventory inventoryFor(long showId) {
+        ShowInventory show = shows.get(showId);
+        if (show != null) {
+            return show;
+        }
+        return showRepository.findShowScreenById(showId)
+                .map(view -> shows.computeIfAbsent(showId,
+                        id -> new ShowInventory(id, view.screenId(), layouts.layoutFor(view.screenId()))))
+                .orElse(null);
+    }
+}
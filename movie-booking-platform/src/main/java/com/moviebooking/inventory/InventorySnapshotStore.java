@@ -0,0 +1,136 @@
+package com.moviebooking.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot files of the seat inventory, named after the journal sequence they cover
+ * 
+ * Layout: int magic, int version, long journalSequence, int showCount, then per show
+ * long showId, long screenId, int seatCount and the packed bitmap words; trailing crc32c.
+ * Written to a temp file and atomically renamed; the newest two snapshots are kept.
+ */
+@Slf4j
+class InventorySnapshotStore {
+
+    private static final int MAGIC = 0x53494E56; // "SINV"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "inventory-";
+    private static final String SUFFIX = ".snapshot";
+    private static final int RETAINED = 2;
+
+    record ShowSnapshot(long showId, long screenId, int seatCount, long[] words) {}
+
+    record Snapshot(long journalSequence, List<ShowSnapshot> shows) {}
+
+    private final Path directory;
+
+    InventorySnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    void write(Snapshot snapshot) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, snapshot.journalSequence(), SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (CheckedOutputStream checked = new CheckedOutputStream(
+                     new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.journalSequence());
+            out.writeInt(snapshot.shows().size());
+            for (ShowSnapshot show : snapshot.shows()) {
+                out.writeLong(show.showId());
+                out.writeLong(show.screenId());
+                out.writeInt(show.seatCount());
+                for (long word : show.words()) {
+                    out.writeLong(word);
+                }
+            }
+            out.flush();
+            out.writeInt((int) crc.getValue());
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        List<Path> snapshots = listNewestFirst();
+        for (int i = RETAINED; i < snapshots.size(); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    /**
+     * Newest readable snapshot; corrupt files are skipped in favour of older ones
+     */
+    Optional<Snapshot> readLatest() throws IOException {
+        for (Path file : listNewestFirst()) {
+            try {
+                return Optional.of(read(file));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable inventory snapshot {}: {}", file, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Snapshot read(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (CheckedInputStream checked = new CheckedInputStream(
+                     new BufferedInputStream(Files.newInputStream(file), 1 << 16), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an inventory snapshot (version " + VERSION + ")");
+            }
+            long journalSequence = in.readLong();
+            int showCount = in.readInt();
+            List<ShowSnapshot> shows = new ArrayList<>(showCount);
+            for (int i = 0; i < showCount; i++) {
+                long showId = in.readLong();
+                long screenId = in.readLong();
+                int seatCount = in.readInt();
+                long[] words = new long[ShowInventory.wordCount(seatCount)];
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = in.readLong();
+                }
+                shows.add(new ShowSnapshot(showId, screenId, seatCount, words));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Checksum mismatch");
+            }
+            return new Snapshot(journalSequence, shows);
+        }
+    }
+
+    private List<Path> listNewestFirst() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.moviebooking.inventory;
+
+import com.moviebooking.dto.projection.SeatLayoutView;
+import com.moviebooking.repository.SeatRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat ids of each screen in ascending order, shared by every show on that screen
+ * Loaded in one query at startup; screens seen later are loaded on demand
+ */
+class ScreenLayoutCache {
+
+    private static final long[] NO_SEATS = new long[0];
+
+    private final SeatRepository seatRepository;
+    private final Map<Long, long[]> layouts = new ConcurrentHashMap<>();
+
+    ScreenLayoutCache(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+
+    void loadAll() {
+        Long screenId = null;
+        List<Long> seatIds = new ArrayList<>();
+        for (SeatLayoutView view : seatRepository.findAllLayoutViews()) {
+            if (!view.screenId().equals(screenId)) {
+                if (screenId != null) {
+                    layouts.put(screenId, toArray(seatIds));
+                }
+                screenId = view.screenId();
+                seatIds.clear();
+            }
+            seatIds.add(view.seatId());
+        }
+        if (screenId != null) {
+            layouts.put(screenId, toArray(seatIds));
+        }
+    }
+
+    long[] layoutFor(long screenId) {
+        return layouts.computeIfAbsent(screenId, id -> toArray(seatRepository.findSeatIdsByScreenId(id)));
+    }
+
+    int size() {
+        return layouts.size();
+    }
+
+    private static long[] toArray(List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return NO_SEATS;
+        }
+        long[] layout = new long[seatIds.size()];
+        for (int i = 0; i < layout.length; i++) {
+            layout[i] = seatIds.get(i);
+        }
+        return layout;
+    }
+}
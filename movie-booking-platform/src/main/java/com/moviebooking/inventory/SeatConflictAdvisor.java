@@ -0,0 +1,100 @@
+package com.moviebooking.inventory;
+
+import com.moviebooking.dto.response.SeatConflictResponse;
+import com.moviebooking.dto.response.SeatConflictResponse.AlternativeSeat;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.pricing.Paise;
+import com.moviebooking.pricing.SeatCategoryLayout;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.pricing.ShowPriceTable;
+import com.moviebooking.repository.ShowSeatRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Describes a seat conflict so the client can re-offer seats without refetching the seat map
+ * 
+ * For every taken seat the closest available seat of the same category is suggested, from
+ * the cached screen layout and price table. Availability comes from the event-sourced
+ * inventory when it is enabled (it may lag by a poll interval - suggestions are advisory),
+ * otherwise from one indexed query for the show's available seat ids.
+ */
+@Component
+public class SeatConflictAdvisor {
+
+    private final ShowPriceCache showPriceCache;
+    private final ShowSeatRepository showSeatRepository;
+    private final EventSourcedSeatInventory seatInventory; // null when disabled
+
+    public SeatConflictAdvisor(ShowPriceCache showPriceCache,
+                               ShowSeatRepository showSeatRepository,
+                               ObjectProvider<EventSourcedSeatInventory> seatInventory) {
+        this.showPriceCache = showPriceCache;
+        this.showSeatRepository = showSeatRepository;
+        this.seatInventory = seatInventory.getIfAvailable();
+    }
+
+    /**
+     * @param requestedSeatIds every seat of the request (never suggested)
+     * @param takenSeatIds the requested seats that are no longer available, ascending
+     */
+    public SeatConflictResponse describe(Long showId, Collection<Long> requestedSeatIds, List<Long> takenSeatIds) {
+        ShowPriceTable priceTable = showPriceCache.get(showId);
+        SeatCategoryLayout layout = showPriceCache.layout(priceTable.getScreenId());
+        LongPredicate available = availability(showId);
+
+        long[] requested = requestedSeatIds.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        List<AlternativeSeat> alternatives = new ArrayList<>(takenSeatIds.size());
+        for (Long takenSeatId : takenSeatIds) {
+            long seatId = layout.nearest(takenSeatId, id ->
+                    Arrays.binarySearch(requested, id) < 0 && !isSuggested(alternatives, id) && available.test(id));
+            if (seatId < 0) {
+                continue;
+            }
+            SeatCategory category = layout.category(seatId);
+            long pricePaise = priceTable.pricePaise(seatId, category);
+            alternatives.add(AlternativeSeat.builder()
+                    .seatId(seatId)
+                    .seatIdentifier(layout.identifier(seatId))
+                    .category(category.getDisplayName())
+                    .price(pricePaise == ShowPriceTable.NOT_PRICED ? null : Paise.toRupees(pricePaise))
+                    .replacesSeatId(takenSeatId)
+                    .build());
+        }
+
+        return SeatConflictResponse.builder()
+                .showId(showId)
+                .takenSeatIds(takenSeatIds)
+                .alternatives(alternatives)
+                .build();
+    }
+
+    private LongPredicate availability(Long showId) {
+        if (seatInventory != null && seatInventory.isReady()) {
+            ShowInventory show = seatInventory.getShow(showId).orElse(null);
+            if (show != null) {
+                return seatId -> !show.isBooked(seatId);
+            }
+        }
+        long[] availableSeatIds = showSeatRepository.findAvailableSeatIdsByShowId(showId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        return seatId -> Arrays.binarySearch(availableSeatIds, seatId) >= 0;
+    }
+
+    private static boolean isSuggested(List<AlternativeSeat> alternatives, long seatId) {
+        for (AlternativeSeat alternative : alternatives) {
+            if (alternative.getSeatId() == seatId) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+package com.moviebooking.inventory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Booked-seat bitmap of one show
+ * 
+ * Bit i is set when the i-th seat of the screen layout (ascending seat id) is booked.
+ * Mutated only by the inventory's single writer; reads are lock-free.
+ */
+public final class ShowInventory {
+
+    private final long showId;
+    private final long screenId;
+    private final long[] layout;
+    private final AtomicLongArray booked;
+    private final AtomicInteger bookedCount = new AtomicInteger();
+
+    ShowInventory(long showId, long screenId, long[] layout) {
+        this.showId = showId;
+        this.screenId = screenId;
+        this.layout = layout;
+        this.booked = new AtomicLongArray(wordCount(layout.length));
+    }
+
+    ShowInventory(long showId, long screenId, long[] layout, long[] words) {
+        this(showId, screenId, layout);
+        int count = 0;
+        for (int i = 0; i < words.length; i++) {
+            booked.set(i, words[i]);
+            count += Long.bitCount(words[i]);
+        }
+        bookedCount.set(count);
+    }
+
+    static int wordCount(int seatCount) {
+        return (seatCount + 63) >>> 6;
+    }
+
+    public long getShowId() {
+        return showId;
+    }
+
+    public long getScreenId() {
+        return screenId;
+    }
+
+    public int getSeatCount() {
+        return layout.length;
+    }
+
+    public int getBookedCount() {
+        return bookedCount.get();
+    }
+
+    public int getAvailableCount() {
+        return layout.length - bookedCount.get();
+    }
+
+    public boolean isBooked(long seatId) {
+        int index = Arrays.binarySearch(layout, seatId);
+        return index >= 0 && (booked.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    void book(Iterable<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            update(seatId, true);
+        }
+    }
+
+    void release(Iterable<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            update(seatId, false);
+        }
+    }
+
+    void releaseAll() {
+        for (int i = 0; i < booked.length(); i++) {
+            booked.set(i, 0L);
+        }
+        bookedCount.set(0);
+    }
+
+    long[] toWords() {
+        long[] words = new long[booked.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = booked.get(i);
+        }
+        return words;
+    }
+
+    private void update(long seatId, boolean book) {
+        int index = Arrays.binarySearch(layout, seatId);
+        if (index < 0) {
+            return; // not a seat of this screen
+        }
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long previous = book
+                ? booked.getAndAccumulate(word, mask, (w, m) -> w | m)
+                : booked.getAndAccumulate(word, mask, (w, m) -> w & ~m);
+        boolean wasBooked = (previous & mask) != 0;
+        if (book && !wasBooked) {
+            bookedCount.incrementAndGet();
+        } else if (!book && wasBooked) {
+            bookedCount.decrementAndGet();
+        }
+    }
+}
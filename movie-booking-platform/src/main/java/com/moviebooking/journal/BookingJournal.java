@@ -0,0 +1,356 @@
+package com.moviebooking.journal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only binary journal of booking state changes
+ * 
+ * Records are copied into a memory-mapped segment file under a short lock; a single flusher
+ * thread forces dirty pages to disk every flush interval, so one fsync covers every append
+ * since the previous one (group commit). With sync-writes enabled, append() returns only once
+ * its record is durable; otherwise durability lags by at most one flush interval.
+ * 
+ * Segments are named after their first sequence and rolled when full. On startup the last
+ * segment is scanned to the last valid record, discarding a torn tail.
+ * 
+ * Opt-in (app.journal.enabled). The database stays the source of truth, and the journal is a
+ * best-effort trail of it with these limits:
+ * - Order is append order, not commit order. Changes are appended after their transactions
+ *   commit, so concurrent commits can be journaled out of order, e.g. a SHOW_CANCELLED ahead
+ *   of a racing BOOKED that committed first. Replaying them gives a different end state.
+ * - A change is lost if the process dies between commit and append, or if the append fails
+ *   (BookingJournalListener flags the latter as a JournalGap).
+ * - Without sync-writes, a crash loses up to one flush interval of appended records.
+ * Consumers that need exact state must reconcile against show_seats, as the event-sourced
+ * seat inventory does.
+ */
+@Component
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class BookingJournal {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalMillis;
+    private final boolean syncWrites;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition durableAdvanced = lock.newCondition();
+
+    // Guarded by lock
+    private Segment current;
+    private long nextSequence;
+    private boolean running;
+
+    // Published for readers and the flusher
+    private volatile long writtenUpTo;
+    private volatile long durableUpTo;
+
+    private Thread flusher;
+
+    public BookingJournal(@Value("${app.journal.directory:data/journal}") String directory,
+                          @Value("${app.journal.segment-size-mb:64}") int segmentSizeMb,
+                          @Value("${app.journal.flush-interval-millis:5}") long flushIntervalMillis,
+                          @Value("${app.journal.sync-writes:false}") boolean syncWrites,
+                          MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.syncWrites = syncWrites;
+        Gauge.builder("booking.journal.written", this, j -> j.writtenUpTo)
+                .description("Next journal sequence to be written")
+                .register(meterRegistry);
+        Gauge.builder("booking.journal.durable", this, j -> j.durableUpTo)
+                .description("Journal sequences below this value are forced to disk")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments(directory);
+            if (segments.isEmpty()) {
+                current = Segment.create(directory, 0L, segmentSize);
+                nextSequence = 0L;
+            } else {
+                recover(segments.get(segments.size() - 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open booking journal in " + directory, e);
+        }
+        writtenUpTo = nextSequence;
+        durableUpTo = nextSequence;
+        running = true;
+
+        flusher = new Thread(this::flushLoop, "booking-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Booking journal open at {} (next sequence {})", directory.toAbsolutePath(), nextSequence);
+    }
+
+    /**
+     * Append a state change
+     * 
+     * @return the sequence assigned to the record
+     */
+    public long append(BookingStateChange change) {
+        long sequence;
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Booking journal is closed");
+            }
+            sequence = nextSequence;
+            byte[] record = JournalCodec.encode(sequence, System.currentTimeMillis(), change);
+            if (record.length + JournalCodec.LENGTH_BYTES > segmentSize) {
+                throw new IllegalArgumentException("Journal record larger than a segment: " + record.length);
+            }
+            if (current.buffer.remaining() < record.length + JournalCodec.LENGTH_BYTES) {
+                roll(sequence);
+            }
+            current.buffer.put(record);
+            nextSequence = sequence + 1;
+            writtenUpTo = nextSequence;
+            if (syncWrites) {
+                flushRequested.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (syncWrites) {
+            awaitDurable(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * Block until the given sequence has been forced to disk
+     */
+    public void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableUpTo <= sequence && running) {
+                flushRequested.signal();
+                durableAdvanced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Open a reader positioned at the given sequence (0 for the start of the retained journal)
+     */
+    public JournalTailer tail(long fromSequence) {
+        return new JournalTailer(this, fromSequence);
+    }
+
+    public long getWrittenUpTo() {
+        return writtenUpTo;
+    }
+
+    public long getDurableUpTo() {
+        return durableUpTo;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            flushRequested.signalAll();
+            durableAdvanced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            current.buffer.force();
+            current.close();
+            durableUpTo = writtenUpTo;
+        } catch (IOException e) {
+            log.warn("Error closing booking journal segment: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+        log.info("Booking journal closed at sequence {}", writtenUpTo);
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void recover(Path lastSegment) throws IOException {
+        long firstSequence = firstSequenceOf(lastSegment);
+        Segment segment = Segment.open(lastSegment, segmentSize);
+        long expected = firstSequence;
+        while (true) {
+            int position = segment.buffer.position();
+            if (segment.buffer.remaining() >= JournalCodec.LENGTH_BYTES
+                    && segment.buffer.getInt(position) == JournalCodec.END_OF_SEGMENT) {
+                segment.close();
+                current = Segment.create(directory, expected, segmentSize);
+                nextSequence = expected;
+                return;
+            }
+            JournalEntry entry = JournalCodec.decode(segment.buffer);
+            if (entry == null || entry.sequence() != expected) {
+                segment.buffer.position(position);
+                break;
+            }
+            expected++;
+        }
+        // Clear a torn tail so readers never mistake it for a record
+        if (segment.buffer.remaining() >= JournalCodec.LENGTH_BYTES
+                && segment.buffer.getInt(segment.buffer.position()) != 0) {
+            ByteBuffer tail = segment.buffer.duplicate();
+            while (tail.hasRemaining()) {
+                tail.put((byte) 0);
+            }
+            log.warn("Discarded torn booking journal tail in {} after sequence {}", lastSegment, expected - 1);
+        }
+        current = segment;
+        nextSequence = expected;
+    }
+
+    private void roll(long firstSequenceOfNext) {
+        try {
+            current.buffer.putInt(JournalCodec.END_OF_SEGMENT);
+            current.buffer.force();
+            current.close();
+            durableUpTo = firstSequenceOfNext;
+            durableAdvanced.signalAll();
+            current = Segment.create(directory, firstSequenceOfNext, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to roll booking journal segment", e);
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            Segment segment;
+            int from;
+            int to;
+            long upTo;
+            lock.lock();
+            try {
+                if (running && writtenUpTo == durableUpTo) {
+                    flushRequested.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+                if (!running) {
+                    return;
+                }
+                segment = current;
+                from = segment.forcedPosition;
+                to = segment.buffer.position();
+                upTo = writtenUpTo;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            if (upTo == durableUpTo) {
+                continue;
+            }
+            try {
+                // One force for everything appended since the last one
+                segment.buffer.force(from, to - from);
+            } catch (RuntimeException e) {
+                log.error("Booking journal flush failed: {}", e.getMessage());
+                continue;
+            }
+
+            lock.lock();
+            try {
+                segment.forcedPosition = Math.max(segment.forcedPosition, to);
+                if (upTo > durableUpTo) {
+                    durableUpTo = upTo;
+                }
+                durableAdvanced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Segment {
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int forcedPosition;
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path directory, long firstSequence, int size) throws IOException {
+            Path path = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+            return open(path, size);
+        }
+
+        static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(channel, buffer);
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
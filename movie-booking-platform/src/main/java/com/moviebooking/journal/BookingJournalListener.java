@@ -0,0 +1,50 @@
+package com.moviebooking.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends booking state changes to the journal once their transaction has committed,
+ * so rolled-back bookings never appear in it
+ * 
+ * The booking is already committed when the append runs, so a failed append cannot fail the
+ * request. It is flagged instead: logged at ERROR, counted in booking.journal.gaps and
+ * published as a JournalGap so journal consumers resync the show from the database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class BookingJournalListener {
+
+    private final BookingJournal bookingJournal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter gapCounter;
+
+    public BookingJournalListener(BookingJournal bookingJournal,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.bookingJournal = bookingJournal;
+        this.eventPublisher = eventPublisher;
+        this.gapCounter = Counter.builder("booking.journal.gaps")
+                .description("Committed booking state changes missing from the journal")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookingStateChange(BookingStateChange change) {
+        try {
+            bookingJournal.append(change);
+        } catch (RuntimeException e) {
+            gapCounter.increment();
+            log.error("Journal gap: committed {} for booking {} (show {}) was not journaled: {}",
+                      change.type(), change.bookingReference(), change.showId(), e.getMessage(), e);
+            eventPublisher.publishEvent(new JournalGap(change, e.getMessage()));
+        }
+    }
+}
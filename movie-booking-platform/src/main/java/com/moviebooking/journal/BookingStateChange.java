@@ -0,0 +1,32 @@
+package com.moviebooking.journal;
+
+import com.moviebooking.enums.BookingEventType;
+
+import java.util.List;
+
+/**
+ * A booking state change, published as an application event inside the booking transaction
+ * and appended to the journal only once that transaction commits
+ * 
+ * SHOW_CANCELLED carries no booking: every booked seat of the show was released.
+ */
+public record BookingStateChange(
+        BookingEventType type,
+        long showId,
+        long bookingId,
+        String bookingReference,
+        List<Long> seatIds
+) {
+
+    public static BookingStateChange booked(long showId, long bookingId, String bookingReference, List<Long> seatIds) {
+        return new BookingStateChange(BookingEventType.BOOKED, showId, bookingId, bookingReference, seatIds);
+    }
+
+    public static BookingStateChange cancelled(long showId, long bookingId, String bookingReference, List<Long> seatIds) {
+        return new BookingStateChange(BookingEventType.CANCELLED, showId, bookingId, bookingReference, seatIds);
+    }
+
+    public static BookingStateChange showCancelled(long showId) {
+        return new BookingStateChange(BookingEventType.SHOW_CANCELLED, showId, 0L, "", List.of());
+    }
+}
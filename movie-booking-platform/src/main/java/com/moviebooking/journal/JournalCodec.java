@@ -0,0 +1,109 @@
+package com.moviebooking.journal;
+
+import com.moviebooking.enums.BookingEventType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary record layout (big-endian):
+ * 
+ *   int   length         bytes that follow, including the checksum
+ *   long  sequence
+ *   long  timestampMillis
+ *   byte  eventType
+ *   long  showId
+ *   long  bookingId
+ *   short referenceLength, then UTF-8 reference bytes
+ *   int   seatCount, then seatCount longs
+ *   int   crc32c         over everything between length and crc
+ * 
+ * A length of 0 means no record has been written yet (mapped files are zero-filled);
+ * END_OF_SEGMENT means the writer rolled over to the next segment file.
+ */
+final class JournalCodec {
+
+    static final int END_OF_SEGMENT = -1;
+    static final int LENGTH_BYTES = Integer.BYTES;
+
+    private static final int FIXED_BODY_BYTES =
+            Long.BYTES * 4 + Byte.BYTES + Short.BYTES + Integer.BYTES;
+
+    private JournalCodec() {
+    }
+
+    static byte[] encode(long sequence, long timestampMillis, BookingStateChange change) {
+        byte[] reference = change.bookingReference() == null
+                ? new byte[0]
+                : change.bookingReference().getBytes(StandardCharsets.UTF_8);
+        List<Long> seatIds = change.seatIds() == null ? List.of() : change.seatIds();
+
+        int bodyLength = FIXED_BODY_BYTES + reference.length + Long.BYTES * seatIds.size();
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_BYTES + bodyLength + Integer.BYTES);
+        buffer.putInt(bodyLength + Integer.BYTES);
+        buffer.putLong(sequence);
+        buffer.putLong(timestampMillis);
+        buffer.put(change.type().getCode());
+        buffer.putLong(change.showId());
+        buffer.putLong(change.bookingId());
+        buffer.putShort((short) reference.length);
+        buffer.put(reference);
+        buffer.putInt(seatIds.size());
+        for (Long seatId : seatIds) {
+            buffer.putLong(seatId);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), LENGTH_BYTES, bodyLength);
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decode the record at the buffer's position and advance past it
+     * 
+     * @return the entry, or null (position unchanged) if no complete valid record is there
+     */
+    static JournalEntry decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < LENGTH_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length <= Integer.BYTES || length > buffer.remaining() - LENGTH_BYTES) {
+            return null;
+        }
+
+        int bodyStart = start + LENGTH_BYTES;
+        int bodyLength = length - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        ByteBuffer body = buffer.duplicate();
+        body.position(bodyStart).limit(bodyStart + bodyLength);
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(bodyStart + bodyLength)) {
+            return null;
+        }
+
+        buffer.position(bodyStart);
+        long sequence = buffer.getLong();
+        long timestampMillis = buffer.getLong();
+        BookingEventType type = BookingEventType.fromCode(buffer.get());
+        long showId = buffer.getLong();
+        long bookingId = buffer.getLong();
+        byte[] reference = new byte[buffer.getShort()];
+        buffer.get(reference);
+        int seatCount = buffer.getInt();
+        List<Long> seatIds = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            seatIds.add(buffer.getLong());
+        }
+        buffer.position(bodyStart + length);
+
+        BookingStateChange change = new BookingStateChange(
+                type, showId, bookingId, new String(reference, StandardCharsets.UTF_8), List.copyOf(seatIds));
+        return new JournalEntry(sequence, timestampMillis, change);
+    }
+}
@@ -0,0 +1,7 @@
+package com.moviebooking.journal;
+
+/**
+ * A state change as read back from the journal
+ * Sequences are gap-free and strictly increasing across segments
+ */
+public record JournalEntry(long sequence, long timestampMillis, BookingStateChange change) {}
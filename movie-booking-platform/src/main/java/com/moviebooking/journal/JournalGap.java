@@ -0,0 +1,9 @@
+package com.moviebooking.journal;
+
+/**
+ * A committed booking state change that could not be appended to the journal
+ * 
+ * Published so journal consumers can reload the show from the database instead of
+ * silently missing the change.
+ */
+public record JournalGap(BookingStateChange change, String reason) {}
@@ -0,0 +1,82 @@
+package com.moviebooking.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sequential reader over the booking journal for downstream consumers
+ * 
+ * Reads through its own read-only mapping and never past the writer's published sequence,
+ * so it only sees complete records. Call poll() repeatedly to follow the journal as it grows;
+ * an empty result means the reader has caught up. Not thread-safe - one tailer per consumer.
+ */
+public class JournalTailer {
+
+    private final BookingJournal journal;
+    private MappedByteBuffer segment;
+    private long nextSequence;
+
+    JournalTailer(BookingJournal journal, long fromSequence) {
+        this.journal = journal;
+        this.nextSequence = fromSequence;
+    }
+
+    /**
+     * Read up to maxEntries entries from the current position
+     */
+    public List<JournalEntry> poll(int maxEntries) {
+        List<JournalEntry> entries = new ArrayList<>(Math.min(maxEntries, 256));
+        while (entries.size() < maxEntries && nextSequence < journal.getWrittenUpTo()) {
+            if (segment == null) {
+                segment = openSegmentContaining(nextSequence);
+            }
+            if (segment.remaining() >= JournalCodec.LENGTH_BYTES
+                    && segment.getInt(segment.position()) == JournalCodec.END_OF_SEGMENT) {
+                segment = null;
+                continue;
+            }
+            JournalEntry entry = JournalCodec.decode(segment);
+            if (entry == null) {
+                throw new IllegalStateException("Corrupt booking journal record before sequence " + nextSequence);
+            }
+            if (entry.sequence() < nextSequence) {
+                continue; // positioning inside the first segment
+            }
+            entries.add(entry);
+            nextSequence = entry.sequence() + 1;
+        }
+        return entries;
+    }
+
+    /**
+     * Sequence of the next entry poll() will return
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    private MappedByteBuffer openSegmentContaining(long sequence) {
+        try {
+            Path match = null;
+            for (Path candidate : BookingJournal.listSegments(journal.getDirectory())) {
+                if (BookingJournal.firstSequenceOf(candidate) <= sequence) {
+                    match = candidate;
+                }
+            }
+            if (match == null) {
+                throw new IllegalStateException("Booking journal no longer retains sequence " + sequence);
+            }
+            try (FileChannel channel = FileChannel.open(match, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open booking journal segment", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.moviebooking.notification;
+
+import com.moviebooking.enums.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local stub sink - logs deliveries and keeps the most recent ones in memory
+ * Replace with a real gateway by providing another NotificationSink bean
+ */
+@Component
+@Slf4j
+public class InMemoryNotificationSink implements NotificationSink {
+
+    private final int capacity;
+    private final Deque<NotificationMessage> delivered;
+
+    public InMemoryNotificationSink(@Value("${app.notifications.stub.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        this.delivered = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void deliver(NotificationChannel channel, List<NotificationMessage> batch) {
+        for (NotificationMessage message : batch) {
+            if (delivered.size() == capacity) {
+                delivered.removeFirst();
+            }
+            delivered.addLast(message);
+        }
+        log.info("Delivered {} {} notification(s)", batch.size(), channel);
+    }
+
+    public synchronized List<NotificationMessage> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public synchronized void clear() {
+        delivered.clear();
+    }
+}
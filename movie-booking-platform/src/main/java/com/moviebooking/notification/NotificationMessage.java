@@ -0,0 +1,17 @@
+package com.moviebooking.notification;
+
+import com.moviebooking.enums.NotificationChannel;
+import com.moviebooking.enums.OutboxEventType;
+
+/**
+ * A single notification handed to a NotificationSink
+ * eventId is the outbox row id - stable across redeliveries, usable as an idempotency key
+ */
+public record NotificationMessage(
+        Long eventId,
+        OutboxEventType eventType,
+        NotificationChannel channel,
+        String recipient,
+        String bookingReference,
+        String payload
+) {}
@@ -0,0 +1,16 @@
+package com.moviebooking.notification;
+
+import com.moviebooking.enums.NotificationChannel;
+
+import java.util.List;
+
+/**
+ * Delivery endpoint for booking notifications (mail gateway, SMS provider, partner API)
+ * 
+ * Receives one batch per channel. Throwing fails the whole batch, which is retried later;
+ * delivery is at-least-once, so implementations should de-duplicate on eventId.
+ */
+public interface NotificationSink {
+
+    void deliver(NotificationChannel channel, List<NotificationMessage> batch);
+}
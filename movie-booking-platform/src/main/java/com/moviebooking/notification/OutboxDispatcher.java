@@ -0,0 +1,165 @@
+package com.moviebooking.notification;
+
+import com.moviebooking.entity.OutboxEvent;
+import com.moviebooking.enums.NotificationChannel;
+import com.moviebooking.enums.OutboxStatus;
+import com.moviebooking.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Background dispatcher draining the transactional outbox
+ * 
+ * Each cycle claims up to maxBatchesPerCycle batches of due events, groups each batch by
+ * channel and hands every group to the sink in one call. A channel whose delivery fails is
+ * paused for the rest of the cycle and its events are rescheduled with exponential backoff,
+ * so a slow or failing downstream never builds unbounded work. Delivery is at-least-once:
+ * rows are marked SENT only after the sink returns.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationSink notificationSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerCycle;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            NotificationSink notificationSink,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.notifications.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.notifications.outbox.max-batches-per-cycle:10}") int maxBatchesPerCycle,
+                            @Value("${app.notifications.outbox.max-attempts:8}") int maxAttempts,
+                            @Value("${app.notifications.outbox.base-backoff-seconds:5}") long baseBackoffSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.notificationSink = notificationSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerCycle = maxBatchesPerCycle;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.sentCounter = meterRegistry.counter("notification.outbox.sent");
+        this.retryCounter = meterRegistry.counter("notification.outbox.retried");
+        this.failedCounter = meterRegistry.counter("notification.outbox.failed");
+        Gauge.builder("notification.outbox.pending", outboxEventRepository,
+                        repo -> repo.countByStatus(OutboxStatus.PENDING))
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        Set<NotificationChannel> pausedChannels = EnumSet.noneOf(NotificationChannel.class);
+        for (int i = 0; i < maxBatchesPerCycle; i++) {
+            Integer claimed = transactionTemplate.execute(status -> dispatchBatch(pausedChannels));
+            if (claimed == null || claimed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.outbox.purge-cron:0 0 * * * *}")
+    public void purgeSent() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        Integer purged = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteSentBefore(OutboxStatus.SENT, cutoff));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} delivered outbox event(s)", purged);
+        }
+    }
+
+    private int dispatchBatch(Set<NotificationChannel> pausedChannels) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.claimDue(
+                OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<NotificationChannel, List<OutboxEvent>> byChannel = new EnumMap<>(NotificationChannel.class);
+        for (OutboxEvent event : batch) {
+            byChannel.computeIfAbsent(event.getChannel(), c -> new ArrayList<>()).add(event);
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (Map.Entry<NotificationChannel, List<OutboxEvent>> entry : byChannel.entrySet()) {
+            NotificationChannel channel = entry.getKey();
+            List<OutboxEvent> events = entry.getValue();
+            if (pausedChannels.contains(channel)) {
+                reschedule(events, now, "Channel paused after delivery failure", false);
+                continue;
+            }
+            try {
+                notificationSink.deliver(channel, events.stream().map(this::toMessage).toList());
+                events.forEach(e -> sentIds.add(e.getId()));
+            } catch (RuntimeException e) {
+                log.warn("Delivery of {} {} notification(s) failed: {}", events.size(), channel, e.getMessage());
+                pausedChannels.add(channel);
+                reschedule(events, now, e.getMessage(), true);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, OutboxStatus.SENT, now);
+            sentCounter.increment(sentIds.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Back off failed (or skipped) events; give up after maxAttempts
+     * Events skipped because their channel is paused are not charged an attempt
+     */
+    private void reschedule(List<OutboxEvent> events, LocalDateTime now, String error, boolean charged) {
+        for (OutboxEvent event : events) {
+            int attempts = event.getAttempts() + (charged ? 1 : 0);
+            event.setAttempts(attempts);
+            event.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 500)));
+            if (attempts >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                failedCounter.increment();
+                log.error("Giving up on {} notification {} for booking {} after {} attempts",
+                          event.getChannel(), event.getId(), event.getAggregateId(), attempts);
+            } else {
+                long delaySeconds = baseBackoffSeconds << Math.min(Math.max(attempts - 1, 0), 10);
+                event.setNextAttemptAt(now.plusSeconds(delaySeconds));
+                if (charged) {
+                    retryCounter.increment();
+                }
+            }
+        }
+    }
+
+    private NotificationMessage toMessage(OutboxEvent event) {
+        return new NotificationMessage(
+                event.getId(),
+                event.getEventType(),
+                event.getChannel(),
+                event.getRecipient(),
+                event.getAggregateId(),
+                event.getPayload());
+    }
+}
@@ -0,0 +1,68 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.enums.SeatCategory;
+
+/**
+ * Immutable, pre-digested form of an OfferRule
+ * The discount percentage is converted to basis points once here rather than per booking
+ */
+final class CompiledOfferRule {
+
+    final String code;
+    final OfferDiscountType type;
+    final int basisPoints;
+    final int nthTicket;
+    final SeatCategory category; // null = all categories
+    final String appliedName;
+    final String summary;
+    // Presentation, for the offer catalogue
+    final double discountPercent;
+    final int displayOrder;
+    final String description;
+    final String details;
+    final String terms;
+
+    private final Integer startHour;
+    private final Integer endHour;
+    private final Long theatreId;
+
+    CompiledOfferRule(OfferRule rule) {
+        this.code = rule.getCode();
+        this.type = rule.getDiscountType();
+        this.basisPoints = Paise.basisPoints(rule.getDiscountPercent());
+        this.nthTicket = rule.getNthTicket() == null ? 1 : rule.getNthTicket();
+        this.category = rule.getSeatCategory();
+        this.appliedName = rule.getAppliedName();
+        this.summary = rule.getSummary();
+        this.discountPercent = rule.getDiscountPercent();
+        this.displayOrder = rule.getDisplayOrder();
+        this.description = rule.getDescription();
+        this.details = rule.getDetails();
+        this.terms = rule.getTerms();
+        this.startHour = rule.getStartHour();
+        this.endHour = rule.getEndHour();
+        this.theatreId = rule.getTheatreId();
+    }
+
+    /**
+     * Show-level scoping, resolved once when a pipeline is compiled
+     */
+    boolean appliesTo(Long contextTheatreId, int contextStartHour) {
+        if (theatreId != null && !theatreId.equals(contextTheatreId)) {
+            return false;
+        }
+        if (startHour != null && contextStartHour < startHour) {
+            return false;
+        }
+        return endHour == null || contextStartHour < endHour;
+    }
+
+    /**
+     * Seat-level scoping, evaluated during pricing
+     */
+    boolean eligible(SeatCategory seatCategory) {
+        return category == null || category == seatCategory;
+    }
+}
@@ -0,0 +1,235 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.cluster.ClusterMembership;
+import com.moviebooking.dto.projection.ShowCategorySalesView;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.enums.ShowStatus;
+import com.moviebooking.repository.ShowCategoryPriceRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.ChangeFeedService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Occupancy-driven dynamic pricing
+ * 
+ * Only shows whose seats changed recently are re-evaluated: SHOW entries of the change feed
+ * (bookings and cancellations on any node) mark a show, and it stays marked until its last
+ * change is older than the velocity window plus two cycles, so the price also comes back down
+ * once recent sales age out. The first cycle after startup evaluates every open show. For the
+ * marked shows one grouped query reads occupancy and recent sales per show and seat category,
+ * joined with the show's category price row. The target multiplier over the category base
+ * price is
+ *   1 + occupancyWeight * max(0, occupancy - occupancyThreshold) + velocityWeight * recentShare
+ * clamped to [min, max] and quantised to step, where recentShare is the fraction of the
+ * category sold within the velocity window; prices are whole rupees. A changed category is a
+ * single-row write of its show_category_prices row; all changes of a show and its price
+ * version bump commit together, so bookings and quotes see one consistent version. The
+ * current price is read back from the table, so restarts and multiple nodes need no extra
+ * state; with clustering each node reprices only the shows it owns.
+ */
+@Component
+@ConditionalOnProperty(name = "app.pricing.dynamic.enabled", havingValue = "true")
+@Slf4j
+public class DynamicPricingEngine {
+
+    private static final List<ShowStatus> PRICED_STATUSES = List.of(
+            ShowStatus.SCHEDULED, ShowStatus.OPEN_FOR_BOOKING, ShowStatus.ALMOST_FULL);
+    private static final int SHOW_CHUNK = 1000;
+
+    private final ShowSeatRepository showSeatRepository;
+    private final ShowCategoryPriceRepository showCategoryPriceRepository;
+    private final ShowRepository showRepository;
+    private final ChangeFeedService changeFeedService;
+    private final ClusterMembership clusterMembership;
+    private final TransactionTemplate transactionTemplate;
+    private final long velocityWindowMinutes;
+    private final double occupancyThreshold;
+    private final double occupancyWeight;
+    private final double velocityWeight;
+    private final double minMultiplier;
+    private final double maxMultiplier;
+    private final double step;
+    private final long retainChangedMillis;
+    private final Map<Long, Long> changedShows = new ConcurrentHashMap<>(); // show id -> last change (millis)
+    private volatile boolean swept;
+    private final Timer cycleTimer;
+    private final Counter repricedCounter;
+    private final Counter failureCounter;
+
+    public DynamicPricingEngine(ShowSeatRepository showSeatRepository,
+                                ShowCategoryPriceRepository showCategoryPriceRepository,
+                                ShowRepository showRepository,
+                                ChangeFeedService changeFeedService,
+                                ClusterMembership clusterMembership,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.pricing.dynamic.velocity-window-minutes:15}") long velocityWindowMinutes,
+                                @Value("${app.pricing.dynamic.occupancy-threshold:0.5}") double occupancyThreshold,
+                                @Value("${app.pricing.dynamic.occupancy-weight:1.0}") double occupancyWeight,
+                                @Value("${app.pricing.dynamic.velocity-weight:2.0}") double velocityWeight,
+                                @Value("${app.pricing.dynamic.min-multiplier:1.0}") double minMultiplier,
+                                @Value("${app.pricing.dynamic.max-multiplier:1.5}") double maxMultiplier,
+                                @Value("${app.pricing.dynamic.step:0.05}") double step,
+                                @Value("${app.pricing.dynamic.interval-millis:30000}") long intervalMillis) {
+        this.showSeatRepository = showSeatRepository;
+        this.showCategoryPriceRepository = showCategoryPriceRepository;
+        this.showRepository = showRepository;
+        this.changeFeedService = changeFeedService;
+        this.clusterMembership = clusterMembership;
+        this.transactionTemplate = transactionTemplate;
+        this.velocityWindowMinutes = velocityWindowMinutes;
+        this.occupancyThreshold = occupancyThreshold;
+        this.occupancyWeight = occupancyWeight;
+        this.velocityWeight = velocityWeight;
+        this.minMultiplier = minMultiplier;
+        this.maxMultiplier = maxMultiplier;
+        this.step = step;
+        this.retainChangedMillis = TimeUnit.MINUTES.toMillis(velocityWindowMinutes) + 2 * intervalMillis;
+        this.cycleTimer = Timer.builder("pricing.dynamic.cycle")
+                .description("Time to evaluate and apply one dynamic pricing cycle")
+                .register(meterRegistry);
+        this.repricedCounter = meterRegistry.counter("pricing.dynamic.shows.repriced");
+        this.failureCounter = meterRegistry.counter("pricing.dynamic.failures");
+        Gauge.builder("pricing.dynamic.shows.tracked", changedShows, Map::size)
+                .description("Shows re-evaluated by dynamic pricing until their recent sales age out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mark a show for re-evaluation (its seats were booked or released)
+     */
+    public void showChanged(Long showId) {
+        changedShows.put(showId, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.dynamic.interval-millis:30000}",
+               initialDelayString = "${app.pricing.dynamic.interval-millis:30000}")
+    public void reprice() {
+        cycleTimer.record(this::runCycle);
+    }
+
+    private void runCycle() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(velocityWindowMinutes);
+        List<ShowCategorySalesView> sales;
+        if (!swept) {
+            sales = showSeatRepository.findCategorySalesFrom(today, since, PRICED_STATUSES);
+            swept = true;
+        } else {
+            List<Long> showIds = changedLocalShows();
+            sales = new ArrayList<>();
+            for (int from = 0; from < showIds.size(); from += SHOW_CHUNK) {
+                List<Long> chunk = showIds.subList(from, Math.min(from + SHOW_CHUNK, showIds.size()));
+                sales.addAll(showSeatRepository.findCategorySalesByShowIds(chunk, today, since, PRICED_STATUSES));
+            }
+        }
+
+        int evaluated = 0;
+        int repriced = 0;
+        int start = 0;
+        while (start < sales.size()) {
+            Long showId = sales.get(start).showId();
+            int end = start;
+            while (end < sales.size() && sales.get(end).showId().equals(showId)) {
+                end++;
+            }
+            if (clusterMembership.isLocal(showId)) {
+                evaluated++;
+                List<PriceChange> changes = changedPrices(sales.subList(start, end));
+                if (!changes.isEmpty() && apply(showId, changes)) {
+                    repriced++;
+                }
+            }
+            start = end;
+        }
+
+        if (repriced > 0) {
+            log.info("Dynamic pricing cycle - shows evaluated: {}, repriced: {}", evaluated, repriced);
+        }
+    }
+
+    /**
+     * Marked shows owned by this node, in id order; drops marks whose recent sales have aged out
+     */
+    private List<Long> changedLocalShows() {
+        long cutoff = System.currentTimeMillis() - retainChangedMillis;
+        List<Long> showIds = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : changedShows.entrySet()) {
+            if (entry.getValue() < cutoff) {
+                changedShows.remove(entry.getKey(), entry.getValue());
+            } else if (clusterMembership.isLocal(entry.getKey())) {
+                showIds.add(entry.getKey());
+            }
+        }
+        Collections.sort(showIds);
+        return showIds;
+    }
+
+    private List<PriceChange> changedPrices(List<ShowCategorySalesView> categories) {
+        List<PriceChange> changes = new ArrayList<>(categories.size());
+        for (ShowCategorySalesView category : categories) {
+            if (category.availableSeats() == 0) {
+                continue; // sold out: nothing left to reprice
+            }
+            double price = Math.round(category.basePrice() * targetMultiplier(category));
+            if (price != category.currentPrice()) {
+                changes.add(new PriceChange(category.category(), price));
+            }
+        }
+        return changes;
+    }
+
+    private double targetMultiplier(ShowCategorySalesView category) {
+        double total = category.totalSeats();
+        double occupancy = category.bookedSeats() / total;
+        double recentShare = category.recentlyBookedSeats() / total;
+        double multiplier = 1
+                + occupancyWeight * Math.max(0, occupancy - occupancyThreshold)
+                + velocityWeight * recentShare;
+        multiplier = Math.max(minMultiplier, Math.min(maxMultiplier, multiplier));
+        return Math.round(multiplier / step) * step;
+    }
+
+    private boolean apply(Long showId, List<PriceChange> changes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PriceChange change : changes) {
+                    showCategoryPriceRepository.updatePrice(showId, change.category(), change.price());
+                }
+                showRepository.incrementPriceVersion(showId);
+                changeFeedService.record(ChangeEntityType.PRICE, showId);
+            });
+            repricedCounter.increment();
+            log.debug("Repriced show {} - {}", showId, changes);
+            return true;
+        } catch (DataAccessException e) {
+            // Typically lock contention on the show row with bookings; the next cycle tries again
+            failureCounter.increment();
+            log.warn("Repricing show {} failed: {}", showId, e.getMessage());
+            return false;
+        }
+    }
+
+    private record PriceChange(SeatCategory category, double price) {}
+}
@@ -0,0 +1,70 @@
+package com.moviebooking.pricing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebooking.dto.response.BrowseShowsResponse.OfferInfo;
+import com.moviebooking.dto.response.ShowSeatsResponse.AvailableOffer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Shared, immutable offer descriptions for the browse and seat-map responses
+ * 
+ * Descriptors are built once per compiled offer pipeline, i.e. per (theatre, start hour)
+ * and rule-set version, and the same instances are handed to every response; callers must
+ * not modify them. They are keyed by pipeline identity, so an offer rule reload (which
+ * compiles new pipelines) is picked up on the next lookup and the old entries are collected
+ * with the old rule set. Seat-category offers are listed for every show they can apply to.
+ */
+@Component
+public class OfferCatalogue {
+
+    // Offer values are advertised as a percentage off, whatever the rule kind
+    private static final String DISCOUNT_TYPE = "PERCENTAGE";
+
+    private final OfferRuleEngine offerRuleEngine;
+    private final Cache<OfferPipeline, OfferDescriptors> descriptors = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public OfferCatalogue(OfferRuleEngine offerRuleEngine) {
+        this.offerRuleEngine = offerRuleEngine;
+    }
+
+    public OfferDescriptors describe(PricingContext context) {
+        return descriptors.get(offerRuleEngine.pipelineFor(context), OfferCatalogue::build);
+    }
+
+    private static OfferDescriptors build(OfferPipeline pipeline) {
+        List<CompiledOfferRule> rules = new ArrayList<>(pipeline.rules());
+        rules.sort(Comparator.comparingInt(rule -> rule.displayOrder));
+
+        List<OfferInfo> showOffers = new ArrayList<>(rules.size());
+        List<AvailableOffer> seatMapOffers = new ArrayList<>(rules.size());
+        for (CompiledOfferRule rule : rules) {
+            showOffers.add(OfferInfo.builder()
+                    .offerCode(rule.code)
+                    .description(rule.description)
+                    .discountType(DISCOUNT_TYPE)
+                    .discountValue(rule.discountPercent)
+                    .build());
+            seatMapOffers.add(AvailableOffer.builder()
+                    .offerCode(rule.code)
+                    .description(rule.details)
+                    .termsAndConditions(rule.terms)
+                    .build());
+        }
+        return new OfferDescriptors(List.copyOf(showOffers), List.copyOf(seatMapOffers));
+    }
+
+    /**
+     * Offers of one pricing context, in display order
+     *
+     * @param showOffers for the browse listing (BrowseShowsResponse)
+     * @param seatMapOffers for the seat map (ShowSeatsResponse)
+     */
+    public record OfferDescriptors(List<OfferInfo> showOffers, List<AvailableOffer> seatMapOffers) {}
+}
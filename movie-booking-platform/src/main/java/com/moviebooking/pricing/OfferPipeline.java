@@ -0,0 +1,143 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.service.PricingService.AppliedOffer;
+import com.moviebooking.service.PricingService.PricingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordered, immutable offer rules applicable to one pricing context
+ * 
+ * The kernel works on primitive paise. While rules run, each ticket's running price is
+ * kept exactly in units of 1/10000 paisa, so a rule that discounts an already discounted
+ * price loses nothing to intermediate rounding. Each rule's discount is rounded half-up to
+ * the paisa exactly once, and the total discount is the sum of the rule discounts, so the
+ * applied offers always reconcile with the total and base - discount = final exactly.
+ */
+public final class OfferPipeline {
+
+    private static final long SCALE = Paise.BASIS_POINTS; // running prices are paise * SCALE
+
+    private final CompiledOfferRule[] rules;
+
+    OfferPipeline(List<CompiledOfferRule> rules) {
+        this.rules = rules.toArray(new CompiledOfferRule[0]);
+    }
+
+    public int ruleCount() {
+        return rules.length;
+    }
+
+    List<CompiledOfferRule> rules() {
+        return List.of(rules);
+    }
+
+    /**
+     * Pricing kernel: no boxing, no sorting, one scratch array
+     *
+     * @param pricesPaise ticket prices in paise (not modified)
+     * @param categories seat category of each ticket
+     * @param count number of tickets
+     * @param ruleDiscounts receives the discount of rule i in paise (0 if it did not apply);
+     *                      length must be at least ruleCount()
+     * @return total discount in paise
+     */
+    public long discount(long[] pricesPaise, SeatCategory[] categories, int count, long[] ruleDiscounts) {
+        long[] running = new long[count];
+        for (int i = 0; i < count; i++) {
+            running[i] = pricesPaise[i] * SCALE;
+        }
+
+        long totalDiscount = 0;
+        for (int r = 0; r < rules.length; r++) {
+            CompiledOfferRule rule = rules[r];
+            long discountScaled = switch (rule.type) {
+                case PERCENTAGE -> applyPercentage(rule, categories, running, count);
+                case NTH_TICKET -> applyNthTicket(rule, categories, running, count);
+            };
+            long discount = Paise.divideHalfUp(discountScaled, SCALE);
+            ruleDiscounts[r] = discount;
+            totalDiscount += discount;
+        }
+        return totalDiscount;
+    }
+
+    /**
+     * Price tickets and describe the applied offers in rupees
+     */
+    public PricingResult price(long[] pricesPaise, SeatCategory[] categories, int count) {
+        if (count == 0) {
+            return new PricingResult(0, 0, 0, "", List.of());
+        }
+
+        long baseAmount = 0;
+        for (int i = 0; i < count; i++) {
+            baseAmount += pricesPaise[i];
+        }
+        long[] ruleDiscounts = new long[rules.length];
+        long totalDiscount = discount(pricesPaise, categories, count, ruleDiscounts);
+
+        List<AppliedOffer> appliedOffers = null;
+        StringBuilder description = null;
+        for (int r = 0; r < rules.length; r++) {
+            if (ruleDiscounts[r] <= 0) {
+                continue;
+            }
+            if (appliedOffers == null) {
+                appliedOffers = new ArrayList<>(rules.length);
+                description = new StringBuilder();
+            } else {
+                description.append(" + ");
+            }
+            appliedOffers.add(new AppliedOffer(rules[r].appliedName, Paise.toRupees(ruleDiscounts[r])));
+            description.append(rules[r].summary);
+        }
+
+        return new PricingResult(
+            Paise.toRupees(baseAmount),
+            Paise.toRupees(totalDiscount),
+            Paise.toRupees(baseAmount - totalDiscount),
+            description == null ? "" : description.toString(),
+            appliedOffers == null ? List.of() : appliedOffers
+        );
+    }
+
+    /**
+     * Percent off every eligible ticket
+     */
+    private static long applyPercentage(CompiledOfferRule rule, SeatCategory[] categories, long[] running, int count) {
+        long discount = 0;
+        for (int i = 0; i < count; i++) {
+            if (rule.eligible(categories[i])) {
+                long seatDiscount = Paise.divideHalfUp(running[i] * rule.basisPoints, Paise.BASIS_POINTS);
+                running[i] -= seatDiscount;
+                discount += seatDiscount;
+            }
+        }
+        return discount;
+    }
+
+    /**
+     * Percent off the cheapest eligible ticket once at least nthTicket eligible tickets are booked
+     */
+    private static long applyNthTicket(CompiledOfferRule rule, SeatCategory[] categories, long[] running, int count) {
+        int eligibleCount = 0;
+        int cheapest = -1;
+        for (int i = 0; i < count; i++) {
+            if (rule.eligible(categories[i])) {
+                eligibleCount++;
+                if (cheapest < 0 || running[i] < running[cheapest]) {
+                    cheapest = i;
+                }
+            }
+        }
+        if (eligibleCount < rule.nthTicket) {
+            return 0;
+        }
+        long discount = Paise.divideHalfUp(running[cheapest] * rule.basisPoints, Paise.BASIS_POINTS);
+        running[cheapest] -= discount;
+        return discount;
+    }
+}
@@ -0,0 +1,171 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.repository.OfferRuleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compiles the active offer rules into per-context pricing pipelines
+ * 
+ * Rules live in the offer_rules table; when it is empty the app.offers.* defaults are
+ * seeded. A reload builds a new immutable rule set and swaps it in atomically, so pricing
+ * never observes a half-applied change. Reloads are serialized, read included, so the rule
+ * set installed last is always the one read last and versions only move forward. Pipelines
+ * are compiled lazily per (theatre, start hour) and cached until the next reload.
+ */
+@Component
+@Slf4j
+public class OfferRuleEngine {
+
+    private final OfferRuleRepository offerRuleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double thirdTicketDiscountPercent;
+    private final double afternoonDiscountPercent;
+    private final int afternoonStartHour;
+    private final int afternoonEndHour;
+
+    private final AtomicReference<RuleSet> ruleSet = new AtomicReference<>(new RuleSet(0, List.of()));
+
+    public OfferRuleEngine(OfferRuleRepository offerRuleRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.offers.third-ticket-discount-percent:50}") double thirdTicketDiscountPercent,
+                           @Value("${app.offers.afternoon-show-discount-percent:20}") double afternoonDiscountPercent,
+                           @Value("${app.offers.afternoon-start-hour:12}") int afternoonStartHour,
+                           @Value("${app.offers.afternoon-end-hour:17}") int afternoonEndHour) {
+        this.offerRuleRepository = offerRuleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.thirdTicketDiscountPercent = thirdTicketDiscountPercent;
+        this.afternoonDiscountPercent = afternoonDiscountPercent;
+        this.afternoonStartHour = afternoonStartHour;
+        this.afternoonEndHour = afternoonEndHour;
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (offerRuleRepository.count() == 0) {
+                offerRuleRepository.saveAll(defaultRules());
+                log.info("Seeded default offer rules from configuration");
+            }
+        });
+        reload();
+    }
+
+    /**
+     * Re-read the active rules and swap in a freshly compiled rule set
+     * Synchronized so a reload that read an older rule list cannot install it after a newer one.
+     */
+    public synchronized void reload() {
+        List<OfferRule> rules = transactionTemplate.execute(status ->
+                offerRuleRepository.findByActiveTrueOrderByPriorityAscIdAsc());
+        List<CompiledOfferRule> compiled = rules.stream().map(CompiledOfferRule::new).toList();
+        RuleSet next = new RuleSet(ruleSet.get().version() + 1, compiled);
+        ruleSet.set(next);
+        log.info("Offer rules reloaded - version: {}, active rules: {}", next.version(), compiled.size());
+    }
+
+    public OfferPipeline pipelineFor(PricingContext context) {
+        return ruleSet.get().pipelineFor(context);
+    }
+
+    public long getVersion() {
+        return ruleSet.get().version();
+    }
+
+    /**
+     * Immutable compiled rules plus the pipelines derived from them
+     */
+    private static final class RuleSet {
+
+        private final long version;
+        private final List<CompiledOfferRule> rules;
+        private final ConcurrentHashMap<Long, OfferPipeline> pipelines = new ConcurrentHashMap<>();
+
+        RuleSet(long version, List<CompiledOfferRule> rules) {
+            this.version = version;
+            this.rules = rules;
+        }
+
+        long version() {
+            return version;
+        }
+
+        OfferPipeline pipelineFor(PricingContext context) {
+            Long theatreId = context.theatreId();
+            int startHour = context.startHour();
+            long key = (theatreId == null ? -1L : theatreId) * 24 + startHour;
+            return pipelines.computeIfAbsent(key, k -> compile(theatreId, startHour));
+        }
+
+        private OfferPipeline compile(Long theatreId, int startHour) {
+            List<CompiledOfferRule> applicable = new ArrayList<>();
+            for (CompiledOfferRule rule : rules) {
+                if (rule.appliesTo(theatreId, startHour)) {
+                    applicable.add(rule);
+                }
+            }
+            return new OfferPipeline(applicable);
+        }
+    }
+
+    private List<OfferRule> defaultRules() {
+        String thirdTicket = formatPercent(thirdTicketDiscountPercent);
+        String afternoon = formatPercent(afternoonDiscountPercent);
+
+        OfferRule thirdTicketRule = OfferRule.builder()
+                .code("THIRD_TICKET_" + thirdTicket)
+                .discountType(OfferDiscountType.NTH_TICKET)
+                .discountPercent(thirdTicketDiscountPercent)
+                .nthTicket(3)
+                .priority(20)
+                .displayOrder(10)
+                .active(true)
+                .appliedName(thirdTicket + "% off on 3rd Ticket")
+                .summary(thirdTicket + "% off 3rd ticket")
+                .description(thirdTicket + "% off on 3rd ticket")
+                .details("Book 3 or more tickets and get " + thirdTicket + "% off on the 3rd ticket")
+                .terms("Applicable on booking of 3 or more tickets. Discount applied to the cheapest ticket.")
+                .build();
+
+        // Applied before the 3rd-ticket offer, which then discounts the already reduced price
+        OfferRule afternoonRule = OfferRule.builder()
+                .code("AFTERNOON_" + afternoon)
+                .discountType(OfferDiscountType.PERCENTAGE)
+                .discountPercent(afternoonDiscountPercent)
+                .startHour(afternoonStartHour)
+                .endHour(afternoonEndHour)
+                .priority(10)
+                .displayOrder(20)
+                .active(true)
+                .appliedName("Afternoon Show Discount (" + afternoon + "% off)")
+                .summary(afternoon + "% Afternoon Discount")
+                .description(afternoon + "% off on afternoon shows")
+                .details(afternoon + "% off on all tickets for afternoon shows (" +
+                         formatHour(afternoonStartHour, false) + " - " + formatHour(afternoonEndHour, false) + ")")
+                .terms("Automatically applied for shows between " +
+                       formatHour(afternoonStartHour, true) + " and " + formatHour(afternoonEndHour, true) + ".")
+                .build();
+
+        return List.of(thirdTicketRule, afternoonRule);
+    }
+
+    private static String formatPercent(double percent) {
+        return percent == Math.rint(percent) ? String.valueOf((long) percent) : String.valueOf(percent);
+    }
+
+    private static String formatHour(int hour, boolean withMinutes) {
+        int clockHour = hour % 12 == 0 ? 12 : hour % 12;
+        String suffix = hour % 24 < 12 ? " AM" : " PM";
+        return clockHour + (withMinutes ? ":00" : "") + suffix;
+    }
+}
@@ -0,0 +1,37 @@
+package com.moviebooking.pricing;
+
+/**
+ * Exact money arithmetic in paise (1/100 rupee) for the pricing kernel
+ * 
+ * Percentages are basis points (1/100 percent). Rounding is half-up on non-negative
+ * values, the same rule Math.round applies to the double amounts in the API.
+ */
+public final class Paise {
+
+    public static final int BASIS_POINTS = 10_000; // 100%
+
+    private Paise() {
+    }
+
+    /**
+     * Rupee amount (at most 2 decimals, as stored) to paise
+     */
+    public static long of(double rupees) {
+        return Math.round(rupees * 100);
+    }
+
+    public static double toRupees(long paise) {
+        return paise / 100.0;
+    }
+
+    public static int basisPoints(double percent) {
+        return (int) Math.round(percent * 100);
+    }
+
+    /**
+     * value / divisor rounded half-up; value must be non-negative
+     */
+    static long divideHalfUp(long value, long divisor) {
+        return (value + divisor / 2) / divisor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.moviebooking.pricing;
+
+import java.time.LocalTime;
+
+/**
+ * The show attributes offer rules are scoped by
+ * Pipelines are compiled per (theatre, start hour), so all shows sharing both share one pipeline
+ */
+public record PricingContext(Long theatreId, LocalTime startTime) {
+
+    int startHour() {
+        return startTime.getHour();
+    }
+}
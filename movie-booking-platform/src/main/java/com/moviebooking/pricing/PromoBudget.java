@@ -0,0 +1,107 @@
+package com.moviebooking.pricing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A node's unredeemed share of one promo code, striped so concurrent redemptions do not
+ * contend on a single counter
+ * 
+ * Each thread starts at its own stripe and only moves on when that one is empty. Stripes
+ * are padded apart so they do not share cache lines. Refills synchronize on the budget.
+ */
+final class PromoBudget {
+
+    private static final int PAD = 16; // longs per stripe (128 bytes)
+
+    private final String code;
+    private final AtomicLongArray counts;
+    private final int mask;
+    private volatile PromoTerms terms;
+    private volatile boolean exhausted; // the database had nothing left at the last refill
+
+    PromoBudget(String code, PromoTerms terms, int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.code = code;
+        this.terms = terms;
+        this.counts = new AtomicLongArray(size * PAD);
+        this.mask = size - 1;
+    }
+
+    String code() {
+        return code;
+    }
+
+    PromoTerms terms() {
+        return terms;
+    }
+
+    void setTerms(PromoTerms terms) {
+        this.terms = terms;
+        this.exhausted = false; // the cap may have been raised
+    }
+
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    void markExhausted() {
+        exhausted = true;
+    }
+
+    /**
+     * Take one redemption if this node has any left
+     */
+    boolean tryAcquire() {
+        int start = stripe();
+        for (int i = 0; i <= mask; i++) {
+            int index = ((start + i) & mask) * PAD;
+            long count;
+            while ((count = counts.get(index)) > 0) {
+                if (counts.compareAndSet(index, count, count - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add redemptions (a freshly allocated chunk, or ones given back by cancellations)
+     */
+    void add(long redemptions) {
+        counts.addAndGet(stripe() * PAD, redemptions);
+        if (redemptions > 0) {
+            exhausted = false;
+        }
+    }
+
+    long remaining() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += counts.get(i * PAD);
+        }
+        return total;
+    }
+
+    /**
+     * Take every remaining redemption (to return them to the database)
+     */
+    long drain() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += counts.getAndSet(i * PAD, 0);
+        }
+        return total;
+    }
+
+    @SuppressWarnings("deprecation") // Thread.threadId() needs Java 19
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    /**
+     * Discount terms of a promo code, replaced wholesale when the code is edited
+     */
+    record PromoTerms(boolean active, int basisPoints, String appliedName, String summary) {}
+}
@@ -0,0 +1,232 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.entity.PromoCode;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.pricing.PromoBudget.PromoTerms;
+import com.moviebooking.repository.PromoCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redemption budgets of limited-quantity promo codes
+ * 
+ * A node takes redemptions from a code's promo_codes row in chunks, in short transactions
+ * of their own under a row lock, and redeems from a striped in-memory counter, so a sale
+ * does not queue bookings on one hot row. A background top-up requests the next chunk
+ * while half of the current one is still left; a booking only waits for the database when
+ * a burst empties the budget first. Redemptions of rolled-back bookings and of cancelled
+ * bookings are credited back to the local counter, and unused redemptions are returned to
+ * the row on shutdown. Chunks are only granted while allocated stays within the cap, so a
+ * code can never be over-redeemed; a node that dies keeps its unused chunk (under-redeems).
+ */
+@Component
+@Slf4j
+public class PromoCodeRegistry {
+
+    private final PromoCodeRepository promoCodeRepository;
+    private final TransactionTemplate allocationTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int stripes;
+    private final Map<String, PromoBudget> budgets = new ConcurrentHashMap<>();
+    private final Counter redemptionCounter;
+    private final Counter allocationCounter;
+
+    public PromoCodeRegistry(PromoCodeRepository promoCodeRepository,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.promos.chunk-size:100}") int chunkSize) {
+        this.promoCodeRepository = promoCodeRepository;
+        this.allocationTransaction = new TransactionTemplate(transactionManager);
+        this.allocationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.stripes = Runtime.getRuntime().availableProcessors();
+        this.redemptionCounter = meterRegistry.counter("promo.redemptions");
+        this.allocationCounter = meterRegistry.counter("promo.chunks.allocated");
+    }
+
+    public static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Redeem one use of a promo code
+     * If the current transaction rolls back, the redemption is credited back.
+     *
+     * @throws BookingException if the code is unknown, inactive or fully redeemed
+     */
+    public RedeemedPromo redeem(String promoCode) {
+        String code = normalize(promoCode);
+        PromoBudget budget = budget(code);
+        PromoTerms terms = budget.terms();
+        if (!terms.active()) {
+            throw new BookingException("Invalid promo code: " + promoCode);
+        }
+        if (!budget.tryAcquire() && !acquireWithRefill(budget)) {
+            throw new BookingException("Promo code " + code + " has been fully redeemed");
+        }
+        redemptionCounter.increment();
+        eventPublisher.publishEvent(new PromoRedeemed(code));
+        return new RedeemedPromo(code, terms.basisPoints(), terms.appliedName(), terms.summary());
+    }
+
+    /**
+     * Credit back redemptions of bookings that were cancelled
+     */
+    public void release(String promoCode, long redemptions) {
+        budget(normalize(promoCode)).add(redemptions);
+    }
+
+    /**
+     * Reload a code's terms after it was edited on any node
+     */
+    public void refresh(Long promoCodeId) {
+        promoCodeRepository.findById(promoCodeId).ifPresent(promo -> {
+            PromoBudget budget = budgets.get(promo.getCode());
+            if (budget != null) {
+                budget.setTerms(terms(promo));
+            }
+        });
+    }
+
+    public long localRemaining(String code) {
+        PromoBudget budget = budgets.get(code);
+        return budget == null ? 0 : budget.remaining();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRolledBack(PromoRedeemed redeemed) {
+        release(redeemed.code(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCancelled(PromoRedemptionsReleased released) {
+        released.redemptions().forEach(this::release);
+    }
+
+    /**
+     * Request the next chunk in the background while half of the current one is left
+     */
+    @Scheduled(fixedDelayString = "${app.promos.top-up-interval-millis:200}")
+    public void topUp() {
+        for (PromoBudget budget : budgets.values()) {
+            if (budget.terms().active() && !budget.isExhausted() && budget.remaining() < chunkSize / 2) {
+                try {
+                    synchronized (budget) {
+                        if (budget.remaining() < chunkSize / 2) {
+                            refill(budget);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Promo code {} top-up failed: {}", budget.code(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void returnUnused() {
+        for (PromoBudget budget : budgets.values()) {
+            long unused = budget.drain();
+            if (unused > 0) {
+                try {
+                    allocationTransaction.executeWithoutResult(status ->
+                            promoCodeRepository.returnRedemptions(budget.code(), (int) unused));
+                    log.info("Returned {} unused redemptions of promo code {}", unused, budget.code());
+                } catch (RuntimeException e) {
+                    log.warn("Unable to return {} redemptions of promo code {}: {}", unused, budget.code(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean acquireWithRefill(PromoBudget budget) {
+        if (budget.isExhausted()) {
+            return false;
+        }
+        synchronized (budget) {
+            // Another thread may have refilled while this one waited, and threads outside the
+            // monitor may take a fresh chunk before this one does - refill until one is left
+            while (!budget.tryAcquire()) {
+                if (!refill(budget)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Allocate the next chunk from the database; caller holds the budget's monitor
+     * @return false if the code has no redemptions left to allocate
+     */
+    private boolean refill(PromoBudget budget) {
+        int granted = allocationTransaction.execute(status -> {
+            PromoCode promo = promoCodeRepository.findByCodeForUpdate(budget.code()).orElse(null);
+            if (promo == null || !promo.isActive()) {
+                return 0;
+            }
+            int grant = Math.min(chunkSize, promo.getMaxRedemptions() - promo.getAllocatedRedemptions());
+            if (grant > 0) {
+                promo.setAllocatedRedemptions(promo.getAllocatedRedemptions() + grant);
+            }
+            return Math.max(grant, 0);
+        });
+        if (granted == 0) {
+            budget.markExhausted();
+            return false;
+        }
+        budget.add(granted);
+        allocationCounter.increment();
+        log.debug("Allocated {} redemptions of promo code {}", granted, budget.code());
+        return true;
+    }
+
+    private PromoBudget budget(String code) {
+        PromoBudget budget = budgets.get(code);
+        if (budget != null) {
+            return budget;
+        }
+        PromoCode promo = promoCodeRepository.findByCode(code)
+                .orElseThrow(() -> new BookingException("Invalid promo code: " + code));
+        return budgets.computeIfAbsent(code, c -> new PromoBudget(c, terms(promo), stripes));
+    }
+
+    private static PromoTerms terms(PromoCode promo) {
+        String percent = promo.getDiscountPercent() == Math.rint(promo.getDiscountPercent())
+                ? String.valueOf(promo.getDiscountPercent().longValue())
+                : String.valueOf(promo.getDiscountPercent());
+        return new PromoTerms(
+                promo.isActive(),
+                Paise.basisPoints(promo.getDiscountPercent()),
+                "Promo " + promo.getCode() + " (" + percent + "% off)",
+                promo.getCode() + " " + percent + "% off");
+    }
+
+    /**
+     * Published for every redemption; credits it back if the booking rolls back
+     */
+    public record PromoRedeemed(String code) {}
+
+    /**
+     * Published when bookings that redeemed promo codes are cancelled (code -> redemptions)
+     */
+    public record PromoRedemptionsReleased(Map<String, Long> redemptions) {}
+}
@@ -0,0 +1,33 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.service.PricingService.AppliedOffer;
+import com.moviebooking.service.PricingService.PricingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One redeemed use of a promo code, applied after the offer rules
+ */
+public record RedeemedPromo(String code, int basisPoints, String appliedName, String summary) {
+
+    /**
+     * Discount the amount left after offers by the promo percentage, rounded half-up to the paisa
+     */
+    public PricingResult applyTo(PricingResult result) {
+        long finalPaise = Paise.of(result.finalAmount());
+        long discountPaise = Paise.divideHalfUp(finalPaise * basisPoints, Paise.BASIS_POINTS);
+
+        List<AppliedOffer> appliedOffers = new ArrayList<>(result.appliedOffers().size() + 1);
+        appliedOffers.addAll(result.appliedOffers());
+        appliedOffers.add(new AppliedOffer(appliedName, Paise.toRupees(discountPaise)));
+
+        return new PricingResult(
+            result.baseAmount(),
+            Paise.toRupees(Paise.of(result.discountAmount()) + discountPaise),
+            Paise.toRupees(finalPaise - discountPaise),
+            result.discountDescription().isEmpty() ? summary : result.discountDescription() + " + " + summary,
+            appliedOffers
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.dto.projection.SeatCategoryView;
+import com.moviebooking.enums.SeatCategory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable seat id -> category and position map of one screen, shared by every show on it
+ */
+public final class SeatCategoryLayout {
+
+    private static final int ROW_WEIGHT = 2; // one row apart counts as two seats along a row
+
+    private final long[] seatIds;
+    private final SeatCategory[] categories;
+    private final String[] rows;
+    private final int[] rowIndexes;
+    private final int[] seatNumbers;
+
+    SeatCategoryLayout(List<SeatCategoryView> seats) {
+        // Sorted by seat id by the query
+        this.seatIds = new long[seats.size()];
+        this.categories = new SeatCategory[seats.size()];
+        this.rows = new String[seats.size()];
+        this.rowIndexes = new int[seats.size()];
+        this.seatNumbers = new int[seats.size()];
+        String[] distinctRows = seats.stream().map(SeatCategoryView::rowNumber).distinct().sorted().toArray(String[]::new);
+        for (int i = 0; i < seatIds.length; i++) {
+            SeatCategoryView seat = seats.get(i);
+            seatIds[i] = seat.seatId();
+            categories[i] = seat.category();
+            rows[i] = seat.rowNumber();
+            rowIndexes[i] = Arrays.binarySearch(distinctRows, seat.rowNumber());
+            seatNumbers[i] = seat.seatNumber();
+        }
+    }
+
+    /**
+     * @return the seat's category, or null if the seat is not on this screen
+     */
+    public SeatCategory category(long seatId) {
+        int index = Arrays.binarySearch(seatIds, seatId);
+        return index < 0 ? null : categories[index];
+    }
+
+    /**
+     * @return the seat's identifier (e.g. "C-7"), or null if the seat is not on this screen
+     */
+    public String identifier(long seatId) {
+        int index = Arrays.binarySearch(seatIds, seatId);
+        return index < 0 ? null : rows[index] + "-" + seatNumbers[index];
+    }
+
+    /**
+     * The closest seat of the same category as the given one that passes the filter
+     *
+     * @param candidate e.g. "available and not already chosen"
+     * @return the seat id, or -1 if there is none
+     */
+    public long nearest(long seatId, LongPredicate candidate) {
+        int origin = Arrays.binarySearch(seatIds, seatId);
+        if (origin < 0) {
+            return -1;
+        }
+        long best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < seatIds.length; i++) {
+            if (categories[i] != categories[origin] || i == origin) {
+                continue;
+            }
+            int distance = ROW_WEIGHT * Math.abs(rowIndexes[i] - rowIndexes[origin])
+                    + Math.abs(seatNumbers[i] - seatNumbers[origin]);
+            if (distance < bestDistance && candidate.test(seatIds[i])) {
+                best = seatIds[i];
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,148 @@
+package com.moviebooking.pricing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebooking.dto.projection.CategoryPriceView;
+import com.moviebooking.dto.projection.SeatPriceOverrideView;
+import com.moviebooking.dto.projection.ShowPriceVersionView;
+import com.moviebooking.dto.projection.ShowPricingView;
+import com.moviebooking.exception.ResourceNotFoundException;
+import com.moviebooking.repository.SeatRepository;
+import com.moviebooking.repository.ShowCategoryPriceRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatPriceOverrideRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded in-memory cache of per-show price tables and per-screen seat category layouts
+ * 
+ * Price tables are loaded in batches: one query each for the shows, their category prices,
+ * their overrides, and a price-version re-check, outside any transaction. Prices and the
+ * version bump commit together, so an unchanged version means the prices belong to it; a
+ * show whose version moved during the load is read again. Entries expire after the
+ * configured TTL, and are evicted on every node when a show's prices change (PRICE
+ * change-feed entries).
+ */
+@Component
+public class ShowPriceCache {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final ShowRepository showRepository;
+    private final ShowCategoryPriceRepository categoryPriceRepository;
+    private final ShowSeatPriceOverrideRepository overrideRepository;
+    private final SeatRepository seatRepository;
+    private final Cache<Long, ShowPriceTable> tables;
+    private final Cache<Long, SeatCategoryLayout> layouts;
+
+    public ShowPriceCache(ShowRepository showRepository,
+                          ShowCategoryPriceRepository categoryPriceRepository,
+                          ShowSeatPriceOverrideRepository overrideRepository,
+                          SeatRepository seatRepository,
+                          @Value("${app.pricing.cache.max-shows:10000}") long maxShows,
+                          @Value("${app.pricing.cache.max-screens:2000}") long maxScreens,
+                          @Value("${app.pricing.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.showRepository = showRepository;
+        this.categoryPriceRepository = categoryPriceRepository;
+        this.overrideRepository = overrideRepository;
+        this.seatRepository = seatRepository;
+        this.tables = Caffeine.newBuilder()
+                .maximumSize(maxShows)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.layouts = Caffeine.newBuilder()
+                .maximumSize(maxScreens)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public ShowPriceTable get(Long showId) {
+        ShowPriceTable table = tables.getAll(List.of(showId), this::loadAll).get(showId);
+        if (table == null) {
+            throw new ResourceNotFoundException("Show not found with id: " + showId);
+        }
+        return table;
+    }
+
+    /**
+     * A table at least as new as the given version (e.g. the version a booking transaction read)
+     */
+    public ShowPriceTable get(Long showId, long minPriceVersion) {
+        ShowPriceTable table = get(showId);
+        if (table.getPriceVersion() < minPriceVersion) {
+            tables.invalidate(showId);
+            table = get(showId);
+        }
+        return table;
+    }
+
+    /**
+     * Tables of the given shows; unknown shows are absent from the result
+     */
+    public Map<Long, ShowPriceTable> getAll(Collection<Long> showIds) {
+        return tables.getAll(showIds, this::loadAll);
+    }
+
+    public SeatCategoryLayout layout(long screenId) {
+        return layouts.get(screenId, id -> new SeatCategoryLayout(seatRepository.findCategoryViewsByScreenId(id)));
+    }
+
+    public void evict(Long showId) {
+        tables.invalidate(showId);
+    }
+
+    private Map<Long, ShowPriceTable> loadAll(Set<? extends Long> showIds) {
+        Map<Long, ShowPriceTable> loaded = new HashMap<>();
+        Collection<Long> pending = new ArrayList<>(showIds);
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            pending = loadBatch(pending, loaded, attempt == MAX_LOAD_ATTEMPTS);
+        }
+        return loaded;
+    }
+
+    /**
+     * @return shows whose price version changed while they were read
+     */
+    private Collection<Long> loadBatch(Collection<Long> showIds, Map<Long, ShowPriceTable> loaded, boolean lastAttempt) {
+        List<ShowPricingView> shows = showRepository.findShowPricingByIds(showIds);
+        Map<Long, List<CategoryPriceView>> categoryPrices = new HashMap<>();
+        for (CategoryPriceView price : categoryPriceRepository.findPriceViewsByShowIds(showIds)) {
+            categoryPrices.computeIfAbsent(price.showId(), id -> new ArrayList<>()).add(price);
+        }
+        Map<Long, List<SeatPriceOverrideView>> overrides = new HashMap<>();
+        for (SeatPriceOverrideView override : overrideRepository.findViewsByShowIds(showIds)) {
+            overrides.computeIfAbsent(override.showId(), id -> new ArrayList<>()).add(override);
+        }
+        Map<Long, Long> versions = new HashMap<>();
+        for (ShowPriceVersionView version : showRepository.findPriceVersionsByIds(showIds)) {
+            versions.put(version.showId(), version.priceVersion());
+        }
+
+        List<Long> changed = new ArrayList<>();
+        for (ShowPricingView show : shows) {
+            if (versions.getOrDefault(show.showId(), show.priceVersion()) != show.priceVersion() && !lastAttempt) {
+                changed.add(show.showId());
+                continue;
+            }
+            // Stamped with the version read before the prices, so a table that may hold newer
+            // prices is still reloaded by callers waiting for the newer version
+            loaded.put(show.showId(), new ShowPriceTable(
+                    show.showId(),
+                    new PricingContext(show.theatreId(), show.startTime()),
+                    show.screenId(),
+                    show.priceVersion(),
+                    categoryPrices.getOrDefault(show.showId(), List.of()),
+                    overrides.getOrDefault(show.showId(), List.of())));
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,106 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.dto.projection.CategoryPriceView;
+import com.moviebooking.dto.projection.SeatPriceOverrideView;
+import com.moviebooking.enums.SeatCategory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable list prices (in paise) of one show at one price version
+ * 
+ * A seat costs its per-seat override if it has one, else its category price. Categories are
+ * indexed by ordinal and overrides by sorted seat id, so a lookup allocates nothing.
+ */
+public final class ShowPriceTable {
+
+    public static final long NOT_PRICED = -1;
+
+    private static final long[] NO_OVERRIDES = new long[0];
+
+    private final long showId;
+    private final PricingContext context;
+    private final long screenId;
+    private final long priceVersion;
+    private final long[] categoryPaise;
+    private final long[] overrideSeatIds;
+    private final long[] overridePaise;
+
+    ShowPriceTable(long showId, PricingContext context, long screenId, long priceVersion,
+                   List<CategoryPriceView> categoryPrices, List<SeatPriceOverrideView> overrides) {
+        this.showId = showId;
+        this.context = context;
+        this.screenId = screenId;
+        this.priceVersion = priceVersion;
+        this.categoryPaise = new long[SeatCategory.values().length];
+        Arrays.fill(categoryPaise, NOT_PRICED);
+        for (CategoryPriceView price : categoryPrices) {
+            categoryPaise[price.category().ordinal()] = Paise.of(price.price());
+        }
+        if (overrides.isEmpty()) {
+            this.overrideSeatIds = NO_OVERRIDES;
+            this.overridePaise = NO_OVERRIDES;
+        } else {
+            // Sorted by seat id by the query
+            this.overrideSeatIds = new long[overrides.size()];
+            this.overridePaise = new long[overrides.size()];
+            for (int i = 0; i < overrideSeatIds.length; i++) {
+                overrideSeatIds[i] = overrides.get(i).seatId();
+                overridePaise[i] = Paise.of(overrides.get(i).price());
+            }
+        }
+    }
+
+    public long getShowId() {
+        return showId;
+    }
+
+    public PricingContext getContext() {
+        return context;
+    }
+
+    public long getScreenId() {
+        return screenId;
+    }
+
+    public long getPriceVersion() {
+        return priceVersion;
+    }
+
+    /**
+     * @return the seat's price in paise, or NOT_PRICED if neither it nor its category has a price
+     */
+    public long pricePaise(long seatId, SeatCategory category) {
+        if (overrideSeatIds.length > 0) {
+            int index = Arrays.binarySearch(overrideSeatIds, seatId);
+            if (index >= 0) {
+                return overridePaise[index];
+            }
+        }
+        return categoryPaise[category.ordinal()];
+    }
+
+    public long categoryPricePaise(SeatCategory category) {
+        return categoryPaise[category.ordinal()];
+    }
+
+    public boolean hasOverrides() {
+        return overrideSeatIds.length > 0;
+    }
+
+    /**
+     * Seat ids with an override, ascending
+     */
+    public long[] getOverrideSeatIds() {
+        return overrideSeatIds.clone();
+    }
+
+    /**
+     * @return the seat's override price in paise, or NOT_PRICED if it has none
+     */
+    public long overridePaise(long seatId) {
+        int index = Arrays.binarySearch(overrideSeatIds, seatId);
+        return index < 0 ? NOT_PRICED : overridePaise[index];
+    }
+}
@@ -1,8 +1,11 @@
 package com.moviebooking.repository;
 
+import com.moviebooking.dto.projection.PromoCodeCountView;
 import com.moviebooking.entity.Booking;
 import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,14 +21,55 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     
     List<Booking> findByShowIdAndStatus(Long showId, BookingStatus status);
     
-    @Query("SELECT b FROM Booking b " +
+    /**
+     * Load a booking with everything the booking response needs in one round trip:
+     * show, movie, theatre, city, screen and the booked seats with their seat details
+     */
+    @Query("SELECT DISTINCT b FROM Booking b " +
            "JOIN FETCH b.show s " +
            "JOIN FETCH s.movie " +
            "JOIN FETCH s.theatre t " +
            "JOIN FETCH t.city " +
+           "JOIN FETCH s.screen " +
+           "LEFT JOIN FETCH b.bookedSeats bs " +
+           "LEFT JOIN FETCH bs.seat " +
            "WHERE b.bookingReference = :reference")
     Optional<Booking> findByBookingReferenceWithDetails(@Param("reference") String reference);
     
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.show.id = :showId AND b.status = :status")
     int countByShowIdAndStatus(@Param("showId") Long showId, @Param("status") BookingStatus status);
+    
+    /**
+     * Cancel a booking only if it is still cancellable - concurrent cancels see 0 rows updated
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = 'CANCELLED', b.paymentStatus = :paymentStatus, " +
+           "b.updatedAt = LOCAL DATETIME WHERE b.id = :bookingId AND b.status NOT IN ('CANCELLED', 'COMPLETED')")
+    int cancelIfActive(@Param("bookingId") Long bookingId,
+                       @Param("paymentStatus") PaymentStatus paymentStatus);
+    
+    /**
+     * Move every booking of a show that is still in one of the given states to a new state
+     * Used to cancel all bookings of a show in one statement instead of one transaction per booking
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :status, b.paymentStatus = :paymentStatus, " +
+           "b.updatedAt = LOCAL DATETIME WHERE b.show.id = :showId AND b.status IN :currentStatuses")
+    int updateStatusForShow(@Param("showId") Long showId,
+                            @Param("currentStatuses") List<BookingStatus> currentStatuses,
+                            @Param("status") BookingStatus status,
+                            @Param("paymentStatus") PaymentStatus paymentStatus);
+    
+    /**
+     * Promo codes redeemed by bookings of a show that are still in one of the given states
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.PromoCodeCountView(b.promoCode, COUNT(b)) " +
+           "FROM Booking b WHERE b.show.id = :showId AND b.status IN :statuses AND b.promoCode IS NOT NULL " +
+           "GROUP BY b.promoCode")
+    List<PromoCodeCountView> countPromoCodesForShow(@Param("showId") Long showId,
+                                                    @Param("statuses") List<BookingStatus> statuses);
+    
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.promoCode = :promoCode AND b.status IN :statuses")
+    long countByPromoCodeAndStatusIn(@Param("promoCode") String promoCode,
+                                     @Param("statuses") List<BookingStatus> statuses);
 }
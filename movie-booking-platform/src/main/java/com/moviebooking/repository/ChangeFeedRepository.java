@@ -0,0 +1,41 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.dto.projection.ChangeFeedView;
+import com.moviebooking.entity.ChangeFeedEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChangeFeedRepository extends JpaRepository<ChangeFeedEntry, Long> {
+
+    /**
+     * Entries above a high-water mark, in feed order (primary-key range scan)
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ChangeFeedView(" +
+           "e.id, e.entityType, e.entityId, e.originNode, e.createdAt) " +
+           "FROM ChangeFeedEntry e WHERE e.id > :afterId ORDER BY e.id")
+    List<ChangeFeedView> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Re-read ids that were skipped because their transaction had not committed yet
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ChangeFeedView(" +
+           "e.id, e.entityType, e.entityId, e.originNode, e.createdAt) " +
+           "FROM ChangeFeedEntry e WHERE e.id IN :ids ORDER BY e.id")
+    List<ChangeFeedView> findByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ChangeFeedEntry e")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM ChangeFeedEntry e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,22 @@
 package com.moviebooking.repository;
 
 import com.moviebooking.entity.City;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface CityRepository extends JpaRepository<City, Long> {
     
+    /**
+     * Resolved on every browse request - served from the query cache
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "reference-queries")
+    })
     Optional<City> findByNameIgnoreCase(String name);
     
     boolean existsByNameIgnoreCase(String name);
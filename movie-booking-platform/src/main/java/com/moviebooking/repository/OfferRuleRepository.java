@@ -0,0 +1,18 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.entity.OfferRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OfferRuleRepository extends JpaRepository<OfferRule, Long> {
+
+    List<OfferRule> findByActiveTrueOrderByPriorityAscIdAsc();
+
+    List<OfferRule> findAllByOrderByPriorityAscIdAsc();
+
+    Optional<OfferRule> findByCode(String code);
+}
@@ -0,0 +1,45 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.entity.OutboxEvent;
+import com.moviebooking.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Claim a batch of due events for delivery
+     * Lock timeout -2 is SKIP LOCKED, so concurrent dispatchers take disjoint batches
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> claimDue(@Param("status") OutboxStatus status,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.sentAt = :sentAt, e.attempts = e.attempts + 1, " +
+           "e.lastError = null, e.updatedAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids,
+                 @Param("status") OutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+    long countByStatus(OutboxStatus status);
+}
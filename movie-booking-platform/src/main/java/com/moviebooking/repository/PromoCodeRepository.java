@@ -0,0 +1,39 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.entity.PromoCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PromoCodeRepository extends JpaRepository<PromoCode, Long> {
+
+    Optional<PromoCode> findByCode(String code);
+
+    List<PromoCode> findAllByOrderByCodeAsc();
+
+    /**
+     * Lock a code's row to allocate a chunk of redemptions or edit it
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT p FROM PromoCode p WHERE p.code = :code")
+    Optional<PromoCode> findByCodeForUpdate(@Param("code") String code);
+
+    /**
+     * Give back redemptions a node allocated but did not use (e.g. on shutdown)
+     */
+    @Modifying
+    @Query("UPDATE PromoCode p SET p.allocatedRedemptions = p.allocatedRedemptions - :count, " +
+           "p.updatedAt = LOCAL DATETIME WHERE p.code = :code")
+    int returnRedemptions(@Param("code") String code, @Param("count") int count);
+}
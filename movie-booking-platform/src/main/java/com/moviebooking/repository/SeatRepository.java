@@ -1,7 +1,11 @@
 package com.moviebooking.repository;
 
+import com.moviebooking.dto.projection.SeatCategoryView;
+import com.moviebooking.dto.projection.SeatLayoutView;
 import com.moviebooking.entity.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -9,4 +13,18 @@ import java.util.List;
 public interface SeatRepository extends JpaRepository<Seat, Long> {
     
     List<Seat> findByScreenIdOrderByRowNumberAscSeatNumberAsc(Long screenId);
+    
+    /**
+     * Seat ids of every screen, for the seat layout cache
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.SeatLayoutView(s.screen.id, s.id) " +
+           "FROM Seat s ORDER BY s.screen.id, s.id")
+    List<SeatLayoutView> findAllLayoutViews();
+    
+    @Query("SELECT s.id FROM Seat s WHERE s.screen.id = :screenId ORDER BY s.id")
+    List<Long> findSeatIdsByScreenId(@Param("screenId") Long screenId);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.SeatCategoryView(s.id, s.category, s.rowNumber, s.seatNumber) " +
+           "FROM Seat s WHERE s.screen.id = :screenId ORDER BY s.id")
+    List<SeatCategoryView> findCategoryViewsByScreenId(@Param("screenId") Long screenId);
 }
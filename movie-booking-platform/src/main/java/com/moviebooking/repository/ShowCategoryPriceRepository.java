@@ -0,0 +1,31 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.dto.projection.CategoryPriceView;
+import com.moviebooking.entity.ShowCategoryPrice;
+import com.moviebooking.enums.SeatCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ShowCategoryPriceRepository extends JpaRepository<ShowCategoryPrice, Long> {
+
+    Optional<ShowCategoryPrice> findByShowIdAndCategory(Long showId, SeatCategory category);
+
+    @Query("SELECT new com.moviebooking.dto.projection.CategoryPriceView(cp.show.id, cp.category, cp.basePrice, cp.price) " +
+           "FROM ShowCategoryPrice cp WHERE cp.show.id IN :showIds")
+    List<CategoryPriceView> findPriceViewsByShowIds(@Param("showIds") Collection<Long> showIds);
+
+    @Modifying
+    @Query("UPDATE ShowCategoryPrice cp SET cp.price = :price, cp.updatedAt = LOCAL DATETIME " +
+           "WHERE cp.show.id = :showId AND cp.category = :category")
+    int updatePrice(@Param("showId") Long showId,
+                    @Param("category") SeatCategory category,
+                    @Param("price") Double price);
+}
@@ -1,13 +1,21 @@
 package com.moviebooking.repository;
 
+import com.moviebooking.dto.projection.ShowHeaderView;
+import com.moviebooking.dto.projection.ShowPriceVersionView;
+import com.moviebooking.dto.projection.ShowPricingView;
+import com.moviebooking.dto.projection.ShowScreenView;
+import com.moviebooking.dto.projection.ShowTimingView;
 import com.moviebooking.entity.Show;
 import com.moviebooking.enums.ShowStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShowRepository extends JpaRepository<Show, Long> {
@@ -35,6 +43,36 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
             @Param("showDate") LocalDate showDate,
             @Param("statuses") List<ShowStatus> statuses);
     
+    /**
+     * Projection variant of findShowsByMovieAndCityAndDate for the browse listing
+     * Selects only the columns BrowseShowsResponse needs, without managed entities
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ShowTimingView(" +
+           "s.id, t.id, t.name, t.address, s.startTime, s.endTime, " +
+           "sc.name, sc.screenType, s.availableSeats, s.status) " +
+           "FROM Show s " +
+           "JOIN s.theatre t " +
+           "JOIN s.screen sc " +
+           "WHERE s.movie.id = :movieId " +
+           "AND t.city.id = :cityId " +
+           "AND s.showDate = :showDate " +
+           "AND s.status IN :statuses " +
+           "ORDER BY t.name, s.startTime")
+    List<ShowTimingView> findShowTimingsByMovieAndCityAndDate(
+            @Param("movieId") Long movieId,
+            @Param("cityId") Long cityId,
+            @Param("showDate") LocalDate showDate,
+            @Param("statuses") List<ShowStatus> statuses);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.ShowHeaderView(" +
+           "s.id, m.title, t.name, sc.name, s.showDate, s.startTime) " +
+           "FROM Show s " +
+           "JOIN s.movie m " +
+           "JOIN s.theatre t " +
+           "JOIN s.screen sc " +
+           "WHERE s.id = :showId")
+    Optional<ShowHeaderView> findShowHeaderById(@Param("showId") Long showId);
+    
     @Query("SELECT s FROM Show s " +
            "JOIN FETCH s.theatre t " +
            "JOIN FETCH t.city c " +
@@ -46,4 +84,51 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
             @Param("cityName") String cityName,
             @Param("movieId") Long movieId,
             @Param("showDate") LocalDate showDate);
+    
+    /**
+     * Adjust the available seat counter in place, without loading the show.
+     * Clears the persistence context so no stale Show/Booking state is flushed afterwards.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Show s SET s.availableSeats = s.availableSeats + :delta, " +
+           "s.updatedAt = LOCAL DATETIME WHERE s.id = :showId")
+    int adjustAvailableSeats(@Param("showId") Long showId, @Param("delta") int delta);
+    
+    /**
+     * Take booked seats off the available seat counter in place.
+     * Unlike adjustAvailableSeats this keeps the persistence context, so the booking's pending seat
+     * changes are still flushed; the loaded Show must not be modified afterwards.
+     */
+    @Modifying
+    @Query("UPDATE Show s SET s.availableSeats = s.availableSeats - :seats, " +
+           "s.updatedAt = LOCAL DATETIME WHERE s.id = :showId")
+    int takeAvailableSeats(@Param("showId") Long showId, @Param("seats") int seats);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Show s SET s.status = :status, s.availableSeats = s.availableSeats + :releasedSeats, " +
+           "s.updatedAt = LOCAL DATETIME WHERE s.id = :showId")
+    int updateStatusAndReleaseSeats(@Param("showId") Long showId,
+                                    @Param("status") ShowStatus status,
+                                    @Param("releasedSeats") int releasedSeats);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.ShowScreenView(s.id, s.screen.id) " +
+           "FROM Show s WHERE s.showDate >= :fromDate")
+    List<ShowScreenView> findShowScreensFrom(@Param("fromDate") LocalDate fromDate);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.ShowScreenView(s.id, s.screen.id) " +
+           "FROM Show s WHERE s.id = :showId")
+    Optional<ShowScreenView> findShowScreenById(@Param("showId") Long showId);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.ShowPricingView(" +
+           "s.id, s.theatre.id, s.screen.id, s.startTime, s.priceVersion) " +
+           "FROM Show s WHERE s.id IN :showIds")
+    List<ShowPricingView> findShowPricingByIds(@Param("showIds") Collection<Long> showIds);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.ShowPriceVersionView(s.id, s.priceVersion) " +
+           "FROM Show s WHERE s.id IN :showIds")
+    List<ShowPriceVersionView> findPriceVersionsByIds(@Param("showIds") Collection<Long> showIds);
+    
+    @Modifying
+    @Query("UPDATE Show s SET s.priceVersion = s.priceVersion + 1, s.updatedAt = LOCAL DATETIME WHERE s.id = :showId")
+    int incrementPriceVersion(@Param("showId") Long showId);
 }
@@ -0,0 +1,27 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.dto.projection.SeatPriceOverrideView;
+import com.moviebooking.entity.ShowSeatPriceOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ShowSeatPriceOverrideRepository extends JpaRepository<ShowSeatPriceOverride, Long> {
+
+    Optional<ShowSeatPriceOverride> findByShowIdAndSeatId(Long showId, Long seatId);
+
+    @Query("SELECT new com.moviebooking.dto.projection.SeatPriceOverrideView(o.show.id, o.seat.id, o.price) " +
+           "FROM ShowSeatPriceOverride o WHERE o.show.id IN :showIds ORDER BY o.show.id, o.seat.id")
+    List<SeatPriceOverrideView> findViewsByShowIds(@Param("showIds") Collection<Long> showIds);
+
+    @Modifying
+    @Query("DELETE FROM ShowSeatPriceOverride o WHERE o.show.id = :showId AND o.seat.id = :seatId")
+    int deleteByShowIdAndSeatId(@Param("showId") Long showId, @Param("seatId") Long seatId);
+}
@@ -1,13 +1,23 @@
 package com.moviebooking.repository;
 
+import com.moviebooking.dto.projection.BookedSeatView;
+import com.moviebooking.dto.projection.ShowCategoryCountView;
+import com.moviebooking.dto.projection.ShowCategorySalesView;
+import com.moviebooking.dto.projection.ShowSeatView;
 import com.moviebooking.entity.ShowSeat;
 import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.enums.ShowStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,15 +35,109 @@ public interface ShowSeatRepository extends JpaRepository<ShowSeat, Long> {
     /**
      * Find seats with pessimistic lock for booking
      * This prevents race conditions during concurrent bookings
+     * Rows are locked in seat-id order so overlapping bookings cannot deadlock;
+     * lock waits are bounded by the lock timeout hint (milliseconds)
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT ss FROM ShowSeat ss WHERE ss.show.id = :showId AND ss.seat.id IN :seatIds AND ss.status = 'AVAILABLE'")
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT ss FROM ShowSeat ss WHERE ss.show.id = :showId AND ss.seat.id IN :seatIds AND ss.status = 'AVAILABLE' " +
+           "ORDER BY ss.seat.id")
     List<ShowSeat> findAvailableSeatsForBooking(@Param("showId") Long showId, 
                                                  @Param("seatIds") List<Long> seatIds);
     
+    /**
+     * Release every seat held by a booking in a single set-based UPDATE
+     */
+    @Modifying
+    @Query("UPDATE ShowSeat ss SET ss.status = :status, ss.booking = null, ss.price = null, " +
+           "ss.version = ss.version + 1, ss.updatedAt = LOCAL DATETIME WHERE ss.booking.id = :bookingId")
+    int releaseSeatsByBookingId(@Param("bookingId") Long bookingId, @Param("status") SeatStatus status);
+    
+    /**
+     * Release every booked seat of a show in a single set-based UPDATE (show cancellation)
+     */
+    @Modifying
+    @Query("UPDATE ShowSeat ss SET ss.status = :status, ss.booking = null, ss.price = null, " +
+           "ss.version = ss.version + 1, ss.updatedAt = LOCAL DATETIME WHERE ss.show.id = :showId AND ss.booking IS NOT NULL")
+    int releaseSeatsByShowId(@Param("showId") Long showId, @Param("status") SeatStatus status);
+    
     @Query("SELECT COUNT(ss) FROM ShowSeat ss WHERE ss.show.id = :showId AND ss.status = :status")
     int countByShowIdAndStatus(@Param("showId") Long showId, @Param("status") SeatStatus status);
     
-    @Query("SELECT MIN(ss.price) FROM ShowSeat ss WHERE ss.show.id = :showId AND ss.status = 'AVAILABLE'")
-    Optional<Double> findMinPriceByShowId(@Param("showId") Long showId);
+    /**
+     * Seat map projection - selects only the columns ShowSeatsResponse needs
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ShowSeatView(" +
+           "ss.id, se.id, se.rowNumber, se.seatNumber, se.category, ss.status) " +
+           "FROM ShowSeat ss JOIN ss.seat se " +
+           "WHERE ss.show.id = :showId " +
+           "ORDER BY se.rowNumber, se.seatNumber")
+    List<ShowSeatView> findSeatViewsByShowId(@Param("showId") Long showId);
+    
+    /**
+     * (show, seat) pairs in a status for shows from a date - inventory bootstrap without entity hydration
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.BookedSeatView(ss.show.id, ss.seat.id) " +
+           "FROM ShowSeat ss WHERE ss.show.showDate >= :fromDate AND ss.status = :status")
+    List<BookedSeatView> findSeatViewsFrom(@Param("fromDate") LocalDate fromDate,
+                                           @Param("status") SeatStatus status);
+    
+    @Query("SELECT new com.moviebooking.dto.projection.BookedSeatView(ss.show.id, ss.seat.id) " +
+           "FROM ShowSeat ss WHERE ss.show.id IN :showIds AND ss.status = :status")
+    List<BookedSeatView> findSeatViewsByShowIds(@Param("showIds") List<Long> showIds,
+                                                @Param("status") SeatStatus status);
+    
+    /**
+     * Available seats per show and category for a batch of shows (starting prices)
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ShowCategoryCountView(ss.show.id, se.category, COUNT(ss)) " +
+           "FROM ShowSeat ss JOIN ss.seat se " +
+           "WHERE ss.show.id IN :showIds AND ss.status = 'AVAILABLE' " +
+           "GROUP BY ss.show.id, se.category")
+    List<ShowCategoryCountView> countAvailableByCategory(@Param("showIds") List<Long> showIds);
+    
+    @Query("SELECT ss.seat.id FROM ShowSeat ss " +
+           "WHERE ss.show.id = :showId AND ss.seat.id IN :seatIds AND ss.status = 'AVAILABLE'")
+    List<Long> findAvailableSeatIds(@Param("showId") Long showId, @Param("seatIds") List<Long> seatIds);
+    
+    @Query("SELECT ss.seat.id FROM ShowSeat ss " +
+           "WHERE ss.show.id = :showId AND ss.status = 'AVAILABLE' ORDER BY ss.seat.id")
+    List<Long> findAvailableSeatIdsByShowId(@Param("showId") Long showId);
+    
+    /**
+     * Occupancy and recent sales per show and seat category with the category's list price, in one grouped scan
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ShowCategorySalesView(" +
+           "s.id, cp.category, cp.basePrice, cp.price, COUNT(ss), " +
+           "SUM(CASE WHEN ss.status = 'BOOKED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ss.status = 'BOOKED' AND b.bookingTime >= :since THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ss.status = 'AVAILABLE' THEN 1 ELSE 0 END)) " +
+           "FROM ShowSeat ss JOIN ss.show s JOIN ss.seat se " +
+           "JOIN ShowCategoryPrice cp ON cp.show = s AND cp.category = se.category " +
+           "LEFT JOIN ss.booking b " +
+           "WHERE s.showDate >= :fromDate AND s.status IN :statuses " +
+           "GROUP BY s.id, cp.category, cp.basePrice, cp.price " +
+           "ORDER BY s.id")
+    List<ShowCategorySalesView> findCategorySalesFrom(@Param("fromDate") LocalDate fromDate,
+                                                      @Param("since") LocalDateTime since,
+                                                      @Param("statuses") List<ShowStatus> statuses);
+
+    /**
+     * findCategorySalesFrom restricted to the given shows
+     */
+    @Query("SELECT new com.moviebooking.dto.projection.ShowCategorySalesView(" +
+           "s.id, cp.category, cp.basePrice, cp.price, COUNT(ss), " +
+           "SUM(CASE WHEN ss.status = 'BOOKED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ss.status = 'BOOKED' AND b.bookingTime >= :since THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN ss.status = 'AVAILABLE' THEN 1 ELSE 0 END)) " +
+           "FROM ShowSeat ss JOIN ss.show s JOIN ss.seat se " +
+           "JOIN ShowCategoryPrice cp ON cp.show = s AND cp.category = se.category " +
+           "LEFT JOIN ss.booking b " +
+           "WHERE s.id IN :showIds AND s.showDate >= :fromDate AND s.status IN :statuses " +
+           "GROUP BY s.id, cp.category, cp.basePrice, cp.price " +
+           "ORDER BY s.id")
+    List<ShowCategorySalesView> findCategorySalesByShowIds(@Param("showIds") List<Long> showIds,
+                                                           @Param("fromDate") LocalDate fromDate,
+                                                           @Param("since") LocalDateTime since,
+                                                           @Param("statuses") List<ShowStatus> statuses);
 }
@@ -12,7 +12,9 @@ public interface TheatreRepository extends JpaRepository<Theatre, Long> {
     
     List<Theatre> findByActiveTrue();
     
-    List<Theatre> findByCityIdAndActiveTrue(Long cityId);
+    // Filters on the city_id column; the derived query joined cities and scanned theatres
+    @Query("SELECT t FROM Theatre t WHERE t.city.id = :cityId AND t.active = true")
+    List<Theatre> findByCityIdAndActiveTrue(@Param("cityId") Long cityId);
     
     @Query("SELECT t FROM Theatre t WHERE t.city.name = :cityName AND t.active = true")
     List<Theatre> findByCityNameAndActiveTrue(@Param("cityName") String cityName);
@@ -0,0 +1,139 @@
+package com.moviebooking.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit driven by observed latency
+ * 
+ * Gradient algorithm: a fast and a slow moving average of request latency are kept.
+ * When the fast average rises above the slow baseline (requests are queueing in the
+ * database), the limit shrinks by the ratio of the two; otherwise it grows by a small
+ * queue allowance (sqrt of the limit). Explicit overload signals such as lock timeouts
+ * cut the limit multiplicatively (AIMD). Requests beyond the limit are rejected at once
+ * instead of waiting, so goodput stays flat under overload.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double FAST_SMOOTHING = 0.2;
+    private static final double SLOW_SMOOTHING = 0.01;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double OVERLOAD_BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double fastRttNanos;
+    private double slowRttNanos;
+
+    // Read without locking on the acquire path
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Try to admit a request
+     * 
+     * @return true if admitted; the caller must then call onSuccess/onOverload exactly once
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request that completed (successfully or with a business error)
+     */
+    public void onSuccess(long rttNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        sample(rttNanos, concurrency);
+    }
+
+    /**
+     * Release an admitted request that failed because the backend is overloaded
+     */
+    public synchronized void onOverload() {
+        inFlight.decrementAndGet();
+        estimatedLimit = Math.max(minLimit, estimatedLimit * OVERLOAD_BACKOFF);
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(name + ".concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder(name + ".concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .register(registry);
+        FunctionCounter.builder(name + ".concurrency.shed", shed, LongAdder::sum)
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(registry);
+        FunctionCounter.builder(name + ".concurrency.admitted", admitted, LongAdder::sum)
+                .description("Requests admitted by the concurrency limiter")
+                .register(registry);
+    }
+
+    private synchronized void sample(long rttNanos, int concurrency) {
+        if (slowRttNanos == 0) {
+            fastRttNanos = rttNanos;
+            slowRttNanos = rttNanos;
+            return;
+        }
+        fastRttNanos += FAST_SMOOTHING * (rttNanos - fastRttNanos);
+        slowRttNanos += SLOW_SMOOTHING * (rttNanos - slowRttNanos);
+
+        // Don't grow the limit while the application isn't using it
+        if (concurrency < estimatedLimit / 2 && fastRttNanos <= slowRttNanos) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, slowRttNanos / fastRttNanos));
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueAllowance;
+
+        estimatedLimit = estimatedLimit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+}
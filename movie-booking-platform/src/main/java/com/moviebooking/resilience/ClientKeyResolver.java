@@ -0,0 +1,71 @@
+package com.moviebooking.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the key a request is rate limited under
+ * 
+ * An authenticated principal wins, otherwise the remote address. X-Client-Id and X-Forwarded-For
+ * are set by whoever sends the request, so they are honoured only from the addresses listed in
+ * app.rate-limit.trusted-proxies (load balancers that overwrite them); from anyone else a
+ * rotated header cannot buy a fresh bucket. Peer-forwarded bookings are not limited again on
+ * the owner, so peers need not be listed.
+ */
+@Component
+public class ClientKeyResolver {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final Set<String> trustedProxies;
+
+    public ClientKeyResolver(@Value("${app.rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+
+        String remoteAddress = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return clientId;
+        }
+        return forwardedClient(request.getHeader(FORWARDED_FOR_HEADER), remoteAddress);
+    }
+
+    /**
+     * The right-most X-Forwarded-For hop that is not itself a trusted proxy; hops further left
+     * were written by the client
+     */
+    private String forwardedClient(String forwardedFor, String remoteAddress) {
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddress;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddress;
+    }
+}
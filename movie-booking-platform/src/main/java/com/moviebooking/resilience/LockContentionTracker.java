@@ -0,0 +1,75 @@
+package com.moviebooking.resilience;
+
+import com.moviebooking.dto.response.LockContentionStatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-show counters for seat-lock contention on the booking path
+ * Exposed at /actuator/bookingcontention
+ */
+@Component
+public class LockContentionTracker {
+
+    // Deadlock victim codes: SQLState 40001 (MySQL, H2), 40P01 (PostgreSQL); MySQL error 1213
+    private static final int MYSQL_DEADLOCK = 1213;
+
+    private final Map<Long, ShowCounters> counters = new ConcurrentHashMap<>();
+
+    public void recordRetry(Long showId, boolean deadlock) {
+        ShowCounters c = countersFor(showId);
+        c.retries.increment();
+        (deadlock ? c.deadlocks : c.lockTimeouts).increment();
+    }
+
+    public void recordExhausted(Long showId, boolean deadlock) {
+        ShowCounters c = countersFor(showId);
+        c.exhausted.increment();
+        (deadlock ? c.deadlocks : c.lockTimeouts).increment();
+    }
+
+    public List<LockContentionStatsResponse> getStatistics() {
+        return counters.entrySet().stream()
+                .map(e -> LockContentionStatsResponse.builder()
+                        .showId(e.getKey())
+                        .retries(e.getValue().retries.sum())
+                        .deadlocks(e.getValue().deadlocks.sum())
+                        .lockTimeouts(e.getValue().lockTimeouts.sum())
+                        .exhaustedRetries(e.getValue().exhausted.sum())
+                        .build())
+                .sorted(Comparator.comparing(LockContentionStatsResponse::getShowId))
+                .toList();
+    }
+
+    /**
+     * Whether a locking failure was a deadlock (as opposed to a lock wait timeout)
+     */
+    public static boolean isDeadlock(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql) {
+                String state = sql.getSQLState();
+                if (sql.getErrorCode() == MYSQL_DEADLOCK || "40001".equals(state) || "40P01".equals(state)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private ShowCounters countersFor(Long showId) {
+        return counters.computeIfAbsent(showId, id -> new ShowCounters());
+    }
+
+    private static final class ShowCounters {
+        final LongAdder retries = new LongAdder();
+        final LongAdder deadlocks = new LongAdder();
+        final LongAdder lockTimeouts = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+    }
+}
@@ -0,0 +1,51 @@
+package com.moviebooking.resilience;
+
+import com.moviebooking.cluster.ClusterClient;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Applies per-client limits (and per-show limits when the show id is in the path)
+ * before the seat-map and booking controllers run
+ * 
+ * Bookings carry the show id in the request body, so BookingController applies
+ * the per-show limit itself once the body is parsed. Clients are keyed by ClientKeyResolver.
+ * Bookings forwarded by an authenticated peer were charged on the node the client called,
+ * so they are not charged again here.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestRateLimiter requestRateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (ClusterClient.isForwardedRequest()) {
+            return true;
+        }
+        requestRateLimiter.checkClient(clientKeyResolver.resolve(request));
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null) {
+            String showId = pathVariables.get("showId");
+            if (showId != null) {
+                try {
+                    requestRateLimiter.checkShow(Long.valueOf(showId));
+                } catch (NumberFormatException e) {
+                    // Invalid ids are rejected by the controller's type conversion
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.moviebooking.resilience;
+
+import com.moviebooking.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client and per-show request rate limits for the hot seat-map and booking APIs
+ * Exceeding a limit raises RateLimitExceededException, returned to clients as 429 with Retry-After
+ */
+@Component
+@Slf4j
+public class RequestRateLimiter {
+
+    private static final int OVERFLOW_STRIPES = 4096;
+
+    private final boolean enabled;
+    private final long idleEvictionNanos;
+    private final TokenBucketRateLimiter clientLimiter;
+    private final TokenBucketRateLimiter showLimiter;
+
+    public RequestRateLimiter(
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.client.requests-per-second:20}") double clientRate,
+            @Value("${app.rate-limit.client.burst:40}") int clientBurst,
+            @Value("${app.rate-limit.show.requests-per-second:500}") double showRate,
+            @Value("${app.rate-limit.show.burst:1000}") int showBurst,
+            @Value("${app.rate-limit.max-tracked-keys:200000}") int maxTrackedKeys,
+            @Value("${app.rate-limit.idle-eviction-seconds:300}") long idleEvictionSeconds) {
+        this.enabled = enabled;
+        this.idleEvictionNanos = TimeUnit.SECONDS.toNanos(idleEvictionSeconds);
+        this.clientLimiter = new TokenBucketRateLimiter(clientRate, clientBurst, maxTrackedKeys, OVERFLOW_STRIPES);
+        this.showLimiter = new TokenBucketRateLimiter(showRate, showBurst, maxTrackedKeys, OVERFLOW_STRIPES);
+    }
+
+    /**
+     * Take a permit for a client (API key or remote address)
+     */
+    public void checkClient(String clientId) {
+        if (!enabled) {
+            return;
+        }
+        long waitNanos = clientLimiter.tryAcquire(clientId, System.nanoTime());
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Too many requests. Please slow down", retryAfterSeconds(waitNanos));
+        }
+    }
+
+    /**
+     * Take a permit for a show, shared by all clients requesting it
+     */
+    public void checkShow(Long showId) {
+        if (!enabled || showId == null) {
+            return;
+        }
+        long waitNanos = showLimiter.tryAcquire(showId, System.nanoTime());
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Too many requests for show " + showId + ". Please retry shortly",
+                                                 retryAfterSeconds(waitNanos));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:30000}")
+    public void evictIdleKeys() {
+        long now = System.nanoTime();
+        int evicted = clientLimiter.evictIdle(now, idleEvictionNanos) + showLimiter.evictIdle(now, idleEvictionNanos);
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit keys. Tracking clients: {}, shows: {}",
+                      evicted, clientLimiter.trackedKeys(), showLimiter.trackedKeys());
+        }
+    }
+
+    private long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+}
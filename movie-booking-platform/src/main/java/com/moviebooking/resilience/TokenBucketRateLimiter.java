@@ -0,0 +1,107 @@
+package com.moviebooking.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free keyed token bucket
+ * 
+ * Each key's bucket is a single AtomicLong holding its "theoretical arrival time"
+ * (GCRA formulation of a token bucket): a request is admitted when advancing that
+ * time by one emission interval keeps it within burst * interval of now. Admission
+ * is one map lookup plus one CAS, with no locks and no allocation for known keys.
+ * 
+ * Memory is bounded: at most maxKeys buckets are tracked individually. Beyond that,
+ * keys share a fixed array of striped buckets chosen by hash. Idle buckets are full
+ * by definition, so evicting them loses no state.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLongArray overflowStripes;
+
+    /**
+     * @param permitsPerSecond sustained rate per key
+     * @param burst number of requests a key may make back to back
+     * @param maxKeys maximum number of individually tracked keys
+     * @param overflowStripes number of shared buckets used once maxKeys is reached
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxKeys, int overflowStripes) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstWindowNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+        this.overflowStripes = new AtomicLongArray(Integer.highestOneBit(Math.max(overflowStripes, 1)));
+    }
+
+    /**
+     * Try to take one permit for a key
+     * 
+     * @param key client or resource key
+     * @param nowNanos current System.nanoTime()
+     * @return 0 if admitted, otherwise nanoseconds until a permit becomes available
+     */
+    public long tryAcquire(Object key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() < maxKeys) {
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+            } else {
+                return tryAcquireStripe(stripeFor(key), nowNanos);
+            }
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstWindowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have been idle for at least idleNanos (their bucket is full again)
+     * 
+     * @return number of evicted keys
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> nowNanos - bucket.get() >= idleNanos);
+        return before - buckets.size();
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    private long tryAcquireStripe(int stripe, long nowNanos) {
+        while (true) {
+            long tat = overflowStripes.get(stripe);
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstWindowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (overflowStripes.compareAndSet(stripe, tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private int stripeFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return h & (overflowStripes.length() - 1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingTicketResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for asynchronous booking submission
+ * Booking requests are accepted immediately and processed on a bounded internal queue,
+ * so servlet threads are never held for the duration of seat lock waits
+ */
+public interface AsyncBookingService {
+
+    /**
+     * Queue a booking request
+     * 
+     * @param request booking request with show, customer, and seat details
+     * @return pending ticket to poll for the result
+     */
+    BookingTicketResponse submitBooking(BookTicketRequest request);
+
+    /**
+     * Get the current state of a booking ticket
+     * 
+     * @param ticketId ticket id returned on submission
+     * @return ticket state
+     */
+    BookingTicketResponse getTicket(String ticketId);
+
+    /**
+     * Wait for a ticket to complete without holding a servlet thread
+     * 
+     * @param ticketId ticket id returned on submission
+     * @param timeoutMillis maximum time to wait; the current (possibly pending) state is returned on timeout
+     * @return future completed with the ticket state
+     */
+    CompletableFuture<BookingTicketResponse> awaitTicket(String ticketId, long timeoutMillis);
+}
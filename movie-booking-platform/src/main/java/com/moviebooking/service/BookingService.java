@@ -2,6 +2,7 @@ package com.moviebooking.service;
 
 import com.moviebooking.dto.request.BookTicketRequest;
 import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.ShowCancellationResponse;
 
 /**
  * Service interface for booking tickets
@@ -36,4 +37,15 @@ public interface BookingService {
      * @return updated booking response
      */
     BookingResponse cancelBooking(String bookingReference);
+
+    /**
+     * Cancel a show and every active booking for it (mass refund)
+     * - Marks all confirmed/pending bookings as cancelled and refunded
+     * - Releases all booked seats
+     * All in a handful of set-based statements within one transaction
+     * 
+     * @param showId the show ID
+     * @return summary of cancelled bookings and released seats
+     */
+    ShowCancellationResponse cancelAllBookingsForShow(Long showId);
 }
@@ -0,0 +1,20 @@
+package com.moviebooking.service;
+
+import com.moviebooking.enums.ChangeEntityType;
+
+/**
+ * Service interface for publishing mutations to the cross-node change feed
+ * 
+ * Joins the caller's transaction when there is one, so the entry becomes visible
+ * exactly when the change it describes commits.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Record that an entity changed
+     *
+     * @param type entity type
+     * @param entityId entity id, or null when every entity of the type changed
+     */
+    void record(ChangeEntityType type, Long entityId);
+}
@@ -0,0 +1,17 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.response.BookingResponse;
+
+/**
+ * Service interface for recording booking notifications in the transactional outbox
+ * 
+ * Must be called inside the booking transaction: the outbox rows commit or roll back
+ * together with the booking, and delivery happens later in the background.
+ */
+public interface NotificationOutboxService {
+
+    /**
+     * Record confirmation notifications (email, SMS if a phone is present, partner) for a new booking
+     */
+    void enqueueBookingConfirmation(BookingResponse booking);
+}
@@ -0,0 +1,28 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.request.OfferRuleRequest;
+import com.moviebooking.dto.response.OfferRuleResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for managing offer rules
+ * 
+ * Changes are published on the change feed, so every node recompiles its pricing
+ * pipelines within one change-feed poll interval - no redeploy needed.
+ */
+public interface OfferRuleService {
+
+    List<OfferRuleResponse> getRules();
+
+    /**
+     * Create a rule, or replace the rule with the same code
+     */
+    OfferRuleResponse saveRule(OfferRuleRequest request);
+
+    /**
+     * Recompile the rules on this node now and ask the other nodes to do the same
+     * (e.g. after editing offer_rules directly)
+     */
+    void reloadRules();
+}
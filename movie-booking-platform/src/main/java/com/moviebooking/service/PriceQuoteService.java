@@ -0,0 +1,22 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.request.PriceQuoteRequest;
+import com.moviebooking.dto.response.PriceQuoteResponse;
+
+/**
+ * Service interface for previewing booking prices without booking
+ */
+public interface PriceQuoteService {
+
+    /**
+     * Price each seat selection exactly as bookTickets would
+     * 
+     * Uses cached show prices and compiled offer pipelines: no transaction, no entities.
+     * Invalid selections (unknown seats, too many seats) are reported per quote.
+     *
+     * @param showId show to quote
+     * @param request candidate seat selections
+     * @return one quote per selection, in request order
+     */
+    PriceQuoteResponse quote(Long showId, PriceQuoteRequest request);
+}
@@ -1,23 +1,39 @@
 package com.moviebooking.service;
 
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.pricing.PricingContext;
+
 import java.util.List;
 
 /**
  * Service interface for pricing and offers calculation
- * Implements the offer/discount logic:
+ * Offers are configurable rules (see OfferRuleEngine); the defaults are:
  * - 50% discount on the third ticket
  * - 20% discount for afternoon shows
+ * Limited-quantity promo codes are applied on top (see PromoCodeRegistry).
  */
 public interface PricingService {
 
     /**
      * Calculate pricing with applicable offers
      * 
-     * @param seatPrices list of individual seat prices
-     * @param isAfternoonShow whether the show is in the afternoon (12 PM - 5 PM)
-     * @return pricing result with base amount, discounts, and final amount
+     * @param context show attributes offers are scoped by (theatre, start time)
+     * @param pricesPaise individual seat prices in paise
+     * @param categories seat category of each price
+     * @return pricing result with base amount, discounts, and final amount (exact to the paisa)
+     */
+    PricingResult calculatePricing(PricingContext context, long[] pricesPaise, SeatCategory[] categories);
+
+    /**
+     * Calculate pricing with applicable offers, then redeem one use of a promo code and
+     * apply it to the amount left after offers
+     * The redemption is credited back if the surrounding transaction rolls back.
+     * 
+     * @param promoCode promo code entered by the customer, or null for none
+     * @throws com.moviebooking.exception.BookingException if the code is invalid or fully redeemed
      */
-    PricingResult calculatePricing(List<Double> seatPrices, boolean isAfternoonShow);
+    PricingResult calculatePricing(PricingContext context, long[] pricesPaise, SeatCategory[] categories,
+                                   String promoCode);
 
     /**
      * Pricing result with all calculations
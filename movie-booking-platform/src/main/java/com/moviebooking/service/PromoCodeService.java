@@ -0,0 +1,23 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.request.PromoCodeRequest;
+import com.moviebooking.dto.response.PromoCodeResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for managing limited-quantity promo codes
+ * 
+ * Changes are published on the change feed, so every node picks up new terms within one
+ * change-feed poll interval.
+ */
+public interface PromoCodeService {
+
+    List<PromoCodeResponse> getPromoCodes();
+
+    /**
+     * Create a promo code, or update the code with the same name
+     * The cap cannot be lowered below the redemptions already allocated to nodes.
+     */
+    PromoCodeResponse savePromoCode(PromoCodeRequest request);
+}
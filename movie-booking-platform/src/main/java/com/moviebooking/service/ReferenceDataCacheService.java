@@ -0,0 +1,49 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.response.CacheRegionStatsResponse;
+import com.moviebooking.enums.ReferenceDataType;
+
+import java.util.List;
+
+/**
+ * Service interface for the reference data (movie, city, theatre, screen, seat)
+ * second-level cache and query cache
+ */
+public interface ReferenceDataCacheService {
+
+    /**
+     * Evict a single cached entity, e.g. after a partner edits a theatre
+     * Other nodes evict it too, through the change feed
+     *
+     * @param type reference data type
+     * @param id entity id
+     */
+    void evict(ReferenceDataType type, Long id);
+
+    /**
+     * Evict every cached entity of a type, on every node
+     *
+     * @param type reference data type
+     */
+    void evictAll(ReferenceDataType type);
+
+    /**
+     * Evict all reference data regions and cached queries, on every node
+     */
+    void evictAll();
+
+    /**
+     * Evict on this node only - applies a change received from the change feed
+     *
+     * @param type reference data type
+     * @param id entity id, or null for every entity of the type
+     */
+    void invalidate(ReferenceDataType type, Long id);
+
+    /**
+     * Per-region hit/miss statistics
+     *
+     * @return statistics for every entity and query cache region
+     */
+    List<CacheRegionStatsResponse> getRegionStatistics();
+}
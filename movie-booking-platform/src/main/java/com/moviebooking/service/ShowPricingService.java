@@ -0,0 +1,21 @@
+package com.moviebooking.service;
+
+import com.moviebooking.dto.request.ShowPriceUpdateRequest;
+import com.moviebooking.dto.response.ShowPricesResponse;
+
+/**
+ * Service interface for managing the list prices of a show
+ * 
+ * A show is priced per seat category, with optional per-seat overrides. Every change bumps
+ * the show's price version and is published on the change feed, so every node drops its
+ * cached price table within one change-feed poll interval.
+ */
+public interface ShowPricingService {
+
+    ShowPricesResponse getPrices(Long showId);
+
+    /**
+     * Set category prices and add, change or (with a null price) remove seat overrides
+     */
+    ShowPricesResponse updatePrices(Long showId, ShowPriceUpdateRequest request);
+}
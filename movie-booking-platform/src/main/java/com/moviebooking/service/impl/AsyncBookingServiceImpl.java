@@ -0,0 +1,222 @@
+package com.moviebooking.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebooking.cluster.ClusterClient;
+import com.moviebooking.cluster.ClusterMembership;
+import com.moviebooking.cluster.ClusterNode;
+import com.moviebooking.cluster.NodeUnavailableException;
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.BookingTicketResponse;
+import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.exception.BookingOverloadedException;
+import com.moviebooking.exception.BookingQueueFullException;
+import com.moviebooking.exception.ResourceNotFoundException;
+import com.moviebooking.exception.SeatNotAvailableException;
+import com.moviebooking.service.AsyncBookingService;
+import com.moviebooking.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of AsyncBookingService
+ * 
+ * Requests are queued on the bounded bookingExecutor and processed by the regular
+ * BookingService. Ticket state is kept in a bounded in-memory cache on the node that
+ * accepted the request and expires the retention period after submission. Ticket ids
+ * carry the issuing node id, so in a cluster a poll that lands on another node is
+ * answered by the issuer.
+ */
+@Service
+@Slf4j
+public class AsyncBookingServiceImpl implements AsyncBookingService {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+    private static final long MAX_WAIT_MILLIS = 30_000;
+
+    /** Separates the issuing node id from the random part of a ticket id */
+    private static final char NODE_SEPARATOR = '.';
+
+    private final BookingService bookingService;
+    private final ThreadPoolExecutor bookingExecutor;
+    private final ClusterMembership clusterMembership;
+    private final ClusterClient clusterClient;
+    private final Cache<String, BookingTicket> tickets;
+
+    public AsyncBookingServiceImpl(
+            BookingService bookingService,
+            ThreadPoolExecutor bookingExecutor,
+            ClusterMembership clusterMembership,
+            ClusterClient clusterClient,
+            @Value("${app.booking.async.ticket-retention-minutes:15}") long ticketRetentionMinutes,
+            @Value("${app.booking.async.max-tickets:100000}") long maxTickets) {
+        this.bookingService = bookingService;
+        this.bookingExecutor = bookingExecutor;
+        this.clusterMembership = clusterMembership;
+        this.clusterClient = clusterClient;
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterWrite(Duration.ofMinutes(ticketRetentionMinutes))
+                .build();
+    }
+
+    @Override
+    public BookingTicketResponse submitBooking(BookTicketRequest request) {
+        String ticketId = clusterMembership.getSelf().nodeId() + NODE_SEPARATOR + UUID.randomUUID();
+        BookingTicket ticket = new BookingTicket(ticketId);
+        tickets.put(ticket.ticketId, ticket);
+
+        try {
+            bookingExecutor.execute(() -> process(ticket, request));
+        } catch (RejectedExecutionException e) {
+            tickets.invalidate(ticket.ticketId);
+            log.warn("Booking queue full ({} pending) - rejecting request for show: {}",
+                     bookingExecutor.getQueue().size(), request.getShowId());
+            throw new BookingQueueFullException("Booking queue is full. Please retry shortly", 1);
+        }
+
+        log.info("Booking request queued. Ticket: {}, show: {}", ticket.ticketId, request.getShowId());
+        return ticket.toResponse();
+    }
+
+    @Override
+    public BookingTicketResponse getTicket(String ticketId) {
+        ClusterNode issuer = remoteIssuer(ticketId);
+        if (issuer != null) {
+            return fetchRemoteTicket(issuer, ticketId, 0);
+        }
+        return findTicket(ticketId).toResponse();
+    }
+
+    @Override
+    public CompletableFuture<BookingTicketResponse> awaitTicket(String ticketId, long timeoutMillis) {
+        ClusterNode issuer = remoteIssuer(ticketId);
+        if (issuer != null) {
+            return CompletableFuture.completedFuture(fetchRemoteTicket(issuer, ticketId, timeoutMillis));
+        }
+        BookingTicket ticket = findTicket(ticketId);
+        long waitMillis = Math.min(Math.max(timeoutMillis, 0), MAX_WAIT_MILLIS);
+
+        return ticket.completion
+                .thenApply(done -> ticket.toResponse())
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .thenApply(response -> response != null ? response : ticket.toResponse());
+    }
+
+    private void process(BookingTicket ticket, BookTicketRequest request) {
+        try {
+            BookingResponse booking = bookingService.bookTickets(request);
+            ticket.confirm(booking);
+        } catch (SeatNotAvailableException | ResourceNotFoundException | BookingException
+                 | BookingOverloadedException e) {
+            ticket.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error processing booking ticket: {}", ticket.ticketId, e);
+            ticket.fail("An unexpected error occurred. Please try again later.");
+        }
+    }
+
+    /**
+     * The node that issued a ticket when it is another cluster member, or null if this node
+     * holds it (including polls already forwarded here by the issuer's peers)
+     */
+    private ClusterNode remoteIssuer(String ticketId) {
+        if (!clusterMembership.isEnabled() || ClusterClient.isForwardedRequest()) {
+            return null;
+        }
+        int separator = ticketId.lastIndexOf(NODE_SEPARATOR);
+        if (separator <= 0) {
+            return null;
+        }
+        String nodeId = ticketId.substring(0, separator);
+        if (nodeId.equals(clusterMembership.getSelf().nodeId())) {
+            return null;
+        }
+        ClusterNode issuer = clusterMembership.findNode(nodeId);
+        if (issuer == null) {
+            throw new ResourceNotFoundException("Booking ticket not found: " + ticketId
+                    + " (issuing node " + nodeId + " is not in the cluster)");
+        }
+        return issuer;
+    }
+
+    private BookingTicketResponse fetchRemoteTicket(ClusterNode issuer, String ticketId, long waitMillis) {
+        try {
+            return clusterClient.fetchTicket(issuer, ticketId, Math.min(waitMillis, MAX_WAIT_MILLIS));
+        } catch (NodeUnavailableException e) {
+            log.warn("Ticket {} not available: {}", ticketId, e.getMessage());
+            throw new BookingOverloadedException("Booking ticket is held by an unavailable node. Please retry shortly", 1);
+        }
+    }
+
+    private BookingTicket findTicket(String ticketId) {
+        BookingTicket ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Booking ticket not found: " + ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * In-memory state of one queued booking request
+     */
+    private static final class BookingTicket {
+
+        private final String ticketId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private volatile BookingStatus status = BookingStatus.PENDING;
+        private volatile BookingResponse booking;
+        private volatile String failureReason;
+        private volatile LocalDateTime completedAt;
+
+        private BookingTicket(String ticketId) {
+            this.ticketId = ticketId;
+        }
+
+        private void confirm(BookingResponse booking) {
+            this.booking = booking;
+            complete(BookingStatus.CONFIRMED);
+        }
+
+        private void fail(String failureReason) {
+            this.failureReason = failureReason;
+            complete(BookingStatus.FAILED);
+        }
+
+        private void complete(BookingStatus status) {
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+            completion.complete(null);
+        }
+
+        private BookingTicketResponse toResponse() {
+            BookingResponse confirmedBooking = booking;
+            LocalDateTime completed = completedAt;
+
+            return BookingTicketResponse.builder()
+                    .ticketId(ticketId)
+                    .status(status.getDisplayName())
+                    .statusUrl("/api/v1/bookings/tickets/" + ticketId)
+                    .submittedAt(submittedAt.format(DATETIME_FORMATTER))
+                    .completedAt(completed != null ? completed.format(DATETIME_FORMATTER) : null)
+                    .bookingReference(confirmedBooking != null ? confirmedBooking.getBookingReference() : null)
+                    .booking(confirmedBooking)
+                    .failureReason(failureReason)
+                    .build();
+        }
+    }
+}
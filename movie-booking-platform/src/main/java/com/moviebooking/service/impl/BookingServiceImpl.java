@@ -1,26 +1,45 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.projection.PromoCodeCountView;
 import com.moviebooking.dto.request.BookTicketRequest;
 import com.moviebooking.dto.response.BookingResponse;
 import com.moviebooking.dto.response.BookingResponse.*;
+import com.moviebooking.dto.response.ShowCancellationResponse;
 import com.moviebooking.entity.*;
 import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.enums.ChangeEntityType;
 import com.moviebooking.enums.PaymentStatus;
+import com.moviebooking.enums.SeatCategory;
 import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.enums.ShowStatus;
 import com.moviebooking.exception.BookingException;
 import com.moviebooking.exception.ResourceNotFoundException;
 import com.moviebooking.exception.SeatNotAvailableException;
+import com.moviebooking.inventory.SeatConflictAdvisor;
+import com.moviebooking.journal.BookingStateChange;
+import com.moviebooking.pricing.Paise;
+import com.moviebooking.pricing.PromoCodeRegistry;
+import com.moviebooking.pricing.PromoCodeRegistry.PromoRedemptionsReleased;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.pricing.ShowPriceTable;
 import com.moviebooking.repository.*;
 import com.moviebooking.service.BookingService;
+import com.moviebooking.service.ChangeFeedService;
+import com.moviebooking.service.NotificationOutboxService;
 import com.moviebooking.service.PricingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -46,6 +65,11 @@ public class BookingServiceImpl implements BookingService {
     private final ShowSeatRepository showSeatRepository;
     private final BookingRepository bookingRepository;
     private final PricingService pricingService;
+    private final ShowPriceCache showPriceCache;
+    private final SeatConflictAdvisor seatConflictAdvisor;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ChangeFeedService changeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
@@ -54,7 +78,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingResponse bookTickets(BookTicketRequest request) {
-        log.info("Processing booking request for show: {}, seats: {}", 
+        log.debug("Processing booking request for show: {}, seats: {}", 
                  request.getShowId(), request.getSeatIds());
 
         // 1. Validate show exists and is open for booking
@@ -64,28 +88,43 @@ public class BookingServiceImpl implements BookingService {
         validateShowForBooking(show);
 
         // 2. Lock and validate seats are available (pessimistic locking to prevent race conditions)
+        // Canonical (sorted, distinct) seat ids so every booking acquires row locks in the same order
+        List<Long> seatIds = request.getSeatIds().stream().distinct().sorted().toList();
         List<ShowSeat> seatsToBook = showSeatRepository.findAvailableSeatsForBooking(
                 request.getShowId(), 
-                request.getSeatIds()
+                seatIds
         );
 
-        if (seatsToBook.size() != request.getSeatIds().size()) {
-            int requestedCount = request.getSeatIds().size();
+        if (seatsToBook.size() != seatIds.size()) {
+            int requestedCount = seatIds.size();
             int availableCount = seatsToBook.size();
             throw new SeatNotAvailableException(
                 String.format("Some seats are no longer available. Requested: %d, Available: %d", 
-                             requestedCount, availableCount)
+                             requestedCount, availableCount),
+                seatConflictAdvisor.describe(show.getId(), seatIds, takenSeatIds(seatIds, seatsToBook))
             );
         }
 
-        // 3. Calculate pricing with offers
-        List<Double> seatPrices = seatsToBook.stream()
-                .map(ShowSeat::getPrice)
-                .collect(Collectors.toList());
+        // 3. Calculate pricing with offers, from the show's price table at (at least) the version read above
+        ShowPriceTable priceTable = showPriceCache.get(show.getId(), show.getPriceVersion());
+        long[] pricesPaise = new long[seatsToBook.size()];
+        SeatCategory[] categories = new SeatCategory[seatsToBook.size()];
+        for (int i = 0; i < pricesPaise.length; i++) {
+            Seat seat = seatsToBook.get(i).getSeat();
+            pricesPaise[i] = priceTable.pricePaise(seat.getId(), seat.getCategory());
+            if (pricesPaise[i] == ShowPriceTable.NOT_PRICED) {
+                throw new BookingException("Seat " + seat.getSeatIdentifier() + " is not priced for this show");
+            }
+            categories[i] = seat.getCategory();
+        }
 
+        String promoCode = request.getPromoCode() == null || request.getPromoCode().isBlank()
+                ? null : PromoCodeRegistry.normalize(request.getPromoCode());
         PricingService.PricingResult pricingResult = pricingService.calculatePricing(
-                seatPrices, 
-                show.isAfternoonShow()
+                priceTable.getContext(),
+                pricesPaise,
+                categories,
+                promoCode
         );
 
         // 4. Create booking record
@@ -101,6 +140,7 @@ public class BookingServiceImpl implements BookingService {
                 .discountAmount(pricingResult.discountAmount())
                 .finalAmount(pricingResult.finalAmount())
                 .discountDescription(pricingResult.discountDescription())
+                .promoCode(promoCode)
                 .status(BookingStatus.CONFIRMED)
                 .paymentStatus(PaymentStatus.PENDING) // Payment integration would update this
                 .bookingTime(LocalDateTime.now())
@@ -109,23 +149,30 @@ public class BookingServiceImpl implements BookingService {
 
         booking = bookingRepository.save(booking);
 
-        // 5. Update seat status to BOOKED
-        for (ShowSeat showSeat : seatsToBook) {
+        // 5. Update seat status to BOOKED, recording the price each seat was sold at
+        for (int i = 0; i < seatsToBook.size(); i++) {
+            ShowSeat showSeat = seatsToBook.get(i);
             showSeat.setStatus(SeatStatus.BOOKED);
             showSeat.setBooking(booking);
+            showSeat.setPrice(Paise.toRupees(pricesPaise[i]));
         }
         showSeatRepository.saveAll(seatsToBook);
 
-        // 6. Update show available seats count
-        int newAvailableSeats = show.getAvailableSeats() - seatsToBook.size();
-        show.setAvailableSeats(newAvailableSeats);
-        showRepository.save(show);
+        // 6. Update show available seats count in place - the show row is not locked, so writing back
+        //    the count read above would lose the decrements of concurrent bookings for other seats
+        showRepository.takeAvailableSeats(show.getId(), seatsToBook.size());
+
+        changeFeedService.record(ChangeEntityType.SHOW, show.getId());
+        eventPublisher.publishEvent(BookingStateChange.booked(
+                show.getId(), booking.getId(), bookingReference, seatIds));
 
-        log.info("Booking successful. Reference: {}, Final Amount: {}", 
+        log.debug("Booking successful. Reference: {}, Final Amount: {}", 
                  bookingReference, pricingResult.finalAmount());
 
-        // 7. Build and return response
-        return buildBookingResponse(booking, show, seatsToBook, pricingResult);
+        // 7. Build response and record confirmations in the outbox (delivered after commit)
+        BookingResponse response = buildBookingResponse(booking, show, seatsToBook, pricingResult);
+        notificationOutboxService.enqueueBookingConfirmation(response);
+        return response;
     }
 
     @Override
@@ -137,12 +184,7 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with reference: " + bookingReference));
 
         Show show = booking.getShow();
-        List<ShowSeat> bookedSeats = showSeatRepository.findByShowIdAndSeatIds(
-                show.getId(),
-                booking.getBookedSeats().stream()
-                        .map(ss -> ss.getSeat().getId())
-                        .collect(Collectors.toList())
-        );
+        List<ShowSeat> bookedSeats = sortedBySeatId(booking.getBookedSeats());
 
         // Rebuild pricing result from stored values
         PricingService.PricingResult pricingResult = new PricingService.PricingResult(
@@ -159,7 +201,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingResponse cancelBooking(String bookingReference) {
-        log.info("Cancelling booking: {}", bookingReference);
+        log.debug("Cancelling booking: {}", bookingReference);
 
         Booking booking = bookingRepository.findByBookingReferenceWithDetails(bookingReference)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with reference: " + bookingReference));
@@ -172,25 +214,32 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingException("Cannot cancel a completed booking");
         }
 
-        // Update booking status
+        Show show = booking.getShow();
+        List<ShowSeat> bookedSeats = sortedBySeatId(booking.getBookedSeats());
+
+        // The booking was read without a lock: only the cancel that flips the status releases the seats
+        if (bookingRepository.cancelIfActive(booking.getId(), PaymentStatus.REFUNDED) != 1) {
+            throw new BookingException("Booking is already cancelled");
+        }
+
+        // Set-based release: one UPDATE per table instead of per-seat entity writes
+        int releasedSeats = showSeatRepository.releaseSeatsByBookingId(booking.getId(), SeatStatus.AVAILABLE);
+        showRepository.adjustAvailableSeats(show.getId(), releasedSeats);
+
+        // The loaded graph is detached now - reflect the new state for the response only
         booking.setStatus(BookingStatus.CANCELLED);
         booking.setPaymentStatus(PaymentStatus.REFUNDED);
-        bookingRepository.save(booking);
+        show.setAvailableSeats(show.getAvailableSeats() + releasedSeats);
 
-        // Release the seats
-        List<ShowSeat> bookedSeats = new java.util.ArrayList<>(booking.getBookedSeats());
-        for (ShowSeat showSeat : bookedSeats) {
-            showSeat.setStatus(SeatStatus.AVAILABLE);
-            showSeat.setBooking(null);
+        changeFeedService.record(ChangeEntityType.SHOW, show.getId());
+        if (booking.getPromoCode() != null) {
+            eventPublisher.publishEvent(new PromoRedemptionsReleased(Map.of(booking.getPromoCode(), 1L)));
         }
-        showSeatRepository.saveAll(bookedSeats);
-
-        // Update show available seats
-        Show show = booking.getShow();
-        show.setAvailableSeats(show.getAvailableSeats() + bookedSeats.size());
-        showRepository.save(show);
+        eventPublisher.publishEvent(BookingStateChange.cancelled(
+                show.getId(), booking.getId(), bookingReference,
+                bookedSeats.stream().map(ss -> ss.getSeat().getId()).toList()));
 
-        log.info("Booking cancelled successfully: {}", bookingReference);
+        log.debug("Booking cancelled successfully: {}", bookingReference);
 
         PricingService.PricingResult pricingResult = new PricingService.PricingResult(
                 booking.getBaseAmount(),
@@ -203,6 +252,51 @@ public class BookingServiceImpl implements BookingService {
         return buildBookingResponse(booking, show, bookedSeats, pricingResult);
     }
 
+    @Override
+    @Transactional
+    public ShowCancellationResponse cancelAllBookingsForShow(Long showId) {
+        log.info("Cancelling show and all its bookings: {}", showId);
+
+        Show show = showRepository.findById(showId)
+                .orElseThrow(() -> new ResourceNotFoundException("Show not found with id: " + showId));
+
+        if (show.getStatus() == ShowStatus.CANCELLED) {
+            throw new BookingException("Show is already cancelled");
+        }
+
+        if (show.getStatus() == ShowStatus.COMPLETED) {
+            throw new BookingException("Cannot cancel a completed show");
+        }
+
+        List<BookingStatus> activeStatuses = List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING);
+        Map<String, Long> promoRedemptions = bookingRepository.countPromoCodesForShow(showId, activeStatuses).stream()
+                .collect(Collectors.toMap(PromoCodeCountView::promoCode, PromoCodeCountView::bookingCount));
+        int cancelledBookings = bookingRepository.updateStatusForShow(
+                showId,
+                activeStatuses,
+                BookingStatus.CANCELLED,
+                PaymentStatus.REFUNDED
+        );
+        int releasedSeats = showSeatRepository.releaseSeatsByShowId(showId, SeatStatus.AVAILABLE);
+        showRepository.updateStatusAndReleaseSeats(showId, ShowStatus.CANCELLED, releasedSeats);
+
+        changeFeedService.record(ChangeEntityType.SHOW, showId);
+        if (!promoRedemptions.isEmpty()) {
+            eventPublisher.publishEvent(new PromoRedemptionsReleased(promoRedemptions));
+        }
+        eventPublisher.publishEvent(BookingStateChange.showCancelled(showId));
+
+        log.info("Show {} cancelled. Bookings cancelled: {}, seats released: {}",
+                 showId, cancelledBookings, releasedSeats);
+
+        return ShowCancellationResponse.builder()
+                .showId(showId)
+                .showStatus(ShowStatus.CANCELLED.getDisplayName())
+                .cancelledBookings(cancelledBookings)
+                .releasedSeats(releasedSeats)
+                .build();
+    }
+
     private void validateShowForBooking(Show show) {
         switch (show.getStatus()) {
             case CANCELLED -> throw new BookingException("This show has been cancelled");
@@ -218,7 +312,32 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private String generateBookingReference() {
+    private List<ShowSeat> sortedBySeatId(Collection<ShowSeat> showSeats) {
+        return showSeats.stream()
+                .sorted(Comparator.comparing(ss -> ss.getSeat().getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Requested seats (sorted) that were not locked as available, ascending
+     */
+    private static List<Long> takenSeatIds(List<Long> seatIds, List<ShowSeat> lockedSeats) {
+        List<Long> taken = new ArrayList<>(seatIds.size() - lockedSeats.size());
+        int locked = 0;
+        for (Long seatId : seatIds) {
+            if (locked < lockedSeats.size() && lockedSeats.get(locked).getSeat().getId().equals(seatId)) {
+                locked++;
+            } else {
+                taken.add(seatId);
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Package-private for the JMH benchmarks (src/jmh)
+     */
+    static String generateBookingReference() {
         // Format: BK + timestamp + random suffix
         String timestamp = String.valueOf(System.currentTimeMillis()).substring(5);
         String random = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
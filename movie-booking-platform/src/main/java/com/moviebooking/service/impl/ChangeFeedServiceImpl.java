@@ -0,0 +1,35 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.entity.ChangeFeedEntry;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.repository.ChangeFeedRepository;
+import com.moviebooking.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of ChangeFeedService
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final String nodeId;
+
+    public ChangeFeedServiceImpl(ChangeFeedRepository changeFeedRepository,
+                                 @Value("${app.cluster.self-id:node-1}") String nodeId) {
+        this.changeFeedRepository = changeFeedRepository;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    @Transactional
+    public void record(ChangeEntityType type, Long entityId) {
+        changeFeedRepository.save(ChangeFeedEntry.builder()
+                .entityType(type)
+                .entityId(entityId)
+                .originNode(nodeId)
+                .build());
+    }
+}
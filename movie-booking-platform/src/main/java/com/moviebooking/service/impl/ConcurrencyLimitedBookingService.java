@@ -0,0 +1,63 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.ShowCancellationResponse;
+import com.moviebooking.exception.BookingOverloadedException;
+import com.moviebooking.resilience.AdaptiveConcurrencyLimiter;
+import com.moviebooking.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * BookingService decorator that admits bookTickets calls through an adaptive concurrency limit
+ * 
+ * Requests over the limit fail fast with BookingOverloadedException instead of queueing
+ * inside Tomcat. Lock and query timeouts from the database count as overload signals.
+ * Reads and cancellations pass straight through.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitedBookingService implements BookingService {
+
+    private final BookingService delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public BookingResponse bookTickets(BookTicketRequest request) {
+        if (!limiter.tryAcquire()) {
+            throw new BookingOverloadedException("Booking service is busy. Please retry shortly", 1);
+        }
+
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return delegate.bookTickets(request);
+        } catch (PessimisticLockingFailureException | QueryTimeoutException | TransientDataAccessResourceException e) {
+            overloaded = true;
+            throw e;
+        } finally {
+            if (overloaded) {
+                limiter.onOverload();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public BookingResponse getBookingByReference(String bookingReference) {
+        return delegate.getBookingByReference(bookingReference);
+    }
+
+    @Override
+    public BookingResponse cancelBooking(String bookingReference) {
+        return delegate.cancelBooking(bookingReference);
+    }
+
+    @Override
+    public ShowCancellationResponse cancelAllBookingsForShow(Long showId) {
+        return delegate.cancelAllBookingsForShow(showId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.moviebooking.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.entity.OutboxEvent;
+import com.moviebooking.enums.NotificationChannel;
+import com.moviebooking.enums.OutboxEventType;
+import com.moviebooking.enums.OutboxStatus;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.repository.OutboxEventRepository;
+import com.moviebooking.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of NotificationOutboxService
+ * Writes one outbox row per destination; the JSON payload is the booking confirmation itself
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBookingConfirmation(BookingResponse booking) {
+        String payload = toJson(booking);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<OutboxEvent> events = new ArrayList<>(3);
+        events.add(newEvent(booking, NotificationChannel.EMAIL, booking.getCustomerEmail(), payload, now));
+        if (booking.getCustomerPhone() != null && !booking.getCustomerPhone().isBlank()) {
+            events.add(newEvent(booking, NotificationChannel.SMS, booking.getCustomerPhone(), payload, now));
+        }
+        events.add(newEvent(booking, NotificationChannel.PARTNER,
+                booking.getShowDetails().getTheatreName(), payload, now));
+
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent newEvent(BookingResponse booking, NotificationChannel channel,
+                                 String recipient, String payload, LocalDateTime now) {
+        return OutboxEvent.builder()
+                .aggregateId(booking.getBookingReference())
+                .eventType(OutboxEventType.BOOKING_CONFIRMED)
+                .channel(channel)
+                .recipient(recipient)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    private String toJson(BookingResponse booking) {
+        try {
+            return objectMapper.writeValueAsString(booking);
+        } catch (JsonProcessingException e) {
+            throw new BookingException("Unable to serialize booking confirmation", e);
+        }
+    }
+}
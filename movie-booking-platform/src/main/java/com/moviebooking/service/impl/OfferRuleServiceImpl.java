@@ -0,0 +1,105 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.OfferRuleRequest;
+import com.moviebooking.dto.response.OfferRuleResponse;
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.pricing.OfferRuleEngine;
+import com.moviebooking.repository.OfferRuleRepository;
+import com.moviebooking.service.ChangeFeedService;
+import com.moviebooking.service.OfferRuleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of OfferRuleService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OfferRuleServiceImpl implements OfferRuleService {
+
+    private final OfferRuleRepository offerRuleRepository;
+    private final OfferRuleEngine offerRuleEngine;
+    private final ChangeFeedService changeFeedService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OfferRuleResponse> getRules() {
+        return offerRuleRepository.findAllByOrderByPriorityAscIdAsc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public OfferRuleResponse saveRule(OfferRuleRequest request) {
+        if (request.getDiscountType() == OfferDiscountType.NTH_TICKET && request.getNthTicket() == null) {
+            throw new BookingException("Nth ticket is required for " + OfferDiscountType.NTH_TICKET + " offers");
+        }
+        if (request.getStartHour() != null && request.getEndHour() != null
+                && request.getStartHour() >= request.getEndHour()) {
+            throw new BookingException("Start hour must be before end hour");
+        }
+
+        OfferRule rule = offerRuleRepository.findByCode(request.getCode()).orElseGet(OfferRule::new);
+        rule.setCode(request.getCode());
+        rule.setDiscountType(request.getDiscountType());
+        rule.setDiscountPercent(request.getDiscountPercent());
+        rule.setNthTicket(request.getNthTicket());
+        rule.setStartHour(request.getStartHour());
+        rule.setEndHour(request.getEndHour());
+        rule.setSeatCategory(request.getSeatCategory());
+        rule.setTheatreId(request.getTheatreId());
+        rule.setPriority(request.getPriority());
+        rule.setDisplayOrder(request.getDisplayOrder() != null ? request.getDisplayOrder() : request.getPriority());
+        rule.setActive(request.getActive() == null || request.getActive());
+        rule.setAppliedName(request.getAppliedName());
+        rule.setSummary(request.getSummary());
+        rule.setDescription(request.getDescription());
+        rule.setDetails(request.getDetails());
+        rule.setTerms(request.getTerms());
+        rule = offerRuleRepository.save(rule);
+
+        // Every node, including this one, recompiles once the change commits
+        changeFeedService.record(ChangeEntityType.OFFER, rule.getId());
+        log.info("Offer rule saved - code: {}, active: {}", rule.getCode(), rule.isActive());
+
+        return toResponse(rule);
+    }
+
+    @Override
+    @Transactional
+    public void reloadRules() {
+        offerRuleEngine.reload();
+        changeFeedService.record(ChangeEntityType.OFFER, null);
+    }
+
+    private OfferRuleResponse toResponse(OfferRule rule) {
+        return OfferRuleResponse.builder()
+                .id(rule.getId())
+                .code(rule.getCode())
+                .discountType(rule.getDiscountType().name())
+                .discountPercent(rule.getDiscountPercent())
+                .nthTicket(rule.getNthTicket())
+                .startHour(rule.getStartHour())
+                .endHour(rule.getEndHour())
+                .seatCategory(rule.getSeatCategory() != null ? rule.getSeatCategory().name() : null)
+                .theatreId(rule.getTheatreId())
+                .priority(rule.getPriority())
+                .displayOrder(rule.getDisplayOrder())
+                .active(rule.isActive())
+                .appliedName(rule.getAppliedName())
+                .summary(rule.getSummary())
+                .description(rule.getDescription())
+                .details(rule.getDetails())
+                .terms(rule.getTerms())
+                .build();
+    }
+}
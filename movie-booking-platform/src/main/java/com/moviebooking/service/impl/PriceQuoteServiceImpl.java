@@ -0,0 +1,134 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.PriceQuoteRequest;
+import com.moviebooking.dto.response.PriceQuoteResponse;
+import com.moviebooking.dto.response.PriceQuoteResponse.AppliedOffer;
+import com.moviebooking.dto.response.PriceQuoteResponse.Quote;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.pricing.OfferPipeline;
+import com.moviebooking.pricing.OfferRuleEngine;
+import com.moviebooking.pricing.SeatCategoryLayout;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.pricing.ShowPriceTable;
+import com.moviebooking.service.PriceQuoteService;
+import com.moviebooking.service.PricingService.PricingResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of PriceQuoteService
+ * 
+ * Seat ids are de-duplicated and sorted like bookTickets does, so a quote matches the
+ * booking amount for the same selection.
+ */
+@Service
+public class PriceQuoteServiceImpl implements PriceQuoteService {
+
+    private final ShowPriceCache showPriceCache;
+    private final OfferRuleEngine offerRuleEngine;
+    private final int maxSeatsPerBooking;
+
+    public PriceQuoteServiceImpl(ShowPriceCache showPriceCache,
+                                 OfferRuleEngine offerRuleEngine,
+                                 @Value("${app.booking.max-seats-per-booking:10}") int maxSeatsPerBooking) {
+        this.showPriceCache = showPriceCache;
+        this.offerRuleEngine = offerRuleEngine;
+        this.maxSeatsPerBooking = maxSeatsPerBooking;
+    }
+
+    @Override
+    public PriceQuoteResponse quote(Long showId, PriceQuoteRequest request) {
+        ShowPriceTable table = showPriceCache.get(showId);
+        SeatCategoryLayout layout = showPriceCache.layout(table.getScreenId());
+        OfferPipeline pipeline = offerRuleEngine.pipelineFor(table.getContext());
+
+        List<Quote> quotes = new ArrayList<>(request.getSelections().size());
+        for (List<Long> selection : request.getSelections()) {
+            quotes.add(quote(table, layout, pipeline, selection));
+        }
+
+        return PriceQuoteResponse.builder()
+                .showId(showId)
+                .priceVersion(table.getPriceVersion())
+                .quotes(quotes)
+                .build();
+    }
+
+    private Quote quote(ShowPriceTable table, SeatCategoryLayout layout, OfferPipeline pipeline, List<Long> selection) {
+        long[] seatIds = new long[selection.size()];
+        int count = 0;
+        for (Long seatId : selection) {
+            if (seatId == null) {
+                return invalid(selection, "Seat ids must not be null");
+            }
+            seatIds[count++] = seatId;
+        }
+        Arrays.sort(seatIds);
+        count = dedupe(seatIds);
+
+        if (count > maxSeatsPerBooking) {
+            return invalid(selection, "Cannot book more than " + maxSeatsPerBooking + " seats at once");
+        }
+
+        long[] pricesPaise = new long[count];
+        SeatCategory[] categories = new SeatCategory[count];
+        for (int i = 0; i < count; i++) {
+            SeatCategory category = layout.category(seatIds[i]);
+            if (category == null) {
+                return invalid(selection, "Seat " + seatIds[i] + " does not belong to show " + table.getShowId());
+            }
+            long pricePaise = table.pricePaise(seatIds[i], category);
+            if (pricePaise == ShowPriceTable.NOT_PRICED) {
+                return invalid(selection, "Seat " + seatIds[i] + " is not priced for show " + table.getShowId());
+            }
+            pricesPaise[i] = pricePaise;
+            categories[i] = category;
+        }
+
+        PricingResult result = pipeline.price(pricesPaise, categories, count);
+
+        List<AppliedOffer> appliedOffers = new ArrayList<>(result.appliedOffers().size());
+        for (var offer : result.appliedOffers()) {
+            appliedOffers.add(new AppliedOffer(offer.offerName(), offer.discountAmount()));
+        }
+
+        return Quote.builder()
+                .seatIds(selection)
+                .valid(true)
+                .baseAmount(result.baseAmount())
+                .discountAmount(result.discountAmount())
+                .discountDescription(result.discountDescription())
+                .finalAmount(result.finalAmount())
+                .appliedOffers(appliedOffers)
+                .build();
+    }
+
+    /**
+     * Remove duplicates from a sorted array in place
+     * @return the number of distinct leading elements
+     */
+    private static int dedupe(long[] sorted) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return distinct;
+    }
+
+    private static Quote invalid(List<Long> selection, String message) {
+        return Quote.builder()
+                .seatIds(selection)
+                .valid(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.PromoCodeRequest;
+import com.moviebooking.dto.response.PromoCodeResponse;
+import com.moviebooking.entity.PromoCode;
+import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.pricing.PromoCodeRegistry;
+import com.moviebooking.repository.BookingRepository;
+import com.moviebooking.repository.PromoCodeRepository;
+import com.moviebooking.service.ChangeFeedService;
+import com.moviebooking.service.PromoCodeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of PromoCodeService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PromoCodeServiceImpl implements PromoCodeService {
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(
+            BookingStatus.CONFIRMED, BookingStatus.PENDING, BookingStatus.COMPLETED);
+
+    private final PromoCodeRepository promoCodeRepository;
+    private final BookingRepository bookingRepository;
+    private final PromoCodeRegistry promoCodeRegistry;
+    private final ChangeFeedService changeFeedService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PromoCodeResponse> getPromoCodes() {
+        return promoCodeRepository.findAllByOrderByCodeAsc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public PromoCodeResponse savePromoCode(PromoCodeRequest request) {
+        String code = PromoCodeRegistry.normalize(request.getCode());
+
+        // Locked like a chunk allocation, so the cap check cannot race one
+        PromoCode promo = promoCodeRepository.findByCodeForUpdate(code)
+                .orElseGet(() -> PromoCode.builder()
+                        .code(code)
+                        .allocatedRedemptions(0)
+                        .build());
+        if (request.getMaxRedemptions() < promo.getAllocatedRedemptions()) {
+            throw new BookingException("Maximum redemptions cannot be lowered below the " +
+                    promo.getAllocatedRedemptions() + " already allocated");
+        }
+        promo.setDiscountPercent(request.getDiscountPercent());
+        promo.setMaxRedemptions(request.getMaxRedemptions());
+        promo.setActive(request.getActive() == null || request.getActive());
+        promo = promoCodeRepository.save(promo);
+
+        changeFeedService.record(ChangeEntityType.PROMO, promo.getId());
+        log.info("Promo code saved - code: {}, max redemptions: {}, active: {}",
+                 promo.getCode(), promo.getMaxRedemptions(), promo.isActive());
+
+        return toResponse(promo);
+    }
+
+    private PromoCodeResponse toResponse(PromoCode promo) {
+        return PromoCodeResponse.builder()
+                .id(promo.getId())
+                .code(promo.getCode())
+                .discountPercent(promo.getDiscountPercent())
+                .maxRedemptions(promo.getMaxRedemptions())
+                .allocatedRedemptions(promo.getAllocatedRedemptions())
+                .redeemedRedemptions(bookingRepository.countByPromoCodeAndStatusIn(promo.getCode(), ACTIVE_STATUSES))
+                .unusedOnThisNode(promoCodeRegistry.localRemaining(promo.getCode()))
+                .active(promo.isActive())
+                .build();
+    }
+}
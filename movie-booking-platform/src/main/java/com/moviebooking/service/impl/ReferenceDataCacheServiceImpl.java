@@ -0,0 +1,125 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.response.CacheRegionStatsResponse;
+import com.moviebooking.entity.*;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.enums.ReferenceDataType;
+import com.moviebooking.service.ChangeFeedService;
+import com.moviebooking.service.ReferenceDataCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of ReferenceDataCacheService
+ *
+ * Movie, City, Theatre, Screen and Seat are cached in bounded Caffeine-backed
+ * JCache regions (see application.conf). Writes made through Hibernate keep the
+ * cache in sync automatically; these evictions cover edits made out of band and
+ * are published on the change feed so every node drops the same entries.
+ */
+@Service
+@Slf4j
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService {
+
+    private static final String REFERENCE_QUERY_REGION = "reference-queries";
+    private static final Set<String> QUERY_REGIONS = Set.of(
+            REFERENCE_QUERY_REGION,
+            "default-query-results-region"
+    );
+
+    private final SessionFactory sessionFactory;
+    private final ChangeFeedService changeFeedService;
+
+    public ReferenceDataCacheServiceImpl(EntityManagerFactory entityManagerFactory,
+                                         ChangeFeedService changeFeedService) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Override
+    public void evict(ReferenceDataType type, Long id) {
+        log.info("Evicting cached {} with id: {}", type.getDisplayName(), id);
+        invalidate(type, id);
+        changeFeedService.record(ChangeEntityType.of(type), id);
+    }
+
+    @Override
+    public void evictAll(ReferenceDataType type) {
+        log.info("Evicting all cached {} entries", type.getDisplayName());
+        invalidate(type, null);
+        changeFeedService.record(ChangeEntityType.of(type), null);
+    }
+
+    @Override
+    public void evictAll() {
+        log.info("Evicting all reference data cache regions");
+        Cache cache = sessionFactory.getCache();
+        for (ReferenceDataType type : ReferenceDataType.values()) {
+            cache.evictEntityData(entityClassFor(type));
+            changeFeedService.record(ChangeEntityType.of(type), null);
+        }
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void invalidate(ReferenceDataType type, Long id) {
+        Cache cache = sessionFactory.getCache();
+        if (id != null) {
+            cache.evictEntityData(entityClassFor(type), id);
+        } else {
+            cache.evictEntityData(entityClassFor(type));
+        }
+        cache.evictQueryRegion(REFERENCE_QUERY_REGION);
+    }
+
+    @Override
+    public List<CacheRegionStatsResponse> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(regionName);
+            if (regionStats != null) {
+                String regionType = QUERY_REGIONS.contains(regionName) ? "QUERY" : "ENTITY";
+                regions.add(toResponse(regionName, regionType, regionStats));
+            }
+        }
+
+        return regions;
+    }
+
+    private Class<?> entityClassFor(ReferenceDataType type) {
+        return switch (type) {
+            case MOVIE -> Movie.class;
+            case CITY -> City.class;
+            case THEATRE -> Theatre.class;
+            case SCREEN -> Screen.class;
+            case SEAT -> Seat.class;
+        };
+    }
+
+    private CacheRegionStatsResponse toResponse(String regionName, String regionType,
+                                                CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long lookups = hits + misses;
+
+        return CacheRegionStatsResponse.builder()
+                .regionName(regionName)
+                .regionType(regionType)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(stats.getPutCount())
+                .hitRatio(lookups == 0 ? 0 : (double) hits / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.ShowCancellationResponse;
+import com.moviebooking.resilience.LockContentionTracker;
+import com.moviebooking.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * BookingService decorator that retries bookTickets on seat-lock timeouts and deadlocks
+ * 
+ * Must wrap the transactional service from the outside so every attempt runs in a fresh
+ * transaction. Backoff is exponential with full jitter, capped at maxBackoffMillis.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RetryingBookingService implements BookingService {
+
+    private final BookingService delegate;
+    private final LockContentionTracker contentionTracker;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    @Override
+    public BookingResponse bookTickets(BookTicketRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return delegate.bookTickets(request);
+            } catch (PessimisticLockingFailureException e) {
+                boolean deadlock = LockContentionTracker.isDeadlock(e);
+                if (attempt >= maxAttempts) {
+                    contentionTracker.recordExhausted(request.getShowId(), deadlock);
+                    log.warn("Seat locking for show {} failed after {} attempts ({})",
+                             request.getShowId(), attempt, deadlock ? "deadlock" : "lock timeout");
+                    throw e;
+                }
+                contentionTracker.recordRetry(request.getShowId(), deadlock);
+                log.debug("Retrying booking for show {} after {} (attempt {})",
+                          request.getShowId(), deadlock ? "deadlock" : "lock timeout", attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public BookingResponse getBookingByReference(String bookingReference) {
+        return delegate.getBookingByReference(bookingReference);
+    }
+
+    @Override
+    public BookingResponse cancelBooking(String bookingReference) {
+        return delegate.cancelBooking(bookingReference);
+    }
+
+    @Override
+    public ShowCancellationResponse cancelAllBookingsForShow(Long showId) {
+        return delegate.cancelAllBookingsForShow(showId);
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying booking", ie);
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.moviebooking.service.impl;
 
+import com.moviebooking.dto.projection.ShowCategoryCountView;
+import com.moviebooking.dto.projection.ShowHeaderView;
+import com.moviebooking.dto.projection.ShowSeatView;
+import com.moviebooking.dto.projection.ShowTimingView;
 import com.moviebooking.dto.request.BrowseShowsRequest;
 import com.moviebooking.dto.response.BrowseShowsResponse;
 import com.moviebooking.dto.response.BrowseShowsResponse.*;
 import com.moviebooking.dto.response.ShowSeatsResponse;
 import com.moviebooking.dto.response.ShowSeatsResponse.*;
 import com.moviebooking.entity.*;
+import com.moviebooking.enums.SeatCategory;
 import com.moviebooking.enums.SeatStatus;
 import com.moviebooking.enums.ShowStatus;
 import com.moviebooking.exception.ResourceNotFoundException;
+import com.moviebooking.pricing.OfferCatalogue;
+import com.moviebooking.pricing.Paise;
+import com.moviebooking.pricing.PricingContext;
+import com.moviebooking.pricing.SeatCategoryLayout;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.pricing.ShowPriceTable;
 import com.moviebooking.repository.*;
 import com.moviebooking.service.ShowBrowsingService;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +37,11 @@ import java.util.stream.Collectors;
  * This service handles the READ scenario:
  * - Browse theatres running a movie in a city on a specific date
  * - Get seat availability for a show
+ *
+ * Both read paths use constructor projections (see dto.projection) instead of
+ * managed entities, so no dirty-checking snapshots are built per request.
+ * Prices come from the cached per-show price tables (see ShowPriceCache), and offer
+ * lists are shared instances from the OfferCatalogue.
  */
 @Service
 @RequiredArgsConstructor
@@ -37,6 +53,8 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
     private final CityRepository cityRepository;
     private final ShowRepository showRepository;
     private final ShowSeatRepository showSeatRepository;
+    private final ShowPriceCache showPriceCache;
+    private final OfferCatalogue offerCatalogue;
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
@@ -61,33 +79,39 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
             ShowStatus.SCHEDULED
         );
 
-        List<Show> shows = showRepository.findShowsByMovieAndCityAndDate(
+        List<ShowTimingView> shows = showRepository.findShowTimingsByMovieAndCityAndDate(
                 request.getMovieId(),
                 city.getId(),
                 request.getDate(),
                 validStatuses
         );
 
+        // Starting prices for all shows in a single query
+        Map<Long, Double> startingPrices = findStartingPrices(shows);
+
         // Group shows by theatre
-        Map<Theatre, List<Show>> showsByTheatre = shows.stream()
-                .collect(Collectors.groupingBy(Show::getTheatre));
+        Map<Long, List<ShowTimingView>> showsByTheatre = shows.stream()
+                .collect(Collectors.groupingBy(
+                        ShowTimingView::theatreId,
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
 
         // Build response
         List<TheatreShowInfo> theatreInfoList = new ArrayList<>();
 
-        for (Map.Entry<Theatre, List<Show>> entry : showsByTheatre.entrySet()) {
-            Theatre theatre = entry.getKey();
-            List<Show> theatreShows = entry.getValue();
+        for (List<ShowTimingView> theatreShows : showsByTheatre.values()) {
+            ShowTimingView theatre = theatreShows.get(0);
 
             List<ShowTimingInfo> showTimings = theatreShows.stream()
-                    .map(this::mapToShowTimingInfo)
+                    .map(show -> mapToShowTimingInfo(show, startingPrices.getOrDefault(show.showId(), 0.0)))
                     .sorted(Comparator.comparing(ShowTimingInfo::getStartTime))
                     .collect(Collectors.toList());
 
             TheatreShowInfo theatreInfo = TheatreShowInfo.builder()
-                    .theatreId(theatre.getId())
-                    .theatreName(theatre.getName())
-                    .address(theatre.getAddress())
+                    .theatreId(theatre.theatreId())
+                    .theatreName(theatre.theatreName())
+                    .address(theatre.theatreAddress())
                     .showTimings(showTimings)
                     .build();
 
@@ -120,15 +144,16 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
     public ShowSeatsResponse getShowSeats(Long showId) {
         log.info("Getting seat availability for show: {}", showId);
 
-        Show show = showRepository.findById(showId)
+        ShowHeaderView show = showRepository.findShowHeaderById(showId)
                 .orElseThrow(() -> new ResourceNotFoundException("Show not found with id: " + showId));
 
-        List<ShowSeat> showSeats = showSeatRepository.findByShowIdOrderBySeatRowNumberAscSeatSeatNumberAsc(showId);
+        List<ShowSeatView> showSeats = showSeatRepository.findSeatViewsByShowId(showId);
+        ShowPriceTable priceTable = showPriceCache.get(showId);
 
         // Group seats by row
-        Map<String, List<ShowSeat>> seatsByRow = showSeats.stream()
+        Map<String, List<ShowSeatView>> seatsByRow = showSeats.stream()
                 .collect(Collectors.groupingBy(
-                        ss -> ss.getSeat().getRowNumber(),
+                        ShowSeatView::rowNumber,
                         LinkedHashMap::new,
                         Collectors.toList()
                 ));
@@ -140,16 +165,16 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
         double minPrice = Double.MAX_VALUE;
         double maxPrice = 0;
 
-        for (Map.Entry<String, List<ShowSeat>> entry : seatsByRow.entrySet()) {
+        for (Map.Entry<String, List<ShowSeatView>> entry : seatsByRow.entrySet()) {
             List<SeatDetail> seatDetails = entry.getValue().stream()
                     .map(ss -> {
                         return SeatDetail.builder()
-                                .showSeatId(ss.getId())
-                                .seatId(ss.getSeat().getId())
-                                .seatNumber(ss.getSeat().getSeatNumber())
-                                .category(ss.getSeat().getCategory().getDisplayName())
-                                .status(ss.getStatus().getDisplayName())
-                                .price(ss.getPrice())
+                                .showSeatId(ss.showSeatId())
+                                .seatId(ss.seatId())
+                                .seatNumber(ss.seatNumber())
+                                .category(ss.category().getDisplayName())
+                                .status(ss.status().getDisplayName())
+                                .price(price(priceTable, ss))
                                 .build();
                     })
                     .sorted(Comparator.comparing(SeatDetail::getSeatNumber))
@@ -161,20 +186,23 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
                     .build());
 
             // Calculate summary
-            for (ShowSeat ss : entry.getValue()) {
+            for (ShowSeatView ss : entry.getValue()) {
                 totalSeats++;
-                if (ss.getStatus() == SeatStatus.AVAILABLE) {
+                if (ss.status() == SeatStatus.AVAILABLE) {
                     availableSeats++;
-                    minPrice = Math.min(minPrice, ss.getPrice());
-                    maxPrice = Math.max(maxPrice, ss.getPrice());
-                } else if (ss.getStatus() == SeatStatus.BOOKED) {
+                    Double price = price(priceTable, ss);
+                    if (price != null) {
+                        minPrice = Math.min(minPrice, price);
+                        maxPrice = Math.max(maxPrice, price);
+                    }
+                } else if (ss.status() == SeatStatus.BOOKED) {
                     bookedSeats++;
                 }
             }
         }
 
-        // Build offers list
-        List<AvailableOffer> offers = buildAvailableOffers(show.isAfternoonShow());
+        // Offers (shared, precomputed per pricing context)
+        List<AvailableOffer> offers = offerCatalogue.describe(priceTable.getContext()).seatMapOffers();
 
         SeatSummary summary = SeatSummary.builder()
                 .totalSeats(totalSeats)
@@ -186,11 +214,11 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
 
         return ShowSeatsResponse.builder()
                 .showId(showId)
-                .movieTitle(show.getMovie().getTitle())
-                .theatreName(show.getTheatre().getName())
-                .screenName(show.getScreen().getName())
-                .showDate(show.getShowDate().format(DATE_FORMATTER))
-                .showTime(show.getStartTime().format(TIME_FORMATTER))
+                .movieTitle(show.movieTitle())
+                .theatreName(show.theatreName())
+                .screenName(show.screenName())
+                .showDate(show.showDate().format(DATE_FORMATTER))
+                .showTime(show.startTime().format(TIME_FORMATTER))
                 .isAfternoonShow(show.isAfternoonShow())
                 .seatLayout(seatLayout)
                 .summary(summary)
@@ -198,66 +226,84 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
                 .build();
     }
 
-    private ShowTimingInfo mapToShowTimingInfo(Show show) {
-        Double startingPrice = showSeatRepository.findMinPriceByShowId(show.getId()).orElse(0.0);
-        
-        List<OfferInfo> offers = buildOfferInfoList(show.isAfternoonShow());
+    private Map<Long, Double> findStartingPrices(List<ShowTimingView> shows) {
+        if (shows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> showIds = shows.stream()
+                .map(ShowTimingView::showId)
+                .collect(Collectors.toList());
 
-        return ShowTimingInfo.builder()
-                .showId(show.getId())
-                .startTime(show.getStartTime().format(TIME_FORMATTER))
-                .endTime(show.getEndTime().format(TIME_FORMATTER))
-                .screenName(show.getScreen().getName())
-                .screenType(show.getScreen().getScreenType())
-                .availableSeats(show.getAvailableSeats())
-                .status(show.getStatus().getDisplayName())
-                .startingPrice(startingPrice)
-                .afternoonShow(show.isAfternoonShow())
-                .applicableOffers(offers)
-                .build();
-    }
+        Map<Long, ShowPriceTable> priceTables = showPriceCache.getAll(showIds);
 
-    private List<OfferInfo> buildOfferInfoList(boolean isAfternoonShow) {
-        List<OfferInfo> offers = new ArrayList<>();
-
-        // Always available: 50% off on 3rd ticket
-        offers.add(OfferInfo.builder()
-                .offerCode("THIRD_TICKET_50")
-                .description("50% off on 3rd ticket")
-                .discountType("PERCENTAGE")
-                .discountValue(50.0)
-                .build());
-
-        // Afternoon show discount
-        if (isAfternoonShow) {
-            offers.add(OfferInfo.builder()
-                    .offerCode("AFTERNOON_20")
-                    .description("20% off on afternoon shows")
-                    .discountType("PERCENTAGE")
-                    .discountValue(20.0)
-                    .build());
+        // Available seats per show and category
+        Map<Long, long[]> availableByCategory = new HashMap<>();
+        for (ShowCategoryCountView count : showSeatRepository.countAvailableByCategory(showIds)) {
+            availableByCategory.computeIfAbsent(count.showId(), id -> new long[SeatCategory.values().length])
+                    [count.category().ordinal()] = count.seatCount();
         }
 
-        return offers;
+        Map<Long, Double> startingPrices = new HashMap<>();
+        for (Map.Entry<Long, long[]> entry : availableByCategory.entrySet()) {
+            ShowPriceTable priceTable = priceTables.get(entry.getKey());
+            if (priceTable != null) {
+                long minPaise = minAvailablePricePaise(priceTable, entry.getValue());
+                if (minPaise != Long.MAX_VALUE) {
+                    startingPrices.put(entry.getKey(), Paise.toRupees(minPaise));
+                }
+            }
+        }
+        return startingPrices;
     }
 
-    private List<AvailableOffer> buildAvailableOffers(boolean isAfternoonShow) {
-        List<AvailableOffer> offers = new ArrayList<>();
+    /**
+     * Lowest price among available seats: their category prices, except that available seats
+     * with an override are priced (and counted) individually
+     */
+    private long minAvailablePricePaise(ShowPriceTable priceTable, long[] availableByCategory) {
+        long minPaise = Long.MAX_VALUE;
+        if (priceTable.hasOverrides()) {
+            SeatCategoryLayout layout = showPriceCache.layout(priceTable.getScreenId());
+            List<Long> overrideSeatIds = Arrays.stream(priceTable.getOverrideSeatIds()).boxed().toList();
+            for (Long seatId : showSeatRepository.findAvailableSeatIds(priceTable.getShowId(), overrideSeatIds)) {
+                SeatCategory category = layout.category(seatId);
+                if (category != null) {
+                    availableByCategory[category.ordinal()]--;
+                }
+                minPaise = Math.min(minPaise, priceTable.overridePaise(seatId));
+            }
+        }
+        for (SeatCategory category : SeatCategory.values()) {
+            long pricePaise = priceTable.categoryPricePaise(category);
+            if (availableByCategory[category.ordinal()] > 0 && pricePaise != ShowPriceTable.NOT_PRICED) {
+                minPaise = Math.min(minPaise, pricePaise);
+            }
+        }
+        return minPaise;
+    }
 
-        offers.add(AvailableOffer.builder()
-                .offerCode("THIRD_TICKET_50")
-                .description("Book 3 or more tickets and get 50% off on the 3rd ticket")
-                .termsAndConditions("Applicable on booking of 3 or more tickets. Discount applied to the cheapest ticket.")
-                .build());
+    /**
+     * Current list price of a seat, or null if the show has no price for it
+     */
+    private static Double price(ShowPriceTable priceTable, ShowSeatView seat) {
+        long pricePaise = priceTable.pricePaise(seat.seatId(), seat.category());
+        return pricePaise == ShowPriceTable.NOT_PRICED ? null : Paise.toRupees(pricePaise);
+    }
 
-        if (isAfternoonShow) {
-            offers.add(AvailableOffer.builder()
-                    .offerCode("AFTERNOON_20")
-                    .description("20% off on all tickets for afternoon shows (12 PM - 5 PM)")
-                    .termsAndConditions("Automatically applied for shows between 12:00 PM and 5:00 PM.")
-                    .build());
-        }
+    private ShowTimingInfo mapToShowTimingInfo(ShowTimingView show, Double startingPrice) {
+        List<OfferInfo> offers = offerCatalogue.describe(new PricingContext(show.theatreId(), show.startTime())).showOffers();
 
-        return offers;
+        return ShowTimingInfo.builder()
+                .showId(show.showId())
+                .startTime(show.startTime().format(TIME_FORMATTER))
+                .endTime(show.endTime().format(TIME_FORMATTER))
+                .screenName(show.screenName())
+                .screenType(show.screenType())
+                .availableSeats(show.availableSeats())
+                .status(show.status().getDisplayName())
+                .startingPrice(startingPrice)
+                .afternoonShow(show.isAfternoonShow())
+                .applicableOffers(offers)
+                .build();
     }
 }
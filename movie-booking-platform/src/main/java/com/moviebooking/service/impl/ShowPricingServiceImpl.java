@@ -0,0 +1,130 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.projection.ShowPricingView;
+import com.moviebooking.dto.request.ShowPriceUpdateRequest;
+import com.moviebooking.dto.response.ShowPricesResponse;
+import com.moviebooking.entity.Show;
+import com.moviebooking.entity.ShowCategoryPrice;
+import com.moviebooking.entity.ShowSeatPriceOverride;
+import com.moviebooking.enums.ChangeEntityType;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.exception.ResourceNotFoundException;
+import com.moviebooking.pricing.SeatCategoryLayout;
+import com.moviebooking.pricing.ShowPriceCache;
+import com.moviebooking.repository.SeatRepository;
+import com.moviebooking.repository.ShowCategoryPriceRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatPriceOverrideRepository;
+import com.moviebooking.service.ChangeFeedService;
+import com.moviebooking.service.ShowPricingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of ShowPricingService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShowPricingServiceImpl implements ShowPricingService {
+
+    private final ShowRepository showRepository;
+    private final SeatRepository seatRepository;
+    private final ShowCategoryPriceRepository showCategoryPriceRepository;
+    private final ShowSeatPriceOverrideRepository showSeatPriceOverrideRepository;
+    private final ShowPriceCache showPriceCache;
+    private final ChangeFeedService changeFeedService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShowPricesResponse getPrices(Long showId) {
+        return toResponse(findShowPricing(showId));
+    }
+
+    @Override
+    @Transactional
+    public ShowPricesResponse updatePrices(Long showId, ShowPriceUpdateRequest request) {
+        Show show = showRepository.findById(showId)
+                .orElseThrow(() -> new ResourceNotFoundException("Show not found with id: " + showId));
+
+        if (request.getCategoryPrices() != null) {
+            for (ShowPriceUpdateRequest.CategoryPrice categoryPrice : request.getCategoryPrices()) {
+                ShowCategoryPrice price = showCategoryPriceRepository
+                        .findByShowIdAndCategory(showId, categoryPrice.getCategory())
+                        .orElseGet(() -> ShowCategoryPrice.builder()
+                                .show(show)
+                                .category(categoryPrice.getCategory())
+                                .basePrice(categoryPrice.getPrice())
+                                .build());
+                price.setPrice(categoryPrice.getPrice());
+                showCategoryPriceRepository.save(price);
+            }
+        }
+
+        if (request.getSeatOverrides() != null) {
+            SeatCategoryLayout layout = showPriceCache.layout(show.getScreen().getId());
+            for (ShowPriceUpdateRequest.SeatOverride seatOverride : request.getSeatOverrides()) {
+                if (layout.category(seatOverride.getSeatId()) == null) {
+                    throw new BookingException("Seat " + seatOverride.getSeatId() + " does not belong to show " + showId);
+                }
+                if (seatOverride.getPrice() == null) {
+                    showSeatPriceOverrideRepository.deleteByShowIdAndSeatId(showId, seatOverride.getSeatId());
+                    continue;
+                }
+                ShowSeatPriceOverride override = showSeatPriceOverrideRepository
+                        .findByShowIdAndSeatId(showId, seatOverride.getSeatId())
+                        .orElseGet(() -> ShowSeatPriceOverride.builder()
+                                .show(show)
+                                .seat(seatRepository.getReferenceById(seatOverride.getSeatId()))
+                                .build());
+                override.setPrice(seatOverride.getPrice());
+                showSeatPriceOverrideRepository.save(override);
+            }
+        }
+
+        // Prices and version commit together; every node drops its cached table once they do
+        showRepository.incrementPriceVersion(showId);
+        changeFeedService.record(ChangeEntityType.PRICE, showId);
+        log.info("Prices updated for show {}", showId);
+
+        return toResponse(findShowPricing(showId));
+    }
+
+    private ShowPricingView findShowPricing(Long showId) {
+        List<ShowPricingView> shows = showRepository.findShowPricingByIds(List.of(showId));
+        if (shows.isEmpty()) {
+            throw new ResourceNotFoundException("Show not found with id: " + showId);
+        }
+        return shows.get(0);
+    }
+
+    private ShowPricesResponse toResponse(ShowPricingView show) {
+        List<ShowPricesResponse.CategoryPrice> categoryPrices = showCategoryPriceRepository
+                .findPriceViewsByShowIds(List.of(show.showId())).stream()
+                .map(price -> ShowPricesResponse.CategoryPrice.builder()
+                        .category(price.category().name())
+                        .basePrice(price.basePrice())
+                        .price(price.price())
+                        .build())
+                .toList();
+
+        List<ShowPricesResponse.SeatOverride> seatOverrides = showSeatPriceOverrideRepository
+                .findViewsByShowIds(List.of(show.showId())).stream()
+                .map(override -> ShowPricesResponse.SeatOverride.builder()
+                        .seatId(override.seatId())
+                        .price(override.price())
+                        .build())
+                .toList();
+
+        return ShowPricesResponse.builder()
+                .showId(show.showId())
+                .priceVersion(show.priceVersion())
+                .categoryPrices(categoryPrices)
+                .seatOverrides(seatOverrides)
+                .build();
+    }
+}
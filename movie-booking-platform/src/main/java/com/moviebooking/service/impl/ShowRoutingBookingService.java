@@ -0,0 +1,82 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.cluster.ClusterClient;
+import com.moviebooking.cluster.ClusterMembership;
+import com.moviebooking.cluster.ClusterNode;
+import com.moviebooking.cluster.NodeUnavailableException;
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.dto.response.ShowCancellationResponse;
+import com.moviebooking.service.BookingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BookingService decorator that sends each booking to the node owning its show
+ * 
+ * Bookings for shows owned elsewhere are forwarded over HTTP; forwarded requests are always
+ * served locally, so a request makes at most one hop. If the owner cannot be connected to, the
+ * booking is served locally - the database still arbitrates, ownership only concentrates the
+ * locking. A timeout or 5xx from the owner is not retried here (ClusterClient returns 503), as
+ * the owner may already have booked the seats.
+ * Seat availability is always decided by the delegate under the database row locks; the
+ * event-sourced inventory lags commits, so it is never used to refuse a booking here.
+ * Lookups and cancellations are not routed.
+ */
+@Slf4j
+public class ShowRoutingBookingService implements BookingService {
+
+    private final BookingService delegate;
+    private final ClusterMembership membership;
+    private final ClusterClient clusterClient;
+    private final Counter localCounter;
+    private final Counter forwardedCounter;
+    private final Counter fallbackCounter;
+
+    public ShowRoutingBookingService(BookingService delegate,
+                                     ClusterMembership membership,
+                                     ClusterClient clusterClient,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.membership = membership;
+        this.clusterClient = clusterClient;
+        this.localCounter = meterRegistry.counter("booking.routing", "outcome", "local");
+        this.forwardedCounter = meterRegistry.counter("booking.routing", "outcome", "forwarded");
+        this.fallbackCounter = meterRegistry.counter("booking.routing", "outcome", "fallback");
+    }
+
+    @Override
+    public BookingResponse bookTickets(BookTicketRequest request) {
+        if (membership.isLocal(request.getShowId()) || ClusterClient.isForwardedRequest()) {
+            localCounter.increment();
+            return delegate.bookTickets(request);
+        }
+
+        ClusterNode owner = membership.ownerOf(request.getShowId());
+        try {
+            BookingResponse response = clusterClient.forwardBooking(owner, request);
+            forwardedCounter.increment();
+            return response;
+        } catch (NodeUnavailableException e) {
+            fallbackCounter.increment();
+            log.warn("Serving booking for show {} locally: {}", request.getShowId(), e.getMessage());
+            return delegate.bookTickets(request);
+        }
+    }
+
+    @Override
+    public BookingResponse getBookingByReference(String bookingReference) {
+        return delegate.getBookingByReference(bookingReference);
+    }
+
+    @Override
+    public BookingResponse cancelBooking(String bookingReference) {
+        return delegate.cancelBooking(bookingReference);
+    }
+
+    @Override
+    public ShowCancellationResponse cancelAllBookingsForShow(Long showId) {
+        return delegate.cancelAllBookingsForShow(showId);
+    }
+}
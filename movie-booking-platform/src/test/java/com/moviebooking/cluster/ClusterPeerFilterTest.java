@@ -0,0 +1,72 @@
+package com.moviebooking.cluster;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cluster headers count only on requests carrying the shared secret
+ */
+class ClusterPeerFilterTest {
+
+    private static final String SECRET = "s3cret";
+
+    @Test
+    void servesRequestWithSecretAsForwarded() throws Exception {
+        assertThat(forwarded(new ClusterPeerFilter(SECRET), request(SECRET))).isTrue();
+    }
+
+    @Test
+    void stripsClusterHeadersWithoutSecret() throws Exception {
+        ClusterPeerFilter filter = new ClusterPeerFilter(SECRET);
+
+        assertThat(forwarded(filter, request(null))).isFalse();
+        assertThat(forwarded(filter, request("guess"))).isFalse();
+    }
+
+    @Test
+    void acceptsNoPeerWhenNoSecretIsConfigured() throws Exception {
+        assertThat(forwarded(new ClusterPeerFilter(""), request(""))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bookings");
+        request.addHeader(ClusterClient.FORWARDED_BY_HEADER, "node-b");
+        request.addHeader(ClusterClient.PROPAGATED_HEADER, "node-b");
+        if (secret != null) {
+            request.addHeader(ClusterClient.PEER_SECRET_HEADER, secret);
+        }
+        return request;
+    }
+
+    /**
+     * Whether the handler behind the filter sees a forwarded request (and, if not, no cluster headers)
+     */
+    private static boolean forwarded(ClusterPeerFilter filter, MockHttpServletRequest request) throws Exception {
+        AtomicBoolean forwarded = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            HttpServletRequest seen = (HttpServletRequest) req;
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(seen));
+            try {
+                forwarded.set(ClusterClient.isForwardedRequest());
+                assertThat(ClusterClient.isPropagatedRequest()).isEqualTo(forwarded.get());
+                if (!forwarded.get()) {
+                    assertThat(seen.getHeader(ClusterClient.FORWARDED_BY_HEADER)).isNull();
+                    assertThat(Collections.list(seen.getHeaderNames()))
+                            .doesNotContain(ClusterClient.FORWARDED_BY_HEADER, ClusterClient.PEER_SECRET_HEADER);
+                }
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+        return forwarded.get();
+    }
+}
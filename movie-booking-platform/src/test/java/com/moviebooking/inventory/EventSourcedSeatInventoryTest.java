@@ -0,0 +1,171 @@
+package com.moviebooking.inventory;
+
+import com.moviebooking.dto.projection.ShowSeatView;
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.entity.ShowSeat;
+import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.journal.BookingJournal;
+import com.moviebooking.journal.BookingStateChange;
+import com.moviebooking.journal.JournalGap;
+import com.moviebooking.repository.SeatRepository;
+import com.moviebooking.repository.ShowRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bitmaps rebuilt from snapshot plus journal replay agree with show_seats, and a journal gap
+ * reloads the affected show from the database
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.journal.enabled=true",
+        "app.inventory.event-sourced.enabled=true",
+        "app.inventory.event-sourced.poll-interval-millis=3600000",
+        "app.inventory.event-sourced.snapshot-interval-millis=3600000"
+})
+class EventSourcedSeatInventoryTest {
+
+    private static final Long SNAPSHOT_SHOW_ID = 14L;
+    private static final Long REPLAY_SHOW_ID = 15L;
+    private static final Long GAP_SHOW_ID = 16L;
+
+    @TempDir
+    static Path dataDirectory;
+
+    @DynamicPropertySource
+    static void dataDirectories(DynamicPropertyRegistry registry) {
+        registry.add("app.journal.directory", () -> dataDirectory.resolve("journal").toString());
+        registry.add("app.inventory.event-sourced.snapshot-directory", () -> snapshotDirectory().toString());
+    }
+
+    @Autowired
+    private EventSourcedSeatInventory seatInventory;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingJournal bookingJournal;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void snapshotPlusReplayMatchesShowSeats() {
+        List<Long> snapshotSeats = availableSeats(SNAPSHOT_SHOW_ID, 6);
+        book(SNAPSHOT_SHOW_ID, snapshotSeats.subList(0, 3));
+        String cancelledLater = book(SNAPSHOT_SHOW_ID, snapshotSeats.subList(3, 6));
+        seatInventory.writeSnapshot();
+        long snapshotSequence = seatInventory.getJournalSequence();
+
+        // Journaled after the snapshot - only replay can pick these up
+        bookingService.cancelBooking(cancelledLater);
+        List<Long> replaySeats = availableSeats(REPLAY_SHOW_ID, 4);
+        book(REPLAY_SHOW_ID, replaySeats.subList(0, 2));
+        String cancelledAfterSnapshot = book(REPLAY_SHOW_ID, replaySeats.subList(2, 4));
+        bookingService.cancelBooking(cancelledAfterSnapshot);
+        book(REPLAY_SHOW_ID, replaySeats.subList(3, 4));
+        assertThat(bookingJournal.getWrittenUpTo()).isGreaterThan(snapshotSequence);
+
+        EventSourcedSeatInventory restarted = new EventSourcedSeatInventory(bookingJournal, seatRepository,
+                showRepository, showSeatRepository, new NoBackgroundCheckScheduler(),
+                snapshotDirectory().toString(), 0);
+        restarted.start();
+
+        assertThat(restarted.getJournalSequence()).isEqualTo(bookingJournal.getWrittenUpTo());
+        assertMatchesShowSeats(restarted, SNAPSHOT_SHOW_ID);
+        assertMatchesShowSeats(restarted, REPLAY_SHOW_ID);
+        assertThat(restarted.getShow(SNAPSHOT_SHOW_ID).orElseThrow().isBooked(snapshotSeats.get(0))).isTrue();
+        assertThat(restarted.getShow(SNAPSHOT_SHOW_ID).orElseThrow().isBooked(snapshotSeats.get(3))).isFalse();
+        assertThat(restarted.checkConsistency(false).getMismatchedShows()).isZero();
+    }
+
+    @Test
+    void journalGapReloadsShowFromDatabase() {
+        List<Long> seatIds = availableSeats(GAP_SHOW_ID, 3);
+        seatInventory.followJournal();
+        // Committed without reaching the journal
+        List<ShowSeat> showSeats = showSeatRepository.findByShowIdAndSeatIds(GAP_SHOW_ID, seatIds);
+        showSeats.forEach(s -> s.setStatus(SeatStatus.BOOKED));
+        showSeatRepository.saveAll(showSeats);
+        seatInventory.followJournal();
+        assertThat(seatInventory.getShow(GAP_SHOW_ID).orElseThrow().isBooked(seatIds.get(0))).isFalse();
+
+        eventPublisher.publishEvent(new JournalGap(
+                BookingStateChange.booked(GAP_SHOW_ID, 0L, "BK-GAP", seatIds), "append failed"));
+
+        ShowInventory show = seatInventory.getShow(GAP_SHOW_ID).orElseThrow();
+        assertThat(seatIds).allMatch(show::isBooked);
+        assertMatchesShowSeats(seatInventory, GAP_SHOW_ID);
+    }
+
+    private void assertMatchesShowSeats(EventSourcedSeatInventory inventory, Long showId) {
+        ShowInventory show = inventory.getShow(showId).orElseThrow();
+        List<ShowSeatView> seats = showSeatRepository.findSeatViewsByShowId(showId);
+        List<Long> booked = new ArrayList<>();
+        for (ShowSeatView seat : seats) {
+            boolean bookedInDatabase = seat.status() == SeatStatus.BOOKED;
+            assertThat(show.isBooked(seat.seatId()))
+                    .as("show %d seat %d", showId, seat.seatId())
+                    .isEqualTo(bookedInDatabase);
+            if (bookedInDatabase) {
+                booked.add(seat.seatId());
+            }
+        }
+        assertThat(show.getSeatCount()).isEqualTo(seats.size());
+        assertThat(show.getBookedCount()).isEqualTo(booked.size());
+    }
+
+    private List<Long> availableSeats(Long showId, int count) {
+        return List.copyOf(showSeatRepository.findAvailableSeatIdsByShowId(showId).subList(0, count));
+    }
+
+    private String book(Long showId, List<Long> seatIds) {
+        return bookingService.bookTickets(BookTicketRequest.builder()
+                .showId(showId)
+                .customerName("Replay")
+                .customerEmail("replay@example.com")
+                .customerPhone("9876543210")
+                .seatIds(List.copyOf(seatIds))
+                .build()).getBookingReference();
+    }
+
+    private static Path snapshotDirectory() {
+        return dataDirectory.resolve("inventory");
+    }
+
+    /**
+     * Drops the background consistency check, which would repair any drift before the assertions see it
+     */
+    private static final class NoBackgroundCheckScheduler extends ThreadPoolTaskScheduler {
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.moviebooking.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Journal recovery, segment rolling and tailing against real segment files
+ */
+class BookingJournalTest {
+
+    private static final int SEGMENT_SIZE_MB = 1;
+
+    @TempDir
+    Path directory;
+
+    private final List<BookingJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        opened.forEach(BookingJournal::close);
+    }
+
+    @Test
+    void recoveryDiscardsTruncatedTail() throws IOException {
+        int recordLength = appendAndClose(5);
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(4L * recordLength + recordLength / 2);
+        }
+
+        assertRecoveredUpTo(4);
+    }
+
+    @Test
+    void recoveryDiscardsTailWithFlippedByte() throws IOException {
+        int recordLength = appendAndClose(5);
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long offset = 4L * recordLength + recordLength - 6;
+            ByteBuffer single = ByteBuffer.allocate(1);
+            channel.read(single, offset);
+            single.put(0, (byte) (single.get(0) ^ 0x01)).rewind();
+            channel.write(single, offset);
+        }
+
+        assertRecoveredUpTo(4);
+    }
+
+    @Test
+    void rollsSegmentsAndReadsAcrossThem() throws IOException {
+        BookingJournal journal = open();
+        List<Long> seats = LongStream.range(0, 20_000).boxed().toList(); // ~160 KB per record
+        for (int i = 0; i < 20; i++) {
+            assertThat(journal.append(BookingStateChange.booked(14L, i, "BK-" + i, seats))).isEqualTo(i);
+        }
+
+        List<Path> segments = BookingJournal.listSegments(directory);
+        assertThat(segments).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(BookingJournal.firstSequenceOf(segments.get(0))).isZero();
+        assertThat(segments.stream().map(BookingJournal::firstSequenceOf)).isSorted().doesNotHaveDuplicates();
+        assertThat(sequences(journal.tail(0).poll(100))).containsExactlyElementsOf(range(0, 20));
+
+        long secondSegmentStart = BookingJournal.firstSequenceOf(segments.get(1));
+        assertThat(sequences(journal.tail(secondSegmentStart + 1).poll(100)))
+                .containsExactlyElementsOf(range(secondSegmentStart + 1, 20));
+
+        journal.close();
+        BookingJournal reopened = open();
+        assertThat(reopened.getWrittenUpTo()).isEqualTo(20);
+        assertThat(reopened.append(change(20))).isEqualTo(20);
+    }
+
+    @Test
+    void tailerResumesFromOffset() {
+        BookingJournal journal = open();
+        for (int i = 0; i < 10; i++) {
+            journal.append(change(i));
+        }
+
+        JournalTailer tailer = journal.tail(0);
+        assertThat(sequences(tailer.poll(4))).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(tailer.getNextSequence()).isEqualTo(4);
+
+        List<JournalEntry> resumed = journal.tail(tailer.getNextSequence()).poll(100);
+        assertThat(sequences(resumed)).containsExactlyElementsOf(range(4, 10));
+        assertThat(resumed.get(0).change()).isEqualTo(change(4));
+
+        for (int i = 10; i < 13; i++) {
+            journal.append(change(i));
+        }
+        assertThat(sequences(tailer.poll(100))).containsExactlyElementsOf(range(4, 13));
+        assertThat(tailer.poll(100)).isEmpty();
+    }
+
+    /**
+     * Append records 0..count-1, close the journal and return the length of each record
+     */
+    private int appendAndClose(int count) {
+        BookingJournal journal = open();
+        for (int i = 0; i < count; i++) {
+            journal.append(change(i));
+        }
+        journal.close();
+        return JournalCodec.encode(0L, 0L, change(0)).length;
+    }
+
+    private void assertRecoveredUpTo(long validRecords) {
+        BookingJournal journal = open();
+        assertThat(journal.getWrittenUpTo()).isEqualTo(validRecords);
+        assertThat(sequences(journal.tail(0).poll(100))).containsExactlyElementsOf(range(0, validRecords));
+
+        assertThat(journal.append(change(99))).isEqualTo(validRecords);
+        List<JournalEntry> replayed = journal.tail(0).poll(100);
+        assertThat(replayed).hasSize((int) validRecords + 1);
+        assertThat(replayed.get((int) validRecords).change()).isEqualTo(change(99));
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> segments = BookingJournal.listSegments(directory);
+        assertThat(segments).hasSize(1);
+        return segments.get(0);
+    }
+
+    private BookingJournal open() {
+        BookingJournal journal = new BookingJournal(directory.toString(), SEGMENT_SIZE_MB, 5, false,
+                new SimpleMeterRegistry());
+        journal.open();
+        opened.add(journal);
+        return journal;
+    }
+
+    private static BookingStateChange change(int i) {
+        return BookingStateChange.booked(14L, i, String.format("BK-%04d", i), List.of((long) i, i + 1000L));
+    }
+
+    private static List<Long> sequences(List<JournalEntry> entries) {
+        return entries.stream().map(JournalEntry::sequence).toList();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.range(from, to).boxed().toList();
+    }
+}
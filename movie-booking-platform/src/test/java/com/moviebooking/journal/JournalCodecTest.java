@@ -0,0 +1,83 @@
+package com.moviebooking.journal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records decode to what was encoded; anything incomplete or damaged decodes to null
+ */
+class JournalCodecTest {
+
+    private static final long TIMESTAMP = 1_700_000_000_000L;
+
+    @Test
+    void roundTripsEveryKindOfChange() {
+        List<BookingStateChange> changes = List.of(
+                BookingStateChange.booked(14L, 7L, "BK-ÄÖ-001", List.of(1L, 2L, Long.MAX_VALUE)),
+                BookingStateChange.cancelled(14L, 7L, "BK-ÄÖ-001", List.of(1L)),
+                BookingStateChange.showCancelled(14L));
+
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        for (int i = 0; i < changes.size(); i++) {
+            buffer.put(JournalCodec.encode(i, TIMESTAMP + i, changes.get(i)));
+        }
+        buffer.flip();
+
+        for (int i = 0; i < changes.size(); i++) {
+            assertThat(JournalCodec.decode(buffer))
+                    .isEqualTo(new JournalEntry(i, TIMESTAMP + i, changes.get(i)));
+        }
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void encodesMissingReferenceAndSeatsAsEmpty() {
+        BookingStateChange change = BookingStateChange.booked(1L, 2L, null, null);
+
+        JournalEntry entry = JournalCodec.decode(ByteBuffer.wrap(JournalCodec.encode(0L, TIMESTAMP, change)));
+
+        assertThat(entry.change().bookingReference()).isEmpty();
+        assertThat(entry.change().seatIds()).isEmpty();
+    }
+
+    @Test
+    void rejectsUnwrittenAndTruncatedRecords() {
+        byte[] record = record();
+
+        assertThat(decodeKeepingPosition(new byte[64])).isNull();
+        assertThat(decodeKeepingPosition(new byte[2])).isNull();
+        for (int length = 0; length < record.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(record, 0, truncated, 0, length);
+            assertThat(decodeKeepingPosition(truncated)).as("truncated to %d bytes", length).isNull();
+        }
+    }
+
+    @Test
+    void rejectsAnyFlippedBodyByte() {
+        byte[] record = record();
+
+        for (int i = JournalCodec.LENGTH_BYTES; i < record.length; i++) {
+            byte[] corrupt = record.clone();
+            corrupt[i] ^= 0x01;
+            assertThat(decodeKeepingPosition(corrupt)).as("byte %d flipped", i).isNull();
+        }
+    }
+
+    private static byte[] record() {
+        return JournalCodec.encode(3L, TIMESTAMP, BookingStateChange.booked(14L, 7L, "BK-1", List.of(10L, 11L)));
+    }
+
+    private static JournalEntry decodeKeepingPosition(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        JournalEntry entry = JournalCodec.decode(buffer);
+        if (entry == null) {
+            assertThat(buffer.position()).isZero();
+        }
+        return entry;
+    }
+}
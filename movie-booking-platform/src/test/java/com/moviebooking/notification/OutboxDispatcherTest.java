@@ -0,0 +1,185 @@
+package com.moviebooking.notification;
+
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.entity.OutboxEvent;
+import com.moviebooking.enums.NotificationChannel;
+import com.moviebooking.enums.OutboxStatus;
+import com.moviebooking.repository.OutboxEventRepository;
+import com.moviebooking.service.NotificationOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Outbox delivery against the in-memory sink: only committed rows are delivered, failures back off
+ * until the attempts cap, and concurrent dispatchers claim disjoint rows
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.notifications.outbox.poll-interval-millis=3600000",
+        "app.change-feed.poll-interval-millis=3600000",
+        "app.promos.top-up-interval-millis=3600000"
+})
+class OutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_SECONDS = 5;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private InMemoryNotificationSink notificationSink;
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void emptyOutbox() {
+        outboxEventRepository.deleteAll();
+        notificationSink.clear();
+    }
+
+    @Test
+    void rolledBackEnqueueDeliversNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationOutboxService.enqueueBookingConfirmation(booking("BK-ROLLBACK"));
+            status.setRollbackOnly();
+        });
+        enqueue("BK-COMMIT");
+
+        outboxDispatcher.dispatch();
+
+        assertThat(notificationSink.getDelivered())
+                .extracting(NotificationMessage::bookingReference)
+                .containsOnly("BK-COMMIT")
+                .hasSize(NotificationChannel.values().length);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getStatus)
+                .containsOnly(OutboxStatus.SENT);
+    }
+
+    @Test
+    void failingSinkBacksOffAndStopsAtMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSink failingSink = (channel, batch) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("gateway down");
+        };
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository, failingSink,
+                transactionTemplate, new SimpleMeterRegistry(), 100, 10, MAX_ATTEMPTS, BASE_BACKOFF_SECONDS);
+        Long eventId = enqueueSingle(NotificationChannel.EMAIL);
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            dispatcher.dispatch();
+
+            OutboxEvent event = outboxEventRepository.findById(eventId).orElseThrow();
+            assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(event.getAttempts()).isEqualTo(attempt);
+            assertThat(event.getLastError()).isEqualTo("gateway down");
+            long expectedDelay = BASE_BACKOFF_SECONDS << (attempt - 1);
+            assertThat(Duration.between(before, event.getNextAttemptAt()).toSeconds())
+                    .isCloseTo(expectedDelay, within(1L));
+
+            // Not due yet: another cycle leaves it alone
+            dispatcher.dispatch();
+            assertThat(calls).hasValue(attempt);
+            makeDue(eventId);
+        }
+
+        dispatcher.dispatch();
+        OutboxEvent failed = outboxEventRepository.findById(eventId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        makeDue(eventId);
+        dispatcher.dispatch();
+        assertThat(calls).hasValue(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void concurrentDispatchersDeliverEachEventOnce() throws Exception {
+        int bookings = 100;
+        for (int i = 0; i < bookings; i++) {
+            enqueue("BK-CONCURRENT-" + i);
+        }
+        int dispatchers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(dispatchers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < dispatchers; i++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    outboxDispatcher.dispatch();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        outboxDispatcher.dispatch();
+
+        List<Long> deliveredIds = notificationSink.getDelivered().stream()
+                .map(NotificationMessage::eventId)
+                .toList();
+        assertThat(deliveredIds)
+                .doesNotHaveDuplicates()
+                .hasSize(bookings * NotificationChannel.values().length);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isZero();
+    }
+
+    private void enqueue(String bookingReference) {
+        transactionTemplate.executeWithoutResult(status ->
+                notificationOutboxService.enqueueBookingConfirmation(booking(bookingReference)));
+    }
+
+    private Long enqueueSingle(NotificationChannel channel) {
+        enqueue("BK-RETRY");
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        events.stream().filter(e -> e.getChannel() != channel).forEach(outboxEventRepository::delete);
+        return events.stream().filter(e -> e.getChannel() == channel).findFirst().orElseThrow().getId();
+    }
+
+    private void makeDue(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElseThrow();
+        event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxEventRepository.save(event);
+    }
+
+    private static BookingResponse booking(String bookingReference) {
+        return BookingResponse.builder()
+                .bookingReference(bookingReference)
+                .customerName("Outbox")
+                .customerEmail("outbox@example.com")
+                .customerPhone("9876543210")
+                .showDetails(BookingResponse.ShowDetails.builder().theatreName("PVR Phoenix").build())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.service.PricingService.AppliedOffer;
+import com.moviebooking.service.PricingService.PricingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The double-based offer pipeline that the long-paise kernel replaced, kept as the reference
+ * for the equivalence test and the pricing benchmark
+ *
+ * Running prices are doubles in rupees; each rule's discount and the totals are rounded to
+ * the paisa with Math.round only when reported.
+ */
+public final class DoubleOfferPipeline {
+
+    private final CompiledOfferRule[] rules;
+    private final double[] fractions;
+    private final double[] keepFractions;
+
+    public DoubleOfferPipeline(OfferPipeline pipeline) {
+        this.rules = pipeline.rules().toArray(new CompiledOfferRule[0]);
+        this.fractions = new double[rules.length];
+        this.keepFractions = new double[rules.length];
+        for (int r = 0; r < rules.length; r++) {
+            fractions[r] = rules[r].discountPercent / 100;
+            keepFractions[r] = 1 - rules[r].discountPercent / 100;
+        }
+    }
+
+    public PricingResult price(double[] prices, SeatCategory[] categories) {
+        int count = prices.length;
+        if (count == 0) {
+            return new PricingResult(0, 0, 0, "", List.of());
+        }
+
+        double[] current = prices.clone();
+        double baseAmount = 0;
+        for (double price : prices) {
+            baseAmount += price;
+        }
+
+        double totalDiscount = 0;
+        List<AppliedOffer> appliedOffers = null;
+        StringBuilder description = null;
+
+        for (int r = 0; r < rules.length; r++) {
+            double discount = switch (rules[r].type) {
+                case PERCENTAGE -> applyPercentage(r, categories, current);
+                case NTH_TICKET -> applyNthTicket(r, categories, current);
+            };
+            if (discount <= 0) {
+                continue;
+            }
+            totalDiscount += discount;
+            if (appliedOffers == null) {
+                appliedOffers = new ArrayList<>(rules.length);
+                description = new StringBuilder();
+            } else {
+                description.append(" + ");
+            }
+            appliedOffers.add(new AppliedOffer(rules[r].appliedName, Math.round(discount * 100.0) / 100.0));
+            description.append(rules[r].summary);
+        }
+
+        double finalAmount = baseAmount - totalDiscount;
+        return new PricingResult(
+            baseAmount,
+            Math.round(totalDiscount * 100.0) / 100.0,
+            Math.round(finalAmount * 100.0) / 100.0,
+            description == null ? "" : description.toString(),
+            appliedOffers == null ? List.of() : appliedOffers
+        );
+    }
+
+    private double applyPercentage(int r, SeatCategory[] categories, double[] current) {
+        double eligibleAmount = 0;
+        boolean any = false;
+        for (int i = 0; i < current.length; i++) {
+            if (rules[r].eligible(categories[i])) {
+                eligibleAmount += current[i];
+                current[i] = current[i] * keepFractions[r];
+                any = true;
+            }
+        }
+        return any ? eligibleAmount * fractions[r] : 0;
+    }
+
+    private double applyNthTicket(int r, SeatCategory[] categories, double[] current) {
+        int eligibleCount = 0;
+        int cheapest = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (rules[r].eligible(categories[i])) {
+                eligibleCount++;
+                if (cheapest < 0 || current[i] < current[cheapest]) {
+                    cheapest = i;
+                }
+            }
+        }
+        if (eligibleCount < rules[r].nthTicket) {
+            return 0;
+        }
+        double discount = current[cheapest] * fractions[r];
+        current[cheapest] -= discount;
+        return discount;
+    }
+}
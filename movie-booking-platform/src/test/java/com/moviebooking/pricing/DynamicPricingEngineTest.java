@@ -0,0 +1,81 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.changefeed.ChangeFeedPoller;
+import com.moviebooking.dto.projection.CategoryPriceView;
+import com.moviebooking.dto.projection.ShowSeatView;
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.enums.SeatStatus;
+import com.moviebooking.repository.ShowCategoryPriceRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * After the startup sweep a show is repriced only once the change feed reports its seats changed
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.pricing.dynamic.enabled=true",
+        "app.pricing.dynamic.interval-millis=3600000",
+        "app.change-feed.poll-interval-millis=3600000",
+        "app.notifications.outbox.poll-interval-millis=3600000",
+        "app.promos.top-up-interval-millis=3600000"
+})
+class DynamicPricingEngineTest {
+
+    private static final Long SHOW_ID = 14L;
+
+    @Autowired
+    private DynamicPricingEngine dynamicPricingEngine;
+
+    @Autowired
+    private ChangeFeedPoller changeFeedPoller;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private ShowCategoryPriceRepository showCategoryPriceRepository;
+
+    @Test
+    void repricesShowsReportedByChangeFeed() {
+        dynamicPricingEngine.reprice();
+        List<CategoryPriceView> before = prices();
+
+        bookingService.bookTickets(BookTicketRequest.builder()
+                .showId(SHOW_ID)
+                .customerName("Surge")
+                .customerEmail("surge@example.com")
+                .customerPhone("9876543210")
+                .seatIds(regularSeats(10))
+                .build());
+
+        dynamicPricingEngine.reprice();
+        assertThat(prices()).as("not yet reported by the change feed").isEqualTo(before);
+
+        changeFeedPoller.poll();
+        dynamicPricingEngine.reprice();
+        assertThat(prices()).isNotEqualTo(before);
+    }
+
+    private List<Long> regularSeats(int count) {
+        return showSeatRepository.findSeatViewsByShowId(SHOW_ID).stream()
+                .filter(seat -> seat.category() == SeatCategory.REGULAR && seat.status() == SeatStatus.AVAILABLE)
+                .map(ShowSeatView::seatId)
+                .limit(count)
+                .toList();
+    }
+
+    private List<CategoryPriceView> prices() {
+        return showCategoryPriceRepository.findPriceViewsByShowIds(List.of(SHOW_ID));
+    }
+}
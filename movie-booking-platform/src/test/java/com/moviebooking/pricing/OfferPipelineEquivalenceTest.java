@@ -0,0 +1,241 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.enums.SeatCategory;
+import com.moviebooking.service.PricingService.AppliedOffer;
+import com.moviebooking.service.PricingService.PricingResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The long-paise OfferPipeline kernel against the double pipeline it replaced
+ *
+ * 
+ * With the default offers and whole-rupee prices (all seeded data) the two must agree exactly.
+ * With arbitrary rules and paise prices the double path drifts by a paisa at half-paisa
+ * boundaries and its totals need not reconcile, so there the kernel is held to exact decimal
+ * arithmetic and to within a paisa per applied offer of the double path.
+ */
+class OfferPipelineEquivalenceTest {
+
+    private static final int BASKETS = 100_000;
+    private static final SeatCategory[] CATEGORIES = SeatCategory.values();
+
+    @Test
+    void matchesDoublePathForDefaultOffersAndWholeRupeePrices() {
+        Random random = new Random(42);
+        OfferPipeline morning = new OfferPipeline(List.of(thirdTicket()));
+        OfferPipeline afternoon = new OfferPipeline(List.of(thirdTicket(), afternoonShow()));
+
+        for (int basket = 0; basket < BASKETS; basket++) {
+            OfferPipeline kernel = random.nextBoolean() ? morning : afternoon;
+            long[] prices = randomPrices(random, 1 + random.nextInt(10), true);
+            SeatCategory[] categories = randomCategories(random, prices.length);
+
+            PricingResult expected = new DoubleOfferPipeline(kernel).price(toRupees(prices), categories);
+            PricingResult actual = kernel.price(prices, categories, prices.length);
+
+            assertThat(actual).as("basket %d", basket).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void isExactAndWithinAPaisaOfDoublePathForRandomRulesAndPrices() {
+        Random random = new Random(7);
+        for (int basket = 0; basket < BASKETS; basket++) {
+            OfferPipeline kernel = new OfferPipeline(randomRules(random));
+            long[] prices = randomPrices(random, 1 + random.nextInt(10), random.nextBoolean());
+            SeatCategory[] categories = randomCategories(random, prices.length);
+
+            PricingResult actual = kernel.price(prices, categories, prices.length);
+            assertReconciles(actual);
+            assertThat(ruleDiscounts(actual)).as("basket %d", basket)
+                    .isEqualTo(exactRuleDiscounts(kernel, prices, categories));
+
+            PricingResult legacy = new DoubleOfferPipeline(kernel).price(toRupees(prices), categories);
+            assertThat(actual.appliedOffers()).hasSameSizeAs(legacy.appliedOffers());
+            for (int i = 0; i < actual.appliedOffers().size(); i++) {
+                AppliedOffer offer = actual.appliedOffers().get(i);
+                AppliedOffer legacyOffer = legacy.appliedOffers().get(i);
+                assertThat(offer.offerName()).isEqualTo(legacyOffer.offerName());
+                assertThat(Math.abs(Paise.of(offer.discountAmount()) - Paise.of(legacyOffer.discountAmount())))
+                        .as("basket %d, %s", basket, offer.offerName()).isLessThanOrEqualTo(1);
+            }
+            assertThat(Math.abs(Paise.of(actual.discountAmount()) - Paise.of(legacy.discountAmount())))
+                    .as("basket %d", basket).isLessThanOrEqualTo(actual.appliedOffers().size());
+        }
+    }
+
+    @Test
+    void roundsHalfPaiseUpOnStackedDiscounts() {
+        // Third ticket: 50% of 101 = 50.5 paise -> 51. Afternoon: 20% of 50.5 + 101 + 101 = 50.5 -> 51.
+        // The double path agrees per offer but rounded the unrounded 1.01 total, charging 2.02.
+        OfferPipeline kernel = new OfferPipeline(List.of(thirdTicket(), afternoonShow()));
+        long[] prices = {101, 101, 101};
+        SeatCategory[] categories = {SeatCategory.REGULAR, SeatCategory.REGULAR, SeatCategory.REGULAR};
+
+        PricingResult result = kernel.price(prices, categories, prices.length);
+
+        assertThat(ruleDiscounts(result)).containsExactly(51L, 51L);
+        assertThat(result.discountAmount()).isEqualTo(1.02);
+        assertThat(result.finalAmount()).isEqualTo(2.01);
+        PricingResult legacy = new DoubleOfferPipeline(kernel).price(toRupees(prices), categories);
+        assertThat(legacy.appliedOffers()).isEqualTo(result.appliedOffers());
+        assertThat(legacy.discountAmount()).isEqualTo(1.01);
+        assertThat(legacy.finalAmount()).isEqualTo(2.02);
+    }
+
+    @Test
+    void finalAmountReconcilesWhereDoublePathRoundsItSeparately() {
+        // 50% of the cheapest ticket (145.29) is 72.645: the kernel rounds it to 72.65 once, so
+        // the final amount is 2123.96 - 72.65; the double path rounded 2051.315 up to 2051.32
+        OfferPipeline kernel = new OfferPipeline(List.of(thirdTicket()));
+        long[] prices = {19674, 39896, 16272, 36820, 14529, 22454, 37637, 25114};
+        SeatCategory[] categories = randomCategories(new Random(1), prices.length);
+
+        PricingResult result = kernel.price(prices, categories, prices.length);
+        PricingResult legacy = new DoubleOfferPipeline(kernel).price(toRupees(prices), categories);
+
+        assertThat(result.discountAmount()).isEqualTo(72.65);
+        assertThat(result.finalAmount()).isEqualTo(2051.31);
+        assertThat(legacy.discountAmount()).isEqualTo(72.65);
+        assertThat(legacy.finalAmount()).isEqualTo(2051.32);
+    }
+
+    @Test
+    void pricesEmptyAndZeroBaskets() {
+        OfferPipeline kernel = new OfferPipeline(List.of(thirdTicket(), afternoonShow()));
+
+        assertThat(kernel.price(new long[0], new SeatCategory[0], 0))
+                .isEqualTo(new PricingResult(0, 0, 0, "", List.of()));
+        PricingResult free = kernel.price(new long[] {0, 0, 0}, randomCategories(new Random(1), 3), 3);
+        assertThat(free.discountAmount()).isZero();
+        assertThat(free.appliedOffers()).isEmpty();
+    }
+
+    private static void assertReconciles(PricingResult result) {
+        long offers = result.appliedOffers().stream().mapToLong(offer -> Paise.of(offer.discountAmount())).sum();
+        assertThat(offers).isEqualTo(Paise.of(result.discountAmount()));
+        assertThat(Paise.of(result.baseAmount()) - Paise.of(result.discountAmount()))
+                .isEqualTo(Paise.of(result.finalAmount()));
+    }
+
+    /**
+     * The kernel's contract in BigDecimal: running prices exact to 1/10000 paisa, each rule's
+     * discount rounded half-up to the paisa once
+     */
+    private static List<Long> exactRuleDiscounts(OfferPipeline pipeline, long[] prices, SeatCategory[] categories) {
+        BigDecimal[] running = new BigDecimal[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            running[i] = BigDecimal.valueOf(prices[i]);
+        }
+        List<Long> discounts = new ArrayList<>();
+        for (CompiledOfferRule rule : pipeline.rules()) {
+            BigDecimal fraction = BigDecimal.valueOf(rule.basisPoints).movePointLeft(4);
+            BigDecimal discount = BigDecimal.ZERO;
+            if (rule.type == OfferDiscountType.PERCENTAGE) {
+                for (int i = 0; i < prices.length; i++) {
+                    if (rule.eligible(categories[i])) {
+                        BigDecimal seatDiscount = running[i].multiply(fraction).setScale(4, RoundingMode.HALF_UP);
+                        running[i] = running[i].subtract(seatDiscount);
+                        discount = discount.add(seatDiscount);
+                    }
+                }
+            } else {
+                int eligible = 0;
+                int cheapest = -1;
+                for (int i = 0; i < prices.length; i++) {
+                    if (rule.eligible(categories[i])) {
+                        eligible++;
+                        if (cheapest < 0 || running[i].compareTo(running[cheapest]) < 0) {
+                            cheapest = i;
+                        }
+                    }
+                }
+                if (eligible >= rule.nthTicket) {
+                    discount = running[cheapest].multiply(fraction).setScale(4, RoundingMode.HALF_UP);
+                    running[cheapest] = running[cheapest].subtract(discount);
+                }
+            }
+            long paise = discount.setScale(0, RoundingMode.HALF_UP).longValueExact();
+            if (paise > 0) {
+                discounts.add(paise);
+            }
+        }
+        return discounts;
+    }
+
+    private static List<Long> ruleDiscounts(PricingResult result) {
+        return result.appliedOffers().stream().map(offer -> Paise.of(offer.discountAmount())).toList();
+    }
+
+    private static List<CompiledOfferRule> randomRules(Random random) {
+        int count = 1 + random.nextInt(3);
+        List<CompiledOfferRule> rules = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            boolean nthTicket = random.nextBoolean();
+            double percent = random.nextBoolean() ? 1 + random.nextInt(60) : (1 + random.nextInt(6000)) / 100.0;
+            SeatCategory category = random.nextInt(3) == 0 ? CATEGORIES[random.nextInt(CATEGORIES.length)] : null;
+            rules.add(rule("RULE_" + r,
+                    nthTicket ? OfferDiscountType.NTH_TICKET : OfferDiscountType.PERCENTAGE,
+                    percent, nthTicket ? 1 + random.nextInt(4) : null, category));
+        }
+        return rules;
+    }
+
+    private static long[] randomPrices(Random random, int count, boolean wholeRupees) {
+        long[] prices = new long[count];
+        for (int i = 0; i < count; i++) {
+            prices[i] = wholeRupees ? 100L * (100 + random.nextInt(400)) : 10_000 + random.nextInt(40_000);
+        }
+        return prices;
+    }
+
+    private static SeatCategory[] randomCategories(Random random, int count) {
+        SeatCategory[] categories = new SeatCategory[count];
+        for (int i = 0; i < count; i++) {
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+        return categories;
+    }
+
+    private static double[] toRupees(long[] prices) {
+        double[] rupees = new double[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            rupees[i] = Paise.toRupees(prices[i]);
+        }
+        return rupees;
+    }
+
+    private static CompiledOfferRule thirdTicket() {
+        return rule("THIRD_TICKET_50", OfferDiscountType.NTH_TICKET, 50, 3, null);
+    }
+
+    private static CompiledOfferRule afternoonShow() {
+        return rule("AFTERNOON_SHOW_20", OfferDiscountType.PERCENTAGE, 20, null, null);
+    }
+
+    private static CompiledOfferRule rule(String code, OfferDiscountType type, double percent,
+                                          Integer nthTicket, SeatCategory category) {
+        return new CompiledOfferRule(OfferRule.builder()
+                .code(code)
+                .discountType(type)
+                .discountPercent(percent)
+                .nthTicket(nthTicket)
+                .seatCategory(category)
+                .priority(1)
+                .displayOrder(1)
+                .appliedName(code)
+                .summary(code)
+                .description(code)
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.entity.OfferRule;
+import com.moviebooking.enums.OfferDiscountType;
+import com.moviebooking.repository.OfferRuleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent reloads install the rule list that was read last
+ */
+class OfferRuleEngineTest {
+
+    private static final PricingContext CONTEXT = new PricingContext(1L, LocalTime.of(10, 0));
+
+    @Test
+    void slowReloadDoesNotOverwriteNewerRules() throws Exception {
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch secondReloadDone = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        // The first read returns the rules as they were before an edit and stalls until the second
+        // reload (which reads them after the edit) has finished, or for a bounded time if it waits
+        OfferRuleEngine engine = engine(() -> {
+            if (reads.incrementAndGet() == 1) {
+                firstReadStarted.countDown();
+                secondReloadDone.await(500, TimeUnit.MILLISECONDS);
+                return List.of(rule("BEFORE_EDIT"));
+            }
+            return List.of(rule("AFTER_EDIT_1"), rule("AFTER_EDIT_2"));
+        });
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(engine::reload);
+        assertThat(firstReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            engine.reload();
+            secondReloadDone.countDown();
+        });
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(engine.pipelineFor(CONTEXT).ruleCount()).isEqualTo(2);
+        assertThat(engine.getVersion()).isEqualTo(2);
+    }
+
+    private interface RuleReader {
+        List<OfferRule> read() throws InterruptedException;
+    }
+
+    private static OfferRuleEngine engine(RuleReader reader) {
+        OfferRuleRepository repository = (OfferRuleRepository) Proxy.newProxyInstance(
+                OfferRuleRepository.class.getClassLoader(), new Class<?>[] {OfferRuleRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByActiveTrueOrderByPriorityAscIdAsc")) {
+                        return reader.read();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        TransactionTemplate noTransaction = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        return new OfferRuleEngine(repository, noTransaction, 50, 20, 12, 17);
+    }
+
+    private static OfferRule rule(String code) {
+        return OfferRule.builder()
+                .code(code)
+                .discountType(OfferDiscountType.PERCENTAGE)
+                .discountPercent(10.0)
+                .priority(1)
+                .displayOrder(1)
+                .active(true)
+                .appliedName(code)
+                .summary(code)
+                .description(code)
+                .build();
+    }
+}
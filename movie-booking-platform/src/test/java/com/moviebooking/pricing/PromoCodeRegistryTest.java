@@ -0,0 +1,142 @@
+package com.moviebooking.pricing;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.entity.PromoCode;
+import com.moviebooking.exception.BookingException;
+import com.moviebooking.repository.PromoCodeRepository;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.BookingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A capped promo code is never over- or under-redeemed under contention, and a booking that
+ * rolls back gives its redemption back
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.promos.chunk-size=3",
+        "app.promos.top-up-interval-millis=3600000",
+        "app.change-feed.poll-interval-millis=3600000",
+        "app.notifications.outbox.poll-interval-millis=3600000"
+})
+class PromoCodeRegistryTest {
+
+    private static final int CHUNK_SIZE = 3;
+    private static final Long SHOW_ID = 14L;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PromoCodeRepository promoCodeRepository;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest(name = "{0} threads, cap {1}")
+    @CsvSource({"64, 25", "16, 25", "40, 40"})
+    void redeemsExactlyUpToTheCap(int threads, int cap) throws Exception {
+        String code = createPromo("RACE" + threads + "X" + cap, cap);
+        PromoCodeRegistry registry = new PromoCodeRegistry(promoCodeRepository, transactionManager,
+                eventPublisher, new SimpleMeterRegistry(), CHUNK_SIZE);
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> redemptions = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                redemptions.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        registry.redeem(code);
+                        redeemed.incrementAndGet();
+                    } catch (BookingException e) {
+                        refused.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> redemption : redemptions) {
+                redemption.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(redeemed).hasValue(Math.min(threads, cap));
+        assertThat(refused).hasValue(Math.max(threads - cap, 0));
+        PromoCode row = promoCodeRepository.findByCode(code).orElseThrow();
+        assertThat(row.getAllocatedRedemptions()).isLessThanOrEqualTo(cap);
+        assertThat(redeemed.get() + registry.localRemaining(code)).isEqualTo(row.getAllocatedRedemptions().longValue());
+    }
+
+    @Test
+    void rolledBackBookingReturnsItsRedemption() {
+        String code = createPromo("ROLLBACK2", 2);
+        List<Long> seatIds = showSeatRepository.findAvailableSeatIdsByShowId(SHOW_ID).subList(0, 3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            book(seatIds.get(0), code);
+            status.setRollbackOnly();
+        });
+
+        // Both redemptions of the cap are still there
+        book(seatIds.get(0), code);
+        book(seatIds.get(1), code);
+        assertThatThrownBy(() -> book(seatIds.get(2), code))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("fully redeemed");
+    }
+
+    private void book(Long seatId, String promoCode) {
+        bookingService.bookTickets(BookTicketRequest.builder()
+                .showId(SHOW_ID)
+                .customerName("Promo")
+                .customerEmail("promo@example.com")
+                .customerPhone("9876543210")
+                .seatIds(List.of(seatId))
+                .promoCode(promoCode)
+                .build());
+    }
+
+    private String createPromo(String code, int maxRedemptions) {
+        promoCodeRepository.save(PromoCode.builder()
+                .code(code)
+                .discountPercent(10.0)
+                .maxRedemptions(maxRedemptions)
+                .allocatedRedemptions(0)
+                .active(true)
+                .build());
+        return code;
+    }
+}
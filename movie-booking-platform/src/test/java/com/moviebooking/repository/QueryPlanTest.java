@@ -0,0 +1,140 @@
+package com.moviebooking.repository;
+
+import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.enums.ShowStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAINs the SQL behind the hot read queries on H2 and fails if any of them scans a whole table
+ * or stops using the index declared for it, so a dropped index or a rewritten query is caught here
+ * (H2 would otherwise fall back to a foreign-key index without scanning)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.moviebooking.repository.RecordingStatementInspector")
+class QueryPlanTest {
+
+    private static final List<ShowStatus> OPEN = List.of(ShowStatus.SCHEDULED, ShowStatus.OPEN_FOR_BOOKING);
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TheatreRepository theatreRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearStatements() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void showsByMovieCityAndDateUseIndexes() {
+        showRepository.findShowsByMovieAndCityAndDate(1L, 1L, LocalDate.now(), OPEN);
+        assertUsesIndex("IDX_SHOWS_MOVIE_DATE_STATUS");
+    }
+
+    @Test
+    void showTimingsByMovieCityAndDateUseIndexes() {
+        showRepository.findShowTimingsByMovieAndCityAndDate(1L, 1L, LocalDate.now(), OPEN);
+        assertUsesIndex("IDX_SHOWS_MOVIE_DATE_STATUS");
+    }
+
+    @Test
+    void seatLockingUsesIndexes() {
+        // Driven by the seat ids, through the seat_id foreign-key index
+        showSeatRepository.findAvailableSeatsForBooking(1L, List.of(1L, 2L, 3L));
+        assertNoTableScan();
+    }
+
+    @Test
+    void startingPricesUseIndexes() {
+        showSeatRepository.countAvailableByCategory(List.of(1L, 2L));
+        assertUsesIndex("IDX_SHOW_SEATS_SHOW_STATUS");
+    }
+
+    @Test
+    void bookingsByCustomerEmailUseIndexes() {
+        bookingRepository.findByCustomerEmail("someone@example.com");
+        assertUsesIndex("IDX_BOOKINGS_CUSTOMER_EMAIL");
+    }
+
+    @Test
+    void promoCodesOfShowUseIndexes() {
+        bookingRepository.countPromoCodesForShow(1L, List.of(BookingStatus.CONFIRMED, BookingStatus.PENDING));
+        assertUsesIndex("IDX_BOOKINGS_SHOW_STATUS");
+    }
+
+    @Test
+    void theatresByCityUseIndexes() {
+        theatreRepository.findByCityIdAndActiveTrue(1L);
+        assertUsesIndex("IDX_THEATRES_CITY");
+    }
+
+    private void assertUsesIndex(String index) {
+        assertNoTableScan();
+        assertThat(RecordingStatementInspector.statements())
+                .as("a plan using %s", index)
+                .anySatisfy(sql -> assertThat(explain(sql)).containsIgnoringCase("PUBLIC." + index + ":"));
+    }
+
+    private void assertNoTableScan() {
+        List<String> statements = RecordingStatementInspector.statements();
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("plan for %s", sql).doesNotContainIgnoringCase(".tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement ps) -> {
+            bindSampleValues(ps);
+            try (var rs = ps.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /**
+     * The plan does not depend on the values, only on the parameter types H2 infers
+     */
+    private static void bindSampleValues(PreparedStatement ps) throws java.sql.SQLException {
+        ParameterMetaData parameters = ps.getParameterMetaData();
+        for (int i = 1; i <= parameters.getParameterCount(); i++) {
+            switch (parameters.getParameterType(i)) {
+                case Types.DATE -> ps.setDate(i, Date.valueOf(LocalDate.now()));
+                case Types.TIME -> ps.setTime(i, Time.valueOf("10:00:00"));
+                case Types.TIMESTAMP -> ps.setTimestamp(i, new Timestamp(System.currentTimeMillis()));
+                case Types.VARCHAR, Types.CHAR -> ps.setString(i, "1");
+                default -> ps.setLong(i, 1L);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.moviebooking.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the SQL Hibernate prepares so tests can EXPLAIN what a repository method actually runs
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public synchronized String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static synchronized void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static synchronized List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.moviebooking.resilience;
+
+import com.moviebooking.cluster.ClusterClient;
+import com.moviebooking.cluster.ClusterPeerFilter;
+import com.moviebooking.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A client is charged once per booking: on the node it called, not again on the owner the
+ * booking is forwarded to
+ */
+class RateLimitInterceptorTest {
+
+    private static final String SECRET = "s3cret";
+    private static final int BURST = 2;
+
+    private final RequestRateLimiter limiter = new RequestRateLimiter(true, 0.001, BURST, 1000, 1000, 1000, 300);
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(limiter, new ClientKeyResolver(List.of()));
+    private final ClusterPeerFilter peerFilter = new ClusterPeerFilter(SECRET);
+
+    @Test
+    void doesNotChargePeerForwardedBookings() throws Exception {
+        for (int i = 0; i < BURST * 5; i++) {
+            handle(request(SECRET));
+        }
+        assertThatCode(() -> handle(request(null))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void chargesRequestsWithSpoofedForwardHeader() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            handle(request("guess"));
+        }
+        assertThatThrownBy(() -> handle(request("guess"))).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private static MockHttpServletRequest request(String secret) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bookings");
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader(ClusterClient.FORWARDED_BY_HEADER, "node-b");
+        if (secret != null) {
+            request.addHeader(ClusterClient.PEER_SECRET_HEADER, secret);
+        }
+        return request;
+    }
+
+    private void handle(MockHttpServletRequest request) throws Exception {
+        peerFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            HttpServletRequest seen = (HttpServletRequest) req;
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(seen));
+            try {
+                interceptor.preHandle(seen, (MockHttpServletResponse) res, null);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+}
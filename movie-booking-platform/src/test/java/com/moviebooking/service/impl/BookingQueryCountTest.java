@@ -0,0 +1,75 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.BookingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * getBookingByReference loads a booking with its show, venue and seats in one fetch-joined query,
+ * so the statement count must not grow with the number of booked seats
+ *
+ * Statistics are per session factory, so the polling jobs are slowed down to keep their
+ * statements out of the count.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.journal.enabled=false",
+        "app.change-feed.poll-interval-millis=3600000",
+        "app.notifications.outbox.poll-interval-millis=3600000",
+        "app.promos.top-up-interval-millis=3600000"
+})
+class BookingQueryCountTest {
+
+    private static final Long SHOW_ID = 14L;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getBookingByReferenceIssuesSameStatementsForAnySeatCount() {
+        List<Long> available = showSeatRepository.findAvailableSeatIdsByShowId(SHOW_ID);
+        String single = book(available.subList(0, 1));
+        String many = book(available.subList(1, 11));
+
+        long singleSeatStatements = statementsFor(single, 1);
+        long manySeatStatements = statementsFor(many, 10);
+
+        assertThat(singleSeatStatements).isEqualTo(1);
+        assertThat(manySeatStatements).isEqualTo(singleSeatStatements);
+    }
+
+    private String book(List<Long> seatIds) {
+        BookTicketRequest request = BookTicketRequest.builder()
+                .showId(SHOW_ID)
+                .customerName("Query Count")
+                .customerEmail("query.count@example.com")
+                .customerPhone("9876543210")
+                .seatIds(List.copyOf(seatIds))
+                .build();
+        return bookingService.bookTickets(request).getBookingReference();
+    }
+
+    private long statementsFor(String reference, int expectedSeats) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BookingResponse booking = bookingService.getBookingByReference(reference);
+        assertThat(booking.getSeats()).hasSize(expectedSeats);
+        return statistics.getPrepareStatementCount();
+    }
+}
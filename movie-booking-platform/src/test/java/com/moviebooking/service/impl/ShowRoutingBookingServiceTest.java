@@ -0,0 +1,75 @@
+package com.moviebooking.service.impl;
+
+import com.moviebooking.dto.request.BookTicketRequest;
+import com.moviebooking.dto.response.BookingResponse;
+import com.moviebooking.enums.BookingStatus;
+import com.moviebooking.inventory.EventSourcedSeatInventory;
+import com.moviebooking.repository.ShowSeatRepository;
+import com.moviebooking.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With the event-sourced inventory on, a seat released by a cancellation can be booked again
+ * straight away, while the inventory still has it booked (it has not replayed the cancellation)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.journal.enabled=true",
+        "app.inventory.event-sourced.enabled=true",
+        "app.inventory.event-sourced.poll-interval-millis=3600000"
+})
+class ShowRoutingBookingServiceTest {
+
+    private static final Long SHOW_ID = 14L;
+
+    @TempDir
+    static Path dataDirectory;
+
+    @DynamicPropertySource
+    static void dataDirectories(DynamicPropertyRegistry registry) {
+        registry.add("app.journal.directory", () -> dataDirectory.resolve("journal").toString());
+        registry.add("app.inventory.event-sourced.snapshot-directory", () -> dataDirectory.resolve("inventory").toString());
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ShowSeatRepository showSeatRepository;
+
+    @Autowired
+    private EventSourcedSeatInventory seatInventory;
+
+    @Test
+    void rebooksCancelledSeatsImmediately() {
+        List<Long> seatIds = showSeatRepository.findAvailableSeatIdsByShowId(SHOW_ID).subList(0, 2);
+
+        String first = book(seatIds).getBookingReference();
+        seatInventory.followJournal();
+        assertThat(seatInventory.getShow(SHOW_ID).orElseThrow().isBooked(seatIds.get(0))).isTrue();
+        bookingService.cancelBooking(first);
+        BookingResponse second = book(seatIds);
+
+        assertThat(second.getStatus()).isEqualTo(BookingStatus.CONFIRMED.getDisplayName());
+        assertThat(second.getBookingReference()).isNotEqualTo(first);
+    }
+
+    private BookingResponse book(List<Long> seatIds) {
+        return bookingService.bookTickets(BookTicketRequest.builder()
+                .showId(SHOW_ID)
+                .customerName("Rebook")
+                .customerEmail("rebook@example.com")
+                .customerPhone("9876543210")
+                .seatIds(List.copyOf(seatIds))
+                .build());
+    }
+}